@@ -78,7 +78,7 @@ public class ColorimeterBlock extends HorizontalDirectionalBlock implements IBE<
             });
 
             for (FluidStack fluid : fluids) {
-                if (DestroyFluids.isMixture(fluid)) species.addAll(ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluid.getOrCreateChildTag("Mixture")).getContents(false));
+                if (DestroyFluids.isMixture(fluid)) species.addAll(ReadOnlyMixture.readSharedNBT(fluid.getOrCreateChildTag("Mixture")).getContents(false));
             };
 
             DistExecutor.unsafeRunWhenOn(Dist.CLIENT, () -> () -> openScreen(be, species));
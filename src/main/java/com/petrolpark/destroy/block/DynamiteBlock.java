@@ -5,7 +5,6 @@ import org.jetbrains.annotations.Nullable;
 import com.petrolpark.destroy.block.entity.DestroyBlockEntityTypes;
 import com.petrolpark.destroy.block.entity.DynamiteBlockEntity;
 import com.petrolpark.destroy.world.explosion.ExcavationExplosion;
-import com.petrolpark.destroy.world.explosion.SmartExplosion;
 import com.simibubi.create.foundation.block.IBE;
 
 import net.minecraft.core.BlockPos;
@@ -31,7 +30,7 @@ public class DynamiteBlock extends Block implements IBE<DynamiteBlockEntity> {
         //level.removeBlock(pos, false);
         withBlockEntityDo(serverLevel, pos, be -> {
             ExcavationExplosion excavationExplosion = new ExcavationExplosion(level, source, pos, new AABB(be.excavationAreaLowerCorner, be.excavationAreaUpperCorner));
-            SmartExplosion.explode(serverLevel, excavationExplosion);
+            ExcavationExplosion.detonate(serverLevel, excavationExplosion);
         });
     };
     
@@ -1,5 +1,6 @@
 package com.petrolpark.destroy.block.color;
 
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.IntSupplier;
 
@@ -29,6 +30,11 @@ public class SmogAffectedBlockColor implements BlockColor {
     public static final ColorResolver FOLIAGE_COLOR_RESOLVER = (b, x, z) -> b.getFoliageColor();
     public static final ColorResolver WATER_COLOR_RESOLVER = (b, x, z) -> b.getWaterColor();
 
+    /**
+     * Every Color Resolver whose tints depend on Smog, and so must be recalculated when it changes.
+     */
+    public static final List<ColorResolver> RESOLVERS = List.of(GRASS_COLOR_RESOLVER, FOLIAGE_COLOR_RESOLVER, WATER_COLOR_RESOLVER);
+
     public static final int getAverageGrassColor(BlockAndTintGetter level, BlockPos pos) {
         return level.getBlockTint(pos, GRASS_COLOR_RESOLVER);
     };
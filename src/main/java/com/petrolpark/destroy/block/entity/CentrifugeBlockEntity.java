@@ -1,12 +1,6 @@
 package com.petrolpark.destroy.block.entity;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Map.Entry;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -14,7 +8,6 @@ import java.util.stream.IntStream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
-import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.advancement.DestroyAdvancementTrigger;
 import com.petrolpark.destroy.block.CentrifugeBlock;
 import com.petrolpark.destroy.block.display.MixtureContentsDisplaySource;
@@ -22,8 +15,8 @@ import com.petrolpark.destroy.block.entity.behaviour.DestroyAdvancementBehaviour
 import com.petrolpark.destroy.block.entity.behaviour.PollutingBehaviour;
 import com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour.GeniusFluidTankBehaviour;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
-import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
-import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
+import com.petrolpark.destroy.chemistry.legacy.PhaseSeparation;
+import com.petrolpark.destroy.chemistry.legacy.PhaseSeparation.Separation;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.effect.potion.PotionSeparationRecipes;
 import com.petrolpark.destroy.fluid.DestroyFluids;
@@ -41,7 +34,6 @@ import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTank
 import com.simibubi.create.foundation.fluid.CombinedTankWrapper;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
 import com.simibubi.create.foundation.recipe.RecipeFinder;
-import com.simibubi.create.foundation.utility.Couple;
 import com.simibubi.create.foundation.utility.NBTHelper;
 import com.simibubi.create.foundation.utility.Pair;
 import com.simibubi.create.foundation.utility.VecHelper;
@@ -230,7 +222,6 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
         if (lastRecipe == null) { // If there is no Recipe
             if (DestroyFluids.isMixture(getInputTank().getFluid())) { // If there are Fluids to Centrifuge
 
-                boolean debug = false;
                 LegacyMixture mixture = LegacyMixture.readNBT(getInputTank().getFluid().getOrCreateChildTag("Mixture"));
 
                 if (mixture == null) return;
@@ -238,199 +229,10 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
                 
                 int amount = IntStream.of(new int[]{getInputTank().getFluidAmount(), getDenseOutputTank().getSpace() * 2, getLightOutputTank().getSpace() * 2}).min().getAsInt(); // Determine how much can be processed
                 if (amount == 0) return; // If either of the two output tanks can't fit anything at all, give up
-                float totalVolume = amount / 1000f;
-
-                if (debug) Destroy.LOGGER.info("Total starting volume: "+totalVolume);
-
-                Map<Pair<LegacySpecies, Boolean>, Float> phasedMoleculesRemainingMoles = new HashMap<>();
-                Map<Pair<LegacySpecies, Boolean>, Float> phasedMoleculesRemainingVolumes = new HashMap<>();
-                Map<Pair<LegacySpecies, Boolean>, Float> phasedMoleculesMolesInLightMixture = new HashMap<>();
-                Map<Pair<LegacySpecies, Boolean>, Float> phasedMoleculesMolesInDenseMixture = new HashMap<>();
-
-                Phases phases = mixture.separatePhases(totalVolume);
-                float liquidVolume = (float)(double)phases.liquidVolume();
-                float gasVolume = totalVolume - liquidVolume;
-                LegacyMixture gasMixture = phases.gasMixture();
-                gasMixture.scale(gasVolume);
-                LegacyMixture liquidMixture = phases.liquidMixture();
-
-                for (LegacySpecies molecule : liquidMixture.getContents(false)) {
-                    Pair<LegacySpecies, Boolean> phasedMolecule = Pair.of(molecule, false);
-                    float moles = liquidMixture.getConcentrationOf(molecule) * liquidVolume;
-                    phasedMoleculesRemainingVolumes.put(phasedMolecule, moles / molecule.getPureConcentration());
-                    phasedMoleculesRemainingMoles.put(phasedMolecule, moles);
-                };
-                
-                float totalGasConcentration = gasMixture.getTotalConcentration();
-                for (LegacySpecies molecule : gasMixture.getContents(false)) {
-                    Pair<LegacySpecies, Boolean> phasedMolecule = Pair.of(molecule, true);
-                    float moles = gasMixture.getConcentrationOf(molecule) * gasVolume;
-                    phasedMoleculesRemainingVolumes.put(phasedMolecule, moles / totalGasConcentration); 
-                    phasedMoleculesRemainingMoles.put(phasedMolecule, moles);
-                };
 
-                if (debug) {
-                    float sumVolume = 0f;
-                    for (float volume : phasedMoleculesRemainingVolumes.values()) sumVolume += volume;
-                    Destroy.LOGGER.info("Total volume of all Molecules: "+sumVolume);
-                };
-
-                List<Pair<LegacySpecies, Boolean>> orderedPhasedMolecules = new ArrayList<>(phasedMoleculesRemainingVolumes.keySet());
-                Collections.sort(orderedPhasedMolecules, (p1, p2) -> {
-                    LegacySpecies m1 = p1.getFirst();
-                    LegacySpecies m2 = p2.getFirst();
-                    return Float.compare(
-                        mixture.getConcentrationOf(m2) * m2.getMass() / phasedMoleculesRemainingVolumes.get(p2), // This quantity is proportional to the density of Molecule 1 in this Mixture
-                        mixture.getConcentrationOf(m1) * m1.getMass() / phasedMoleculesRemainingVolumes.get(p1)
-                    );
-                });
-
-                float volumeOfDenseMixture = 0f;
-
-                splitEachMolecule: for (Pair<LegacySpecies, Boolean> phasedMolecule : orderedPhasedMolecules) {
-                    
-                    LegacySpecies molecule = phasedMolecule.getFirst();
-                    if (!phasedMoleculesRemainingMoles.containsKey(phasedMolecule)) continue splitEachMolecule; // Don't try if this Molecule has already been removed (implying it is an ion)
-                    float moles = phasedMoleculesRemainingMoles.get(phasedMolecule);
-
-                    if (debug) {
-                        Destroy.LOGGER.info("Now splitting '"+phasedMolecule.getFirst().getFullID()+"', gas = "+phasedMolecule.getSecond());
-                        Destroy.LOGGER.info("   Moles remaining: "+moles);
-                    };
-
-                    if (molecule.getCharge() == 0) {
-
-                        float volume = phasedMoleculesRemainingVolumes.get(phasedMolecule);
-                        float volumeInDenseMixture = Math.min(volume, (totalVolume / 2f) - volumeOfDenseMixture);
-                        float propotionInDenseMixture = volumeInDenseMixture / volume;
-
-                        if (debug) {
-                            Destroy.LOGGER.info("   Total volume: "+volume);
-                            Destroy.LOGGER.info("   Volume which could fit in the dense Mixture: "+volumeInDenseMixture);
-                            Destroy.LOGGER.info("   Current volume of dense Mixture: "+volumeOfDenseMixture);
-                        };
-
-                        phasedMoleculesMolesInDenseMixture.put(phasedMolecule, moles * propotionInDenseMixture);
-                        phasedMoleculesMolesInLightMixture.put(phasedMolecule, moles * (1 - propotionInDenseMixture));
-                        volumeOfDenseMixture += volumeInDenseMixture;
-                        phasedMoleculesRemainingVolumes.replace(phasedMolecule, 0f); // All of any given neutral Molecule will be used up at once. Evens so, we don't strictly need to set this.
-                        phasedMoleculesRemainingMoles.replace(phasedMolecule, 0f);
-                    
-                    } else {
-
-                        findCounterions: while (Optional.ofNullable(phasedMoleculesRemainingVolumes.get(phasedMolecule)).orElse(0f) > 0f) {
-
-                            Pair<LegacySpecies, Boolean> phasedCounterion = getNextIon(orderedPhasedMolecules, phasedMoleculesRemainingVolumes, molecule.getCharge() < 0);
-                            LegacySpecies counterion = phasedCounterion.getFirst();
-                            if (counterion == null) {
-                                Destroy.LOGGER.error("Tried to centrifuge charge-imbalanced Mixture");
-                                break findCounterions;
-                            };
-
-                            float counterionMolesRequired = -moles * (float)counterion.getCharge() / (float)molecule.getCharge();
-                            float proportionAvailable = phasedMoleculesRemainingMoles.get(phasedCounterion) / counterionMolesRequired;
-
-                            if (debug) {
-                                Destroy.LOGGER.info("   Trying counter-ion '"+counterion.getFullID()+"', gas = "+phasedCounterion.getSecond());
-                                Destroy.LOGGER.info("       Moles of counter-ion required to fully balance: "+counterionMolesRequired);
-                                Destroy.LOGGER.info("       Molar quantity proportional to what is required: "+proportionAvailable);
-                                Destroy.LOGGER.info("       Current volume of dense Mixture: "+volumeOfDenseMixture);
-                            };
-
-                            if (proportionAvailable <= 0f) break findCounterions; // This should never happen
-                            
-                            float volumeOfMoleculeUsed;
-                            float molesOfMoleculeUsed;
-                            float volumeOfCounterionUsed;
-                            float molesOfCounterionUsed;
-                            
-                            if (proportionAvailable > 1f) { // If we have more than enough of this counterion to balance this ion, all of this Molecule gets used up
-                                volumeOfMoleculeUsed = phasedMoleculesRemainingVolumes.get(phasedMolecule);
-                                molesOfMoleculeUsed = moles;
-                                volumeOfCounterionUsed = phasedMoleculesRemainingVolumes.get(phasedCounterion) / proportionAvailable;
-                                molesOfCounterionUsed = phasedMoleculesRemainingMoles.get(phasedCounterion) / proportionAvailable;
-                            } else { // If we have just the right amount, or need more
-                                volumeOfMoleculeUsed = phasedMoleculesRemainingVolumes.get(phasedMolecule) * proportionAvailable;
-                                molesOfMoleculeUsed = moles * proportionAvailable;
-                                volumeOfCounterionUsed = phasedMoleculesRemainingVolumes.get(phasedCounterion);
-                                molesOfCounterionUsed = phasedMoleculesRemainingMoles.get(phasedCounterion);
-                            };
-
-                            if (debug) {
-                                Destroy.LOGGER.info("           Volume of Molecule which will be added: "+volumeOfMoleculeUsed);
-                                Destroy.LOGGER.info("           Moles of Molecule which will be added: "+molesOfMoleculeUsed);
-                                Destroy.LOGGER.info("           Volume of counter-ion which will be added: "+volumeOfCounterionUsed);
-                                Destroy.LOGGER.info("           Moles of counter-ion which will be added: "+molesOfCounterionUsed);
-                            };
-
-                            float combinationVolume = volumeOfMoleculeUsed + volumeOfCounterionUsed;
-                            float combinedVolumeInDenseMixture = Math.min(combinationVolume, (totalVolume / 2f) - volumeOfDenseMixture);
-                            float proportionInDenseMixture = combinedVolumeInDenseMixture / combinationVolume;
-
-                            // Add this Molecule and the counter-ion to the result Mixtures
-                            phasedMoleculesMolesInDenseMixture.put(phasedMolecule, molesOfMoleculeUsed * proportionInDenseMixture);
-                            phasedMoleculesMolesInDenseMixture.put(phasedCounterion, molesOfCounterionUsed * proportionInDenseMixture);
-                            phasedMoleculesMolesInLightMixture.put(phasedMolecule, molesOfMoleculeUsed * (1- proportionInDenseMixture));
-                            phasedMoleculesMolesInLightMixture.put(phasedCounterion, molesOfCounterionUsed * (1 - proportionInDenseMixture));
-
-                            // Decrement the remaining numbers of Molecules
-                            phasedMoleculesRemainingVolumes.compute(phasedMolecule, (pm, volume) -> {
-                                float newVolume = volume - volumeOfMoleculeUsed;
-                                return newVolume <= 1 / 256f / 256f ? null : newVolume;
-                            });
-                            phasedMoleculesRemainingVolumes.compute(phasedCounterion, (pm, volume) -> {
-                                float newVolume = volume - volumeOfCounterionUsed;
-                                return newVolume <= 1 / 256f / 256f ? null : newVolume;
-                            });
-                            phasedMoleculesRemainingMoles.compute(phasedMolecule, (pm, mol) -> {
-                                float newMol = mol - molesOfMoleculeUsed;
-                                return newMol <= 1 / 256f / 256f ? null : newMol;
-                            });
-                            phasedMoleculesRemainingMoles.compute(phasedCounterion, (pm, mol) -> {
-                                float newMol = mol - molesOfCounterionUsed;
-                                return newMol <= 1 / 256f / 256f ? null : newMol;
-                            });
-
-                            // Increment the amount of dense mixture
-                            volumeOfDenseMixture += combinedVolumeInDenseMixture;
-                        };
-                    };
-                };
-
-                LegacyMixture denseMixture = new LegacyMixture();
-                denseMixture.setTemperature(mixture.getTemperature());
-                LegacyMixture lightMixture = new LegacyMixture();
-                lightMixture.setTemperature(mixture.getTemperature());
-
-                for (Pair<LegacyMixture, Map<Pair<LegacySpecies, Boolean>, Float>> mixtureAndMap : List.of(Pair.of(denseMixture, phasedMoleculesMolesInDenseMixture), Pair.of(lightMixture, phasedMoleculesMolesInLightMixture))) {
-                    LegacyMixture resultMixture = mixtureAndMap.getFirst();
-                    Map<Pair<LegacySpecies, Boolean>, Float> map = mixtureAndMap.getSecond();
-                    Map<LegacySpecies, Couple<Float>> moleculeStates = new HashMap<>(map.size()); // Couple is of the form <gas moles, liquid moles>
-                    
-                    // Determine the number of moles of gas and the number of moles of liquid for each Molecule
-                    for (Entry<Pair<LegacySpecies, Boolean>, Float> entry : map.entrySet()) {
-                        Pair<LegacySpecies, Boolean> phasedMolecule = entry.getKey();
-                        moleculeStates.compute(phasedMolecule.getFirst(), (molecule, couple) -> {
-                            if (couple == null) couple = Couple.create(0f, 0f);
-                            couple.set(phasedMolecule.getSecond(), entry.getValue());
-                            return couple;
-                        });
-                    };
-
-                    // Add each Molecule to its result Mixture
-                    addMoleculesToMixture: for (Entry<LegacySpecies, Couple<Float>> entry : moleculeStates.entrySet()) {
-                        Couple<Float> moles = entry.getValue();
-                        LegacySpecies molecule = entry.getKey();
-                        float totalMoles = moles.getFirst() + moles.getSecond();
-                        if (totalMoles <= 0f) continue addMoleculesToMixture;
-                        if (debug) {
-                            Destroy.LOGGER.info("Adding Molecule '"+molecule.getFullID()+"' to " +(resultMixture == denseMixture ? "dense" : "light")+" Mixture");
-                            Destroy.LOGGER.info("   Total moles: "+totalMoles);
-                        };
-                        resultMixture.addMolecule(molecule, 2f * totalMoles / totalVolume);
-                        resultMixture.setState(molecule, moles.getFirst() / totalMoles);
-                    };
-                };
+                Separation separation = PhaseSeparation.centrifuge(mixture, amount / 1000f);
+                LegacyMixture denseMixture = separation.denseMixture();
+                LegacyMixture lightMixture = separation.lightMixture();
 
                 // If we've got to this point, the Fluid can be succesfully processed
                 getInputTank().drain(amount, FluidAction.EXECUTE);
@@ -450,14 +252,6 @@ public class CentrifugeBlockEntity extends KineticBlockEntity implements IDirect
         notifyUpdate();
     };
 
-    private static Pair<LegacySpecies, Boolean> getNextIon(List<Pair<LegacySpecies, Boolean>> list, Map<Pair<LegacySpecies, Boolean>, Float> map, boolean cation) {
-        for (Pair<LegacySpecies, Boolean> pair : list) {
-            int charge = pair.getFirst().getCharge();
-            if (charge != 0 && charge > 0 == cation && map.containsKey(pair) && map.get(pair) > 0f) return pair;
-        };
-        return Pair.of(null, null);
-    };
-
     @SuppressWarnings("null")
     public void spawnParticles() {
         FluidStack fluidStack = inputTank.getPrimaryHandler().getFluid();
@@ -110,7 +110,7 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
             redstoneMonitor.quantityObserved = Optional.of(() -> {
                 FluidStack mixtureStack = (observingGas ? vat.get().getGasTankContents() : vat.get().getLiquidTankContents());
                 if (DestroyFluids.isMixture(mixtureStack)) {
-                    ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, mixtureStack.getOrCreateChildTag("Mixture"));
+                    ReadOnlyMixture mixture = ReadOnlyMixture.readSharedNBT(mixtureStack.getOrCreateChildTag("Mixture"));
                     return mixture.getConcentrationOf(molecule);
                 };
                 return 0f;
@@ -137,7 +137,7 @@ public class ColorimeterBlockEntity extends SmartBlockEntity {
             return Collections.singletonList(
                 Lang.builder()
                     .add(context.sourceConfig().getBoolean("ShowSpeciesName") ? cbe.molecule.getName(!context.sourceConfig().getBoolean("MoleculeNameType")).copy().append(" ") : Component.literal(""))
-                    .add(DestroyLang.quantity(ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluid.getOrCreateChildTag("Mixture")).getConcentrationOf(cbe.molecule), false, df))
+                    .add(DestroyLang.quantity(ReadOnlyMixture.readSharedNBT(fluid.getOrCreateChildTag("Mixture")).getConcentrationOf(cbe.molecule), false, df))
                     .component() 
             );
         };
@@ -91,7 +91,7 @@ public class CoolerBlockEntity extends SmartBlockEntity implements IHaveGoggleIn
         if (DestroyFluids.isMixture(fluidStack)) {
 
             int amount = fluidStack.getAmount();
-            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidStack.getOrCreateChildTag("Mixture"));
+            ReadOnlyMixture mixture = ReadOnlyMixture.readSharedNBT(fluidStack.getOrCreateChildTag("Mixture"));
 
             float totalMolesPerBucket = 0f;
             float totalRefrigerantMolesPerBucket = 0f;
@@ -22,12 +22,16 @@ import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
 import com.petrolpark.destroy.client.particle.data.BoilingFluidBubbleParticleData;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.config.DestroyBlocksConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.VatStateS2CPacket;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.MixtureConversionRecipe;
 import com.petrolpark.destroy.util.DestroyLang;
@@ -51,6 +55,8 @@ import com.simibubi.create.foundation.utility.Pair;
 import com.simibubi.create.foundation.utility.animation.LerpedFloat;
 import com.simibubi.create.foundation.utility.animation.LerpedFloat.Chaser;
 
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
 import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction.Axis;
@@ -87,6 +93,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     /**
      * Server-side only storage of the Mixture so it doesn't have to be de/serialized every tick.
      * This Mixture belongs to an imaginary Fluid Stack with a size equal to the capacity of the Vat.
+     * This is the authority on what is in the Vat - the Fluid Stacks in the tanks are only {@link VatControllerBlockEntity#updateFluidMixture updated} from it when needed.
      */
     protected LegacyMixture cachedMixture;
     /**
@@ -107,6 +114,28 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     protected boolean cachedMixtureBoiling = false;
     protected boolean cachedMixtureReacting = false;
 
+    /*
+     * Server-side record of what was last sent to clients in a Vat State Packet, so only things which have changed get sent
+     */
+    protected int ticksUntilClientSync;
+    protected float syncedPressure;
+    protected float syncedTemperature;
+    protected float syncedFluidLevel;
+    protected boolean syncedBoiling;
+    protected boolean syncedReacting;
+    /**
+     * The concentrations in the cached Mixture when the whole Block Entity was last sent to clients.
+     */
+    protected Reference2FloatMap<LegacySpecies> syncedConcentrations = new Reference2FloatOpenHashMap<>();
+    /**
+     * Whether the tanks or Inventory have been changed by something other than this Vat, so the whole Block Entity needs sending to clients.
+     */
+    protected boolean fullSyncPending;
+    /**
+     * Whether this Vat is taking Items out of its own Inventory and putting them back, which doesn't need sending to clients unless the Items end up different.
+     */
+    protected boolean movingItems;
+
     protected VatFluidTankBehaviour tankBehaviour;
     protected LazyOptional<IFluidHandler> fluidCapability;
     protected BlockPos openVentPos;
@@ -192,7 +221,10 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             if (getVatOptional().isEmpty()) return;
             boolean shouldUpdateFluidMixture = false;
             Vat vat = getVatOptional().get();
-            if (tankBehaviour.isEmpty()) return;
+            if (tankBehaviour.isEmpty()) {
+                sendChangesToClients();
+                return;
+            };
             double fluidAmount = getCapacity() / Constants.MILLIBUCKETS_PER_LITER; // Converts getFluidAmount() in mB to liters
 
             int cyclesPerTick = getSimulationLevel();
@@ -212,10 +244,13 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
             // Take all Items out of the Inventory
             List<ItemStack> availableItemStacks = new ArrayList<>();
+            List<ItemStack> itemStacksBefore = new ArrayList<>(inventory.getSlots());
             for (int slot = 0; slot < inventory.getSlots(); slot++) {
                 ItemStack stack = inventory.getStackInSlot(slot);
+                itemStacksBefore.add(stack.copy());
                 if (!stack.isEmpty()) availableItemStacks.add(stack.copy());
             };
+            movingItems = true;
 
             ReactionContext context = new ReactionContext(availableItemStacks, UVPower, false);
 
@@ -228,7 +263,7 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
                 // React
                 context = new ReactionContext(availableItemStacks, UVPower, false); // Update the context
-                cachedMixture.reactForTick(context, getSimulationLevel());
+                cachedMixture.reactForTick(context, getSimulationLevel(), DestroyAllConfigs.SERVER.blocks.vatIntegrationMode.get());
                 shouldUpdateFluidMixture = true;
 
                 if (!cachedMixture.isAtEquilibrium()) advancementBehaviour.awardDestroyAdvancement(DestroyAdvancementTrigger.USE_VAT);
@@ -238,13 +273,21 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             for (ItemStack itemStack : availableItemStacks) {
                 ItemHandlerHelper.insertItemStacked(inventory, itemStack, false);
             };
+            movingItems = false;
+            for (int slot = 0; slot < inventory.getSlots(); slot++) {
+                if (!ItemStack.matches(itemStacksBefore.get(slot), inventory.getStackInSlot(slot))) { // Only tell clients if some Items actually dissolved
+                    fullSyncPending = true;
+                    break;
+                };
+            };
 
             if (shouldUpdateFluidMixture) {
                 // Enact Reaction Results
                 cachedMixture.getCompletedResults(fluidAmount).entrySet().forEach(entry -> {
                     for (int i = 0; i < entry.getValue(); i++) entry.getKey().onVatReaction(getLevel(), this);
                 });
-                updateFluidMixture();
+                tankBehaviour.setMixtureLazily(cachedMixture, vat.getCapacity()); //TODO swap Fluid to not use entire vat capacity
+                setChanged();
             };
 
             // Releasing gas if there is an open vent
@@ -257,8 +300,80 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
             // Check for Explosion
             if (DestroyAllConfigs.SERVER.blocks.vatExplodesAtHighPressure.get() && Math.abs(getPercentagePressure()) >= 1f) explode();
 
+            sendChangesToClients();
+        };
+    };
+
+    /**
+     * Tell clients about any noticeable changes in pressure, temperature, fluid level and whether anything is boiling or reacting.
+     * Clients get the whole Block Entity when they start watching it, so after that only what has changed is sent,
+     * at most once every {@link DestroyBlocksConfigs#vatSyncInterval few ticks}. The whole Block Entity is only sent again if
+     * the tanks or Inventory are {@link VatControllerBlockEntity#notifyUpdate changed} from outside, or the concentration of
+     * any Molecule has changed by more than {@link DestroyBlocksConfigs#vatSyncConcentrationThreshold a little} since it was last sent.
+     */
+    @SuppressWarnings("null")
+    protected void sendChangesToClients() {
+        if (--ticksUntilClientSync > 0 || getVatOptional().isEmpty()) return;
+        DestroyBlocksConfigs config = DestroyAllConfigs.SERVER.blocks;
+
+        float pressure = getPressure();
+        float temperature = getTemperature();
+        float fluidLevel = cachedMixture == null ? 0f : (float)(cachedMixture.getLiquidVolume(getCapacity()) / getCapacity());
+        boolean boiling = cachedMixture != null && cachedMixture.isBoiling();
+        boolean reacting = cachedMixture != null && !cachedMixture.isAtEquilibrium();
+
+        if (fullSyncPending || hasCompositionChanged(config.vatSyncConcentrationThreshold.getF())) {
+            updateFluidMixture(); // The tanks are sent, so make sure they are up to date
+            fullSyncPending = false;
+            syncedConcentrations.clear();
+            if (cachedMixture != null) cachedMixture.getContents(false).forEach(molecule -> syncedConcentrations.put(molecule, cachedMixture.getConcentrationOf(molecule)));
+            syncedPressure = pressure; // The whole Block Entity includes everything in a Vat State Packet too
+            syncedTemperature = temperature;
+            syncedFluidLevel = fluidLevel;
+            syncedBoiling = boiling;
+            syncedReacting = reacting;
+            ticksUntilClientSync = config.vatSyncInterval.get();
             sendData();
+            return;
+        };
+
+        byte changes = 0;
+        if (Math.abs(pressure - syncedPressure) > config.vatSyncPressureThreshold.getF()) {
+            changes |= VatStateS2CPacket.PRESSURE;
+            syncedPressure = pressure;
+        };
+        if (Math.abs(temperature - syncedTemperature) > config.vatSyncTemperatureThreshold.getF()) {
+            changes |= VatStateS2CPacket.TEMPERATURE;
+            syncedTemperature = temperature;
+        };
+        if (Math.abs(fluidLevel - syncedFluidLevel) > config.vatSyncFluidLevelThreshold.getF()) {
+            changes |= VatStateS2CPacket.FLUID_LEVEL;
+            syncedFluidLevel = fluidLevel;
+        };
+        if (boiling != syncedBoiling || reacting != syncedReacting) {
+            changes |= VatStateS2CPacket.FLAGS;
+            syncedBoiling = boiling;
+            syncedReacting = reacting;
+        };
+        if (changes == 0) return; // Check again next tick
+
+        ticksUntilClientSync = config.vatSyncInterval.get();
+        DestroyMessages.sendToClientsTrackingChunk(new VatStateS2CPacket(getBlockPos(), changes, pressure, temperature, fluidLevel, boiling, reacting), getLevel().getChunkAt(getBlockPos())); // It thinks getLevel() might be null (it's not)
+    };
+
+    /**
+     * Whether the concentration of any Molecule in the cached Mixture differs by more than the given amount from when the whole Block Entity was last sent to clients.
+     * @param threshold (in mol/L)
+     */
+    protected boolean hasCompositionChanged(float threshold) {
+        if (cachedMixture == null) return false;
+        for (LegacySpecies molecule : cachedMixture.getContents(false)) {
+            if (Math.abs(cachedMixture.getConcentrationOf(molecule) - syncedConcentrations.getFloat(molecule)) > threshold) return true;
+        };
+        for (Reference2FloatMap.Entry<LegacySpecies> entry : syncedConcentrations.reference2FloatEntrySet()) {
+            if (Math.abs(cachedMixture.getConcentrationOf(entry.getKey()) - entry.getFloatValue()) > threshold) return true; // Molecules which have been used up
         };
+        return false;
     };
 
     public void explode() {
@@ -299,10 +414,9 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
         // Mixture
         if (clientPacket) {
-            pressure.chase(tag.getFloat("Pressure"), 0.125f, Chaser.EXP);
-            temperature.chase(tag.getFloat("Temperature"), 0.125f, Chaser.EXP);
-            cachedMixtureBoiling = tag.getBoolean("AnythingBoiling");
-            cachedMixtureReacting = tag.getBoolean("AnythingReacting");
+            chasePressure(tag.getFloat("Pressure"));
+            chaseTemperature(tag.getFloat("Temperature"));
+            setClientFlags(tag.getBoolean("AnythingBoiling"), tag.getBoolean("AnythingReacting"));
         } else {
             if (tag.contains("VentPos", Tag.TAG_COMPOUND)) openVentPos = NbtUtils.readBlockPos(tag.getCompound("VentPos"));
             updateCachedMixture();
@@ -340,10 +454,25 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     };
 
     private void onFluidStackChanged() {
-        if (!vat.isPresent()) return;
+        if (!vat.isPresent() || tankBehaviour.isWritingPendingMixture()) return; // Writing the cached Mixture into the tanks doesn't change what is in the Vat
         notifyUpdate();
     };
 
+    /**
+     * Once there is a Vat, changes to its tanks and Inventory are sent to clients with the next {@link VatControllerBlockEntity#sendChangesToClients Vat State update}
+     * rather than straight away, so that many changes in one tick (or a few ticks) only get sent once.
+     */
+    @Override
+    @SuppressWarnings("null")
+    public void notifyUpdate() {
+        if (!hasLevel() || getLevel().isClientSide() || vat.isEmpty()) { // It thinks getLevel() might be null (it's not)
+            super.notifyUpdate();
+            return;
+        };
+        setChanged();
+        if (!movingItems) fullSyncPending = true;
+    };
+
     public Optional<Vat> getVatOptional() {
         return vat;
     };
@@ -389,14 +518,12 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
     };
 
     /**
-     * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture.
+     * Set the Mixture stored in the NBT of the contained Fluids to the cached Mixture, if it has changed since they were last set.
+     * This happens anyway whenever the tanks are accessed or saved, so only needs calling before the tanks are sent to clients.
      * @see VatControllerBlockEntity#updateCachedMixture Doing the opposite
      */
     private void updateFluidMixture() {
-        if (getVatOptional().isEmpty()) return;
-        tankBehaviour.setMixture(cachedMixture, vat.get().getCapacity()); //TODO swap Fluid to not use entire vat capacity
-        updateGasVolume();
-        sendData();
+        tankBehaviour.writePendingMixture();
     };
 
     /**
@@ -603,6 +730,27 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
         return tankBehaviour.getCombinedReadOnlyMixture();
     };
 
+    public void chasePressure(float pressure) {
+        this.pressure.chase(pressure, 0.125f, Chaser.EXP);
+    };
+
+    public void chaseTemperature(float temperature) {
+        this.temperature.chase(temperature, 0.125f, Chaser.EXP);
+    };
+
+    /**
+     * Set the client-side fluid level without having been sent the Fluid itself.
+     * @param fluidLevel The proportion of the Vat filled with liquid
+     */
+    public void chaseFluidLevel(float fluidLevel) {
+        tankBehaviour.getLiquidTank().getFluidLevel().chase(fluidLevel, 0.25f, Chaser.EXP);
+    };
+
+    public void setClientFlags(boolean boiling, boolean reacting) {
+        cachedMixtureBoiling = boiling;
+        cachedMixtureReacting = reacting;
+    };
+
     public float getClientTemperature(float partialTicks) {
         return temperature.getValue(partialTicks);
     };
@@ -629,15 +777,20 @@ public class VatControllerBlockEntity extends SmartBlockEntity implements IHaveL
 
     /**
      * Get the pressure above room pressure of the gas in this Vat (in Pa).
+     * This is worked out from the cached Mixture, so is up to date even if it has not yet been {@link VatControllerBlockEntity#updateFluidMixture written} into the tanks.
      */
     @SuppressWarnings("null")
     public float getPressure() {
         if (getLevel().isClientSide()) return pressure.getChaseTarget(); // It thinks getLevel() might be null (it's not)
-        if (!getVatOptional().isPresent()) return 0f;
-        if (getGasTank().isEmpty()) {
-            return getLiquidTank().getFluidAmount() == getLiquidTank().getCapacity() ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
+        if (!getVatOptional().isPresent() || cachedMixture == null) return 0f;
+        int capacity = getCapacity();
+        double gasMoles = cachedMixture.getGasMoles(capacity);
+        double liquidVolume = cachedMixture.getLiquidVolume(capacity);
+        if (gasMoles <= 0d) {
+            return liquidVolume >= capacity ? 0f : AIR_PRESSURE; // Return 0 for a vacuum, and normal air pressure for a full Vat
         };
-        return LegacyReaction.GAS_CONSTANT * 1000f * getTemperature() * ReadOnlyMixture.readNBT(ReadOnlyMixture::new, getGasTank().getFluid().getOrCreateChildTag("Mixture")).getTotalConcentration() - AIR_PRESSURE;
+        double gasVolume = Math.max(capacity - liquidVolume, 1d); // The gas always gets at least 1mB, even if the liquid would fill the Vat
+        return LegacyReaction.GAS_CONSTANT * 1000f * getTemperature() * (float)(gasMoles / gasVolume) - AIR_PRESSURE;
     };
 
     /**
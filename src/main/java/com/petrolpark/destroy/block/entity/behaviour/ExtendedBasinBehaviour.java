@@ -3,8 +3,11 @@ package com.petrolpark.destroy.block.entity.behaviour;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
 import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.PendingBasinReaction;
 import com.petrolpark.destroy.util.PollutionHelper;
 import com.simibubi.create.content.kinetics.mixer.MechanicalMixerBlockEntity;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
@@ -27,6 +30,10 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
     public boolean tooFullToReact;
     private Map<ReactionResult, Integer> reactionResults;
     public FluidStack evaporatedFluid;
+    /**
+     * The Reaction of the contents of this Basin being worked out on another thread, or {@code null} if there is none.
+     */
+    private PendingBasinReaction pendingReaction;
 
     public ExtendedBasinBehaviour(SmartBlockEntity be) {
         super(be);
@@ -39,12 +46,33 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
         this.reactionResults = results;
     };
 
+    @Nullable
+    public PendingBasinReaction getPendingReaction() {
+        return pendingReaction;
+    };
+
+    /**
+     * Set the Reaction being worked out for this Basin, cancelling any other.
+     * @param reaction {@code null} if there is no longer one
+     */
+    public void setPendingReaction(@Nullable PendingBasinReaction reaction) {
+        if (pendingReaction != null && pendingReaction != reaction) pendingReaction.cancel();
+        pendingReaction = reaction;
+    };
+
     @Override
     @SuppressWarnings("null")
     public void tick() {
         if (!blockEntity.hasLevel()) return;
         if (!(blockEntity instanceof BasinBlockEntity basin) || basin.getLevel().isClientSide()) return; // It thinks getLevel() might be null (it's not)
 
+        // Once a Reaction worked out on another thread is done, get the Mixer to look for Recipes again
+        if (pendingReaction != null && pendingReaction.isDone()) {
+            pendingReaction.complete();
+            pendingReaction = null;
+            basin.notifyChangeOfContents();
+        };
+
         BlockEntity potentialOperator = getWorld().getBlockEntity(getPos().above(2));
         if (potentialOperator instanceof MechanicalMixerBlockEntity mixer) {
             if (mixer.processingTicks == 1) enactReactionResults(basin);
@@ -69,6 +97,7 @@ public class ExtendedBasinBehaviour extends BlockEntityBehaviour {
 	 * Block destroyed or removed. Requires block to call ITE::onRemove
 	 */
 	public void destroy() {
+        setPendingReaction(null);
         if (!evaporatedFluid.isEmpty() && blockEntity.getLevel() instanceof ServerLevel serverLevel) {
             PollutionHelper.pollute(serverLevel, blockEntity.getBlockPos(), evaporatedFluid);
             evaporatedFluid = FluidStack.EMPTY;
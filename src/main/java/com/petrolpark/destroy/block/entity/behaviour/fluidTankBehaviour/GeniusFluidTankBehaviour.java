@@ -1,16 +1,15 @@
 package com.petrolpark.destroy.block.entity.behaviour.fluidTankBehaviour;
 
-import java.util.Map;
 import java.util.function.Consumer;
 
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.fluid.DestroyFluids;
-import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.simibubi.create.foundation.blockEntity.SmartBlockEntity;
 import com.simibubi.create.foundation.blockEntity.behaviour.BehaviourType;
 import com.simibubi.create.foundation.blockEntity.behaviour.fluid.SmartFluidTankBehaviour;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
 
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
@@ -72,15 +71,16 @@ public class GeniusFluidTankBehaviour extends SmartFluidTankBehaviour {
             if (filled == 0 && getSpace() > 0) { // If we wouldn't usually be able to insert, and we're not full (i.e. the Fluids are 'different')
                 if (!DestroyFluids.isMixture(resource) || !DestroyFluids.isMixture(fluid)) return 0;
                 if (!resource.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND) || !fluid.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return 0;
-                LegacyMixture existingMixture = LegacyMixture.readNBT(fluid.getOrCreateTag().getCompound("Mixture"));
-                LegacyMixture addedMixture = LegacyMixture.readNBT(resource.getOrCreateTag().getCompound("Mixture"));
 
                 int amountOfMixtureAdded = Math.min(getSpace(), resource.getAmount());
+                if (action.simulate()) return amountOfMixtureAdded; // We don't need to look at the Mixtures at all if we're just simulating
+
+                // Merge the Mixture tags directly rather than reading both and mixing them into a Mixture in which Reactions can happen
                 int existingAmount = fluid.getAmount();
-                if (!action.simulate()) { // We don't need to do anything further if we're just simulating
-                    LegacyMixture newMixture = LegacyMixture.mix(Map.of(existingMixture, (double)existingAmount / 1000d, addedMixture, (double)amountOfMixtureAdded / 1000d));
-                    setFluid(MixtureFluid.of(existingAmount + amountOfMixtureAdded, newMixture));
-                };
+                CompoundTag newMixtureTag = LegacyMixture.mixNBT(fluid.getOrCreateTag().getCompound("Mixture"), (double)existingAmount / 1000d, resource.getOrCreateTag().getCompound("Mixture"), (double)amountOfMixtureAdded / 1000d);
+                FluidStack newFluid = new FluidStack(DestroyFluids.MIXTURE.getSource(), existingAmount + amountOfMixtureAdded);
+                newFluid.getOrCreateTag().put("Mixture", newMixtureTag);
+                setFluid(newFluid);
 
                 return amountOfMixtureAdded; 
             };
@@ -27,6 +27,18 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
     protected boolean liquidFull;
     protected int vatCapacity;
 
+    /**
+     * The Mixture in the Vat which has not yet been written into the Fluid Stacks of the tanks, or {@code null} if they are up to date.
+     * The {@link VatControllerBlockEntity Vat Controller}'s cached Mixture is what actually gets reacted, so rather than serializing it and
+     * separating its phases every tick, it is only {@link VatFluidTankBehaviour#writePendingMixture written} when something looks at the tanks.
+     */
+    protected LegacyMixture pendingMixture;
+    protected int pendingAmount;
+    /**
+     * Whether the {@link VatFluidTankBehaviour#pendingMixture pending Mixture} is being written into the tanks right now.
+     */
+    protected boolean writingPendingMixture;
+
     public VatFluidTankBehaviour(VatControllerBlockEntity be, int vatCapacity) {
         super(SmartFluidTankBehaviour.TYPE, be, 2, vatCapacity, false);
 
@@ -71,6 +83,12 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         return liquidFull;
     };
 
+    @Override
+    public boolean isEmpty() {
+        if (pendingMixture != null && !pendingMixture.isEmpty()) return false; // No need to write the Mixture just to check this
+        return super.isEmpty();
+    };
+
     /**
      * Get the Mixture with the {@link VatFluidTankBehaviour#vatCapacity volume of the whole Vat},
      * containing the same number of moles of all Molecules present in both the {@link VatFluidTankBehaviour#getLiquidHandler liquid}
@@ -104,14 +122,14 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
 
         FluidStack liquidStack = getLiquidHandler().getFluid();
         if (!liquidStack.isEmpty()) {
-            ReadOnlyMixture liquidMixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, liquidStack.getOrCreateChildTag("Mixture"));
+            ReadOnlyMixture liquidMixture = ReadOnlyMixture.readSharedNBT(liquidStack.getOrCreateChildTag("Mixture"));
             liquidMixture.getContents(false).forEach(molecule -> moleculesAndMoles.merge(molecule, liquidMixture.getConcentrationOf(molecule) * liquidStack.getAmount(), (f1, f2) -> f1 + f2));
             totalVolume += liquidStack.getAmount();  
         };
 
         FluidStack gasStack = getGasHandler().getFluid();
         if (!gasStack.isEmpty()) {
-            ReadOnlyMixture gasMixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, gasStack.getOrCreateChildTag("Mixture"));
+            ReadOnlyMixture gasMixture = ReadOnlyMixture.readSharedNBT(gasStack.getOrCreateChildTag("Mixture"));
             gasMixture.getContents(false).forEach(molecule -> moleculesAndMoles.merge(molecule, gasMixture.getConcentrationOf(molecule) * gasStack.getAmount(), (f1, f2) -> f1 + f2));
             totalVolume += gasStack.getAmount();
         };
@@ -124,6 +142,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
     };
 
     public void setMixture(LegacyMixture mixture, int amount) {
+        pendingMixture = null;
         capability.ifPresent(fluidHandler -> {
             fluidHandler.drain(vatCapacity, FluidAction.EXECUTE);
             liquidFull = false;
@@ -131,6 +150,47 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
         });
     };
 
+    /**
+     * Set the Mixture in the Vat without writing it into the tanks yet. It is written the next time either tank is accessed or
+     * this Behaviour is saved, or when {@link VatFluidTankBehaviour#writePendingMixture} is called. Any changes made to the Mixture
+     * in the meantime are included.
+     * @param mixture This will be {@link LegacyMixture#writeNBT serialized} later, not now
+     * @param amount The total amount (in mB) of Fluid the Mixture represents
+     */
+    public void setMixtureLazily(LegacyMixture mixture, int amount) {
+        pendingMixture = mixture;
+        pendingAmount = amount;
+    };
+
+    /**
+     * Whether there is a {@link VatFluidTankBehaviour#setMixtureLazily Mixture} which has not yet been written into the tanks.
+     */
+    public boolean hasPendingMixture() {
+        return pendingMixture != null;
+    };
+
+    /**
+     * Write the {@link VatFluidTankBehaviour#setMixtureLazily pending Mixture} (if there is one) into the tanks, separating it into liquid and gas.
+     */
+    public void writePendingMixture() {
+        if (pendingMixture == null) return;
+        writingPendingMixture = true;
+        try {
+            setMixture(pendingMixture, pendingAmount); // This clears the pending Mixture before touching the tanks, so they won't try to write it again
+            updateGasVolume();
+        } finally {
+            writingPendingMixture = false;
+        };
+    };
+
+    /**
+     * Whether the tanks are changing only because the {@link VatFluidTankBehaviour#setMixtureLazily pending Mixture} is being written into them,
+     * rather than because anything has been added to or taken out of the Vat.
+     */
+    public boolean isWritingPendingMixture() {
+        return writingPendingMixture;
+    };
+
     /**
      * Replace all the gas in the gas tank with room temperature and pressure air.
      * @return The gas that was previously stored
@@ -144,6 +204,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
 
     @Override
 	public void write(CompoundTag nbt, boolean clientPacket) {
+        if (!clientPacket) writePendingMixture(); // Client packets are allowed to be slightly out of date, saves are not
 		super.write(nbt, clientPacket);
         if (clientPacket) return;
 		nbt.putBoolean("Full", liquidFull);
@@ -254,6 +315,36 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
                 return isEmpty() || flushed;
             };
 
+            @Override
+            public FluidStack getFluid() {
+                writePendingMixture();
+                return super.getFluid();
+            };
+
+            @Override
+            public int getFluidAmount() {
+                writePendingMixture();
+                return super.getFluidAmount();
+            };
+
+            @Override
+            public boolean isEmpty() {
+                writePendingMixture();
+                return super.isEmpty();
+            };
+
+            @Override
+            public int getSpace() {
+                writePendingMixture();
+                return super.getSpace();
+            };
+
+            @Override
+            public int fill(FluidStack resource, FluidAction action) {
+                writePendingMixture();
+                return super.fill(resource, action);
+            };
+
             @Override
             public boolean isFluidValid(int tank, FluidStack stack) {
                 return DestroyFluids.isMixture(stack);
@@ -268,6 +359,7 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
 
             @Override
             public void setFluid(FluidStack stack) {
+                writePendingMixture();
                 super.setFluid(stack);
                 flushed = false;
                 if (stack.getAmount() < getCapacity() && !isForGas) liquidFull = false;
@@ -275,8 +367,15 @@ public class VatFluidTankBehaviour extends GeniusFluidTankBehaviour {
 
             @Override
             public FluidStack drain(int maxDrain, FluidAction action) {
+                writePendingMixture();
                 return super.drain(maxDrain, action);
             };
+
+            @Override
+            public FluidStack drain(FluidStack resource, FluidAction action) {
+                writePendingMixture();
+                return super.drain(resource, action);
+            };
         };
     };
 
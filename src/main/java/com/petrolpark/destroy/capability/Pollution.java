@@ -159,10 +159,71 @@ public class Pollution {
 
         private int smogLevelSinceLastRerender;
 
+        /**
+         * Each bit is set if the {@link PollutionType} with that ordinal has changed since the last time clients were told.
+         */
+        private int changedTypes;
+
+        /**
+         * The levels of Pollution clients were last told about.
+         */
+        private EnumMap<PollutionType, Integer> syncedLevels;
 
         public Chunk() {
             super(true);
             smogLevelSinceLastRerender = levels.get(PollutionType.SMOG);
+            changedTypes = 0;
+            syncedLevels = new EnumMap<>(levels);
+        };
+
+        @Override
+        public int set(PollutionType pollutionType, int value) {
+            if (pollutionType == null) return 0;
+            int oldValue = get(pollutionType);
+            int newValue = super.set(pollutionType, value);
+            if (newValue != oldValue) changedTypes |= 1 << pollutionType.ordinal();
+            return newValue;
+        };
+
+        /**
+         * Set the value of the given type of Pollution without {@link Chunk#getChangedTypes marking it as changed}, for changes too small to be worth telling clients about.
+         * @see Chunk#markChanged
+         */
+        public int setWithoutMarking(PollutionType pollutionType, int value) {
+            return super.set(pollutionType, value);
+        };
+
+        public void markChanged(PollutionType pollutionType) {
+            changedTypes |= 1 << pollutionType.ordinal();
+        };
+
+        /**
+         * The {@link PollutionType Pollution Types} which have changed since {@link Chunk#clearChangedTypes} was last called, as a bit mask of their ordinals.
+         */
+        public int getChangedTypes() {
+            return changedTypes;
+        };
+
+        /**
+         * Record that clients have been told about every changed {@link PollutionType}.
+         */
+        public void clearChangedTypes() {
+            for (PollutionType pollutionType : levels.keySet()) if ((changedTypes & 1 << pollutionType.ordinal()) != 0) syncedLevels.put(pollutionType, levels.get(pollutionType));
+            changedTypes = 0;
+        };
+
+        /**
+         * The value of the given type of Pollution which clients were last {@link Chunk#clearChangedTypes told} about.
+         */
+        public int getSynced(PollutionType pollutionType) {
+            checkLocal(pollutionType);
+            return syncedLevels.get(pollutionType);
+        };
+
+        @Override
+        public void loadNBTData(CompoundTag tag) {
+            super.loadNBTData(tag);
+            syncedLevels = new EnumMap<>(levels); // Players are sent everything when they start watching a Chunk anyway
         };
 
         public boolean checkRerender() {
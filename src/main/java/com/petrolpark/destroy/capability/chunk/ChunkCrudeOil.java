@@ -3,6 +3,8 @@ package com.petrolpark.destroy.capability.chunk;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.item.SeismographItem;
 
@@ -28,6 +30,20 @@ public class ChunkCrudeOil {
     private boolean generated = false; // Whether the amount of Crude Oil in this Chunk has already been determined
     private int amount; // Amount of Crude Oil in the Chunk in mB
 
+    /**
+     * The noise from which oil is generated, for each level seed. Creating this is quite slow, so it is only done once per seed.
+     */
+    private static final Cache<Long, PerlinNoise> NOISES = CacheBuilder.newBuilder()
+        .maximumSize(4)
+        .build();
+
+    /**
+     * Which chunks have oil and which are red herrings, and so which signals are shown, for each seismograph map.
+     */
+    private static final Cache<SeismicMapKey, SeismicMap> SEISMIC_MAPS = CacheBuilder.newBuilder()
+        .maximumSize(256)
+        .build();
+
     /**
      * Get the amount of oil generated in this chunk. This does not account for if oil has been pumped out.
      * @param level
@@ -35,14 +51,37 @@ public class ChunkCrudeOil {
      * @param chunkZ
      */
     public static int getTheoreticalOil(ServerLevel level, int chunkX, int chunkZ) {
-        // Get the seeded randomizer for this level
-        RandomSource random = RandomSource.create(level.getSeed() ^ SALT);
+        return getTheoreticalOil(level.getSeed(), chunkX, chunkZ);
+    };
+
+    /**
+     * Get the amount of oil generated in this chunk in a level with the given seed.
+     * @param seed
+     * @param chunkX
+     * @param chunkZ
+     * @see ChunkCrudeOil#getTheoreticalOil(ServerLevel, int, int)
+     */
+    public static int getTheoreticalOil(long seed, int chunkX, int chunkZ) {
         // Generate the noise value for this Chunk
-        double value = (PerlinNoise.create(random, -2, 1d).getValue(chunkX * 1.5d, chunkZ * 1.5d, 0));
+        double value = (getNoise(seed).getValue(chunkX * 1.5d, chunkZ * 1.5d, 0));
         // Don't generate any oil if the value is less than a threshold
         return value < 0.3d ? 0 : (int)(value * 100000d);
     };
 
+    /**
+     * Get the noise from which oil is generated in levels with the given seed.
+     * @param seed
+     */
+    public static PerlinNoise getNoise(long seed) {
+        PerlinNoise noise = NOISES.getIfPresent(seed);
+        if (noise == null) {
+            // Get the seeded randomizer for this level
+            noise = PerlinNoise.create(RandomSource.create(seed ^ SALT), -2, 1d);
+            NOISES.put(seed, noise);
+        };
+        return noise;
+    };
+
     /**
      * Check whether a chunk would theoretically have any oil, regardless of whether its been pumped out.
      * @param level
@@ -63,7 +102,14 @@ public class ChunkCrudeOil {
      * @return {@code true} for roughly a quarter of all chunks
      */
     public static boolean randomSeismicActivity(ServerLevel level, int chunkX, int chunkZ) {
-        RandomSource random = RandomSource.create(level.getSeed() ^ SALT ^ chunkX ^ chunkZ);
+        return randomSeismicActivity(level.getSeed(), chunkX, chunkZ);
+    };
+
+    /**
+     * @see ChunkCrudeOil#randomSeismicActivity(ServerLevel, int, int)
+     */
+    public static boolean randomSeismicActivity(long seed, int chunkX, int chunkZ) {
+        RandomSource random = RandomSource.create(seed ^ SALT ^ chunkX ^ chunkZ);
         random.nextInt();
         boolean signal = random.nextInt(4) == 0;
         return signal;
@@ -80,20 +126,83 @@ public class ChunkCrudeOil {
      * @return A byte where each bit is {@code 1} if we show a signal on that chunk, starting on the multiple of eight and ascending
      */
     public static byte getSignals(ServerLevel level, int chunkX, int chunkZ, boolean xNotZ) {
-        boolean[][] oil = new boolean[10][3];
-        boolean[][] redHerring = new boolean[10][3];
-        int widthAxis = xNotZ ? chunkZ : chunkX;
-        int lengthAxis = xNotZ ? chunkX : chunkZ;
-        for (int width = 0; width < 3; width++) {
-            for (int length = 0; length < 10; length++) {
-                int lengthCoordinate = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1 + length;
-                int widthCoordinate = widthAxis - 1 + width;
-                int x = xNotZ ? lengthCoordinate : widthCoordinate;
-                int z = xNotZ ? widthCoordinate : lengthCoordinate;
-                oil[length][width] = hasOil(level, x, z);
-                redHerring[length][width] = randomSeismicActivity(level, x, z);
+        return getSignals(level.getSeed(), chunkX, chunkZ, xNotZ);
+    };
+
+    /**
+     * @see ChunkCrudeOil#getSignals(ServerLevel, int, int, boolean)
+     */
+    public static byte getSignals(long seed, int chunkX, int chunkZ, boolean xNotZ) {
+        int lowerX = SeismographItem.mapChunkLowerCorner(chunkX);
+        int lowerZ = SeismographItem.mapChunkLowerCorner(chunkZ);
+        SeismicMapKey key = new SeismicMapKey(seed, lowerX, lowerZ);
+        SeismicMap map = SEISMIC_MAPS.getIfPresent(key);
+        if (map == null) {
+            map = new SeismicMap(seed, lowerX, lowerZ);
+            SEISMIC_MAPS.put(key, map);
+        };
+        return xNotZ ? map.rowSignals[chunkZ - lowerZ] : map.columnSignals[chunkX - lowerX];
+    };
+
+    private static record SeismicMapKey(long seed, int lowerX, int lowerZ) {};
+
+    /**
+     * The signals of every row and column of one seismograph map, worked out from which chunks in and around the map have oil or are red herrings.
+     */
+    private static class SeismicMap {
+
+        /**
+         * The signals along the X axis, for each Z co-ordinate in the map.
+         */
+        private final byte[] rowSignals;
+        /**
+         * The signals along the Z axis, for each X co-ordinate in the map.
+         */
+        private final byte[] columnSignals;
+
+        private SeismicMap(long seed, int lowerX, int lowerZ) {
+            // Everything in the map and a border of one chunk around it
+            boolean[][] oil = new boolean[10][10];
+            boolean[][] redHerring = new boolean[10][10];
+            for (int x = 0; x < 10; x++) {
+                for (int z = 0; z < 10; z++) {
+                    oil[x][z] = getTheoreticalOil(seed, lowerX - 1 + x, lowerZ - 1 + z) > 0;
+                    redHerring[x][z] = randomSeismicActivity(seed, lowerX - 1 + x, lowerZ - 1 + z);
+                };
+            };
+            rowSignals = new byte[8];
+            columnSignals = new byte[8];
+            boolean[][] oilStrip = new boolean[10][3];
+            boolean[][] redHerringStrip = new boolean[10][3];
+            for (int i = 0; i < 8; i++) {
+                // Along the X axis
+                for (int length = 0; length < 10; length++) {
+                    for (int width = 0; width < 3; width++) {
+                        oilStrip[length][width] = oil[length][i + width];
+                        redHerringStrip[length][width] = redHerring[length][i + width];
+                    };
+                };
+                rowSignals[i] = getSignals(oilStrip, redHerringStrip, true);
+                // Along the Z axis
+                for (int length = 0; length < 10; length++) {
+                    for (int width = 0; width < 3; width++) {
+                        oilStrip[length][width] = oil[i + width][length];
+                        redHerringStrip[length][width] = redHerring[i + width][length];
+                    };
+                };
+                columnSignals[i] = getSignals(oilStrip, redHerringStrip, false);
             };
         };
+    };
+
+    /**
+     * Work out the 'signals' in a line of chunks.
+     * @param oil Whether each chunk has oil, indexed by the position along the line (including one chunk either end) and then across it (including one chunk either side)
+     * @param redHerring Whether each chunk is a {@link ChunkCrudeOil#randomSeismicActivity red herring}, indexed the same way
+     * @param xNotZ Only used for debugging
+     * @return A byte where each bit is {@code 1} if we show a signal on that chunk
+     */
+    public static byte getSignals(boolean[][] oil, boolean[][] redHerring, boolean xNotZ) {
         byte signals = 0;
         for (int length = 1; length <= 8; length++) {
             boolean oilInSurroundings = false; // Start by assuming we have red herrings on all eight sides
@@ -0,0 +1,260 @@
+package com.petrolpark.destroy.capability.level.pollution;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.config.DestroyPollutionConfigs;
+import com.petrolpark.destroy.util.PollutionHelper;
+
+import it.unimi.dsi.fastutil.HashCommon;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Spreads {@link PollutionType#local local} {@link Pollution} between adjacent Chunks and decreases it over time.
+ * <p>The loaded Chunks of a Level are grouped into square {@link Region Regions}, each of which keeps the Pollution of its Chunks in dense arrays
+ * (holding fractions of a level of Pollution too, so that slow spreading and decreasing still add up). Every {@link DestroyPollutionConfigs#pollutionDiffusionInterval few ticks}
+ * each Region takes one step, which decreases Pollution by the {@link DestroyPollutionConfigs#pollutionDecreaseRates average decrease} for that time and moves Pollution
+ * across each border between Chunks in proportion to the difference either side. The Regions are spread out over those ticks. Nothing here is random.</p>
+ * <p>Clients are only {@link PollutionSyncer told} about Chunks whose Pollution has moved by at least {@link DestroyPollutionConfigs#pollutionSyncThreshold some amount}.</p>
+ */
+public class LocalPollutionSolver {
+
+    private static final Map<ResourceKey<Level>, LocalPollutionSolver> SOLVERS = new HashMap<>();
+
+    private static final PollutionType[] LOCAL_TYPES = Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]);
+
+    /**
+     * The log base 2 of the width (in Chunks) of each Region.
+     */
+    private static final int REGION_SHIFT = 3;
+    private static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int REGION_MASK = REGION_SIZE - 1;
+
+    /**
+     * The most any border can move in one step, as a proportion of the difference either side. Above this, Chunks with many neighbours could be
+     * left with less than nothing or overshoot their neighbours.
+     */
+    private static final float MAXIMUM_DIFFUSION = 0.25f;
+
+    protected final ServerLevel level;
+
+    protected final Long2ObjectMap<Region> regions;
+
+    protected LocalPollutionSolver(ServerLevel level) {
+        this.level = level;
+        regions = new Long2ObjectOpenHashMap<>();
+    };
+
+    public static LocalPollutionSolver get(ServerLevel level) {
+        return SOLVERS.computeIfAbsent(level.dimension(), d -> new LocalPollutionSolver(level));
+    };
+
+    public static void onChunkLoaded(LevelAccessor level, LevelChunk chunk) {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+        chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+            if (pollution instanceof Pollution.Chunk chunkPollution) get(serverLevel).add(chunk.getPos(), chunkPollution);
+        });
+    };
+
+    public static void onChunkUnloaded(LevelAccessor level, LevelChunk chunk) {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+        LocalPollutionSolver solver = SOLVERS.get(serverLevel.dimension());
+        if (solver != null) solver.remove(chunk.getPos());
+    };
+
+    public static void onLevelUnloaded(LevelAccessor level) {
+        if (level instanceof ServerLevel serverLevel) SOLVERS.remove(serverLevel.dimension());
+    };
+
+    protected void add(ChunkPos pos, Pollution.Chunk pollution) {
+        regions.computeIfAbsent(regionKey(pos.x, pos.z), k -> new Region(pos.x >> REGION_SHIFT, pos.z >> REGION_SHIFT)).setChunk(index(pos.x, pos.z), pollution);
+    };
+
+    protected void remove(ChunkPos pos) {
+        long key = regionKey(pos.x, pos.z);
+        Region region = regions.get(key);
+        if (region == null) return;
+        region.setChunk(index(pos.x, pos.z), null);
+        if (region.chunkCount == 0) regions.remove(key);
+    };
+
+    public void tick() {
+        if (!PollutionHelper.pollutionEnabled()) return;
+        int interval = DestroyAllConfigs.SERVER.pollution.pollutionDiffusionInterval.get();
+        int phase = (int)(level.getGameTime() % interval);
+
+        DestroyPollutionConfigs config = DestroyAllConfigs.SERVER.pollution;
+        float[] decreases = new float[LOCAL_TYPES.length];
+        float[] diffusions = new float[LOCAL_TYPES.length];
+        for (int t = 0; t < LOCAL_TYPES.length; t++) {
+            PollutionType pollutionType = LOCAL_TYPES[t];
+            decreases[t] = config.pollutionDecreaseRates.get(pollutionType).getF() * interval;
+            // On average, each border used to transfer half the spreading amount of the difference with the chance of the spreading rate each tick
+            diffusions[t] = Mth.clamp(config.pollutionSpreadingRates.get(pollutionType).getF() * 0.5f * config.pollutionSpreadingAmounts.get(pollutionType).getF() * interval, 0f, MAXIMUM_DIFFUSION);
+        };
+        int syncThreshold = config.pollutionSyncThreshold.get();
+
+        for (ObjectIterator<Long2ObjectMap.Entry<Region>> iterator = regions.long2ObjectEntrySet().iterator(); iterator.hasNext();) {
+            Long2ObjectMap.Entry<Region> entry = iterator.next();
+            if (Math.floorMod(HashCommon.mix(entry.getLongKey()), interval) != phase) continue; // Only step some Regions each tick
+            step(entry.getValue(), decreases, diffusions, syncThreshold);
+        };
+    };
+
+    protected void step(Region region, float[] decreases, float[] diffusions, int syncThreshold) {
+        Region eastRegion = regions.get(ChunkPos.asLong(region.x + 1, region.z));
+        Region southRegion = regions.get(ChunkPos.asLong(region.x, region.z + 1));
+        region.read();
+        if (eastRegion != null) eastRegion.read();
+        if (southRegion != null) southRegion.read();
+
+        for (int t = 0; t < LOCAL_TYPES.length; t++) {
+            float[] values = region.values[t];
+
+            // Decrease
+            float decrease = decreases[t];
+            if (decrease > 0f) for (int i = 0; i < values.length; i++) {
+                if (region.chunks[i] != null) values[i] = Math.max(0f, values[i] - decrease);
+            };
+
+            // Spread across the east and south borders of each Chunk, so every border is only crossed once
+            float diffusion = diffusions[t];
+            if (diffusion <= 0f) continue;
+            for (int z = 0; z < REGION_SIZE; z++) {
+                for (int x = 0; x < REGION_SIZE; x++) {
+                    int i = x | z << REGION_SHIFT;
+                    if (region.chunks[i] == null) continue;
+                    if (x < REGION_MASK) {
+                        spread(region, i, region, i + 1, t, diffusion);
+                    } else if (eastRegion != null) {
+                        spread(region, i, eastRegion, z << REGION_SHIFT, t, diffusion);
+                    };
+                    if (z < REGION_MASK) {
+                        spread(region, i, region, i + REGION_SIZE, t, diffusion);
+                    } else if (southRegion != null) {
+                        spread(region, i, southRegion, x, t, diffusion);
+                    };
+                };
+            };
+        };
+
+        region.write(level, syncThreshold);
+        if (eastRegion != null) eastRegion.write(level, syncThreshold);
+        if (southRegion != null) southRegion.write(level, syncThreshold);
+    };
+
+    private static void spread(Region region, int index, Region otherRegion, int otherIndex, int type, float diffusion) {
+        if (otherRegion.chunks[otherIndex] == null) return;
+        float[] values = region.values[type];
+        float[] otherValues = otherRegion.values[type];
+        float transfer = (values[index] - otherValues[otherIndex]) * diffusion;
+        values[index] -= transfer;
+        otherValues[otherIndex] += transfer;
+    };
+
+    private static long regionKey(int chunkX, int chunkZ) {
+        return ChunkPos.asLong(chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+    };
+
+    private static int index(int chunkX, int chunkZ) {
+        return (chunkX & REGION_MASK) | (chunkZ & REGION_MASK) << REGION_SHIFT;
+    };
+
+    /**
+     * A square of {@link LocalPollutionSolver#REGION_SIZE} by {@link LocalPollutionSolver#REGION_SIZE} Chunks.
+     */
+    protected static class Region {
+
+        protected final int x;
+        protected final int z;
+
+        /**
+         * The Pollution of each loaded Chunk, or {@code null} if that Chunk is not loaded.
+         */
+        protected final Pollution.Chunk[] chunks;
+        protected int chunkCount;
+
+        /**
+         * For each local {@link PollutionType}, the precise level of Pollution in each Chunk.
+         */
+        protected final float[][] values;
+
+        /**
+         * For each local {@link PollutionType}, the level of Pollution last read from or written to each Chunk.
+         * If the Chunk holds something else, it has been changed by something other than this solver.
+         */
+        protected final int[][] written;
+
+        protected Region(int x, int z) {
+            this.x = x;
+            this.z = z;
+            chunks = new Pollution.Chunk[REGION_SIZE * REGION_SIZE];
+            chunkCount = 0;
+            values = new float[LOCAL_TYPES.length][REGION_SIZE * REGION_SIZE];
+            written = new int[LOCAL_TYPES.length][REGION_SIZE * REGION_SIZE];
+        };
+
+        protected void setChunk(int index, Pollution.Chunk pollution) {
+            if (chunks[index] == null && pollution != null) chunkCount++;
+            if (chunks[index] != null && pollution == null) chunkCount--;
+            chunks[index] = pollution;
+            for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                int value = pollution == null ? 0 : pollution.get(LOCAL_TYPES[t]);
+                values[t][index] = value;
+                written[t][index] = value;
+            };
+        };
+
+        /**
+         * Pick up any changes made to the Pollution of these Chunks since they were last {@link Region#write written}.
+         */
+        protected void read() {
+            for (int i = 0; i < chunks.length; i++) {
+                Pollution.Chunk pollution = chunks[i];
+                if (pollution == null) continue;
+                for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                    int value = pollution.get(LOCAL_TYPES[t]);
+                    if (value == written[t][i]) continue;
+                    values[t][i] = value;
+                    written[t][i] = value;
+                };
+            };
+        };
+
+        /**
+         * Store the Pollution of these Chunks in the Chunks themselves, marking those which have moved far enough from what clients know to be synced.
+         */
+        protected void write(ServerLevel level, int syncThreshold) {
+            for (int i = 0; i < chunks.length; i++) {
+                Pollution.Chunk pollution = chunks[i];
+                if (pollution == null) continue;
+                boolean changed = false;
+                for (int t = 0; t < LOCAL_TYPES.length; t++) {
+                    PollutionType pollutionType = LOCAL_TYPES[t];
+                    int value = pollution.setWithoutMarking(pollutionType, Math.round(values[t][i]));
+                    if (value == written[t][i]) continue;
+                    written[t][i] = value;
+                    int synced = pollution.getSynced(pollutionType);
+                    if (Math.abs(value - synced) >= syncThreshold || (value == 0 && synced != 0)) {
+                        pollution.markChanged(pollutionType);
+                        changed = true;
+                    };
+                };
+                if (changed) PollutionSyncer.markChunkChanged(level, new ChunkPos((x << REGION_SHIFT) | (i & REGION_MASK), (z << REGION_SHIFT) | (i >> REGION_SHIFT)));
+            };
+        };
+    };
+};
@@ -0,0 +1,84 @@
+package com.petrolpark.destroy.capability.level.pollution;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.network.DestroyMessages;
+import com.petrolpark.destroy.network.packet.ChunkPollutionChangesS2CPacket;
+import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.chunk.LevelChunk;
+
+/**
+ * Keeps track of which Chunks' (and which Levels') {@link Pollution} has changed, and every {@link com.petrolpark.destroy.config.DestroyPollutionConfigs#pollutionSyncInterval few ticks}
+ * sends each Player one {@link ChunkPollutionChangesS2CPacket packet} with only the changes they can see.
+ * Pollution can change many times a second (for example from exhausts), so this stops every change being sent on its own.
+ */
+public class PollutionSyncer {
+
+    private static final Map<ResourceKey<Level>, LongSet> changedChunks = new HashMap<>();
+    private static final Set<ResourceKey<Level>> changedLevels = new HashSet<>();
+
+    /**
+     * Tell players about the Pollution of this Chunk the next time changes are sent. Only the {@link Pollution.Chunk#getChangedTypes changed} Pollution Types are sent.
+     * @param level
+     * @param pos
+     */
+    public static void markChunkChanged(ServerLevel level, ChunkPos pos) {
+        changedChunks.computeIfAbsent(level.dimension(), d -> new LongOpenHashSet()).add(pos.toLong());
+    };
+
+    /**
+     * Tell players about the global Pollution of this Level the next time changes are sent.
+     * @param level
+     */
+    public static void markLevelChanged(ServerLevel level) {
+        changedLevels.add(level.dimension());
+    };
+
+    public static void tick(ServerLevel level) {
+        if (level.getGameTime() % DestroyAllConfigs.SERVER.pollution.pollutionSyncInterval.get() != 0) return;
+
+        if (changedLevels.remove(level.dimension())) level.getCapability(Pollution.CAPABILITY).ifPresent(levelPollution -> {
+            DestroyMessages.sendToAllClientsInDimension(new LevelPollutionS2CPacket(levelPollution), level);
+        });
+
+        LongSet chunks = changedChunks.remove(level.dimension());
+        if (chunks == null) return;
+        Map<ServerPlayer, ChunkPollutionChangesS2CPacket> packets = new HashMap<>();
+        for (LongIterator iterator = chunks.iterator(); iterator.hasNext();) {
+            ChunkPos pos = new ChunkPos(iterator.nextLong());
+            LevelChunk chunk = level.getChunkSource().getChunkNow(pos.x, pos.z);
+            if (chunk == null) continue; // Players who later load this Chunk will be sent all its Pollution anyway
+            chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                if (!(pollution instanceof Pollution.Chunk chunkPollution)) return;
+                int changes = chunkPollution.getChangedTypes();
+                if (changes == 0) return;
+                chunkPollution.clearChangedTypes();
+                for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(pos, false)) {
+                    packets.computeIfAbsent(player, p -> new ChunkPollutionChangesS2CPacket()).add(pos, changes, chunkPollution);
+                };
+            });
+        };
+        packets.forEach((player, packet) -> DestroyMessages.sendToClient(packet, player));
+    };
+
+    public static void onLevelUnloaded(LevelAccessor level) {
+        if (!(level instanceof ServerLevel serverLevel)) return;
+        changedChunks.remove(serverLevel.dimension());
+        changedLevels.remove(serverLevel.dimension());
+    };
+};
@@ -0,0 +1,82 @@
+package com.petrolpark.destroy.capability.level.pollution;
+
+import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
+import com.petrolpark.destroy.mixin.accessor.ClientLevelAccessor;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.color.block.BlockTintCache;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.ColorResolver;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+/**
+ * Re-renders the parts of the world whose {@link SmogAffectedBlockColor colors} have changed because the Smog in a Chunk has changed enough.
+ * Only the Chunks which changed and those near enough to them to be included in their biome blending are re-meshed, and only the
+ * {@link SmogAffectedBlockColor#RESOLVERS tints which depend on Smog} are recalculated.
+ * <p>Changes are collected for a few ticks before anything is re-rendered, as pollution tends to arrive for many Chunks at once.</p>
+ */
+@OnlyIn(Dist.CLIENT)
+public class SmogRerenderer {
+
+    /**
+     * How many ticks to wait after the first change before re-rendering, so that changes arriving together are only re-rendered once.
+     */
+    public static final int COALESCE_TICKS = 4;
+
+    private static final LongSet queuedChunks = new LongOpenHashSet();
+
+    private static int ticksUntilRerender = -1;
+
+    /**
+     * Re-render the given Chunk (and its neighbours) soon.
+     * @param pos
+     */
+    public static void queue(ChunkPos pos) {
+        if (queuedChunks.add(pos.toLong()) && ticksUntilRerender < 0) ticksUntilRerender = COALESCE_TICKS;
+    };
+
+    public static void tick() {
+        if (ticksUntilRerender < 0 || --ticksUntilRerender > 0) return;
+        ticksUntilRerender = -1;
+
+        Minecraft mc = Minecraft.getInstance();
+        ClientLevel level = mc.level;
+        if (level == null) {
+            queuedChunks.clear();
+            return;
+        };
+
+        // The tint of a Block includes the Smog of every Chunk within the biome blend radius, which is never more than one Chunk away
+        int radius = mc.options.biomeBlendRadius().get() > 0 ? 1 : 0;
+        LongSet chunksToRerender = new LongOpenHashSet();
+        for (LongIterator iterator = queuedChunks.iterator(); iterator.hasNext();) {
+            long pos = iterator.nextLong();
+            int x = ChunkPos.getX(pos);
+            int z = ChunkPos.getZ(pos);
+            for (int dx = -radius; dx <= radius; dx++) {
+                for (int dz = -radius; dz <= radius; dz++) {
+                    chunksToRerender.add(ChunkPos.asLong(x + dx, z + dz));
+                };
+            };
+        };
+        queuedChunks.clear();
+
+        Object2ObjectArrayMap<ColorResolver, BlockTintCache> tintCaches = ((ClientLevelAccessor)level).getTintCaches();
+        for (LongIterator iterator = chunksToRerender.iterator(); iterator.hasNext();) {
+            long pos = iterator.nextLong();
+            int x = ChunkPos.getX(pos);
+            int z = ChunkPos.getZ(pos);
+            for (ColorResolver resolver : SmogAffectedBlockColor.RESOLVERS) {
+                BlockTintCache tintCache = tintCaches.get(resolver);
+                if (tintCache != null) tintCache.invalidateForChunk(x, z);
+            };
+            for (int y = level.getMinSection(); y < level.getMaxSection(); y++) mc.levelRenderer.setSectionDirty(x, y, z);
+        };
+    };
+};
@@ -0,0 +1,409 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Advances the concentrations of the {@link LegacySpecies Molecules} in a {@link LegacyMixture} through a whole tick at once, using a two-stage
+ * Rosenbrock method (ROS2) which chooses its own step sizes to keep the estimated error within {@link AdaptiveReactionIntegrator#RELATIVE_TOLERANCE tolerance}.
+ * <p>This is an alternative to {@link LegacyMixture#reactForTick reacting} a fixed number of times per tick. Rosenbrock methods are linearly implicit, so they
+ * stay stable for stiff systems (such as fast acid-base equilibria alongside slow organic Reactions) with steps far longer than the fastest Reaction,
+ * and a Mixture which is barely changing can be advanced through the whole tick in one step.</p>
+ * <p>Alongside the concentrations, this keeps track of the moles of each Reaction which have occured (their extents), so the Mixture can apply the
+ * {@link LegacyReaction#getEnthalpyChange enthalpy changes} and {@link ReactionResult Results}. Linear invariants such as the conservation of each element
+ * are kept exactly (apart from rounding) by the method itself.</p>
+ * <p>One of these is kept by each Mixture that needs it, and reuses its arrays from tick to tick.</p>
+ */
+public class AdaptiveReactionIntegrator {
+
+    /**
+     * The gamma for ROS2, which makes it L-stable.
+     */
+    private static final double GAMMA = 1d + 1d / Math.sqrt(2d);
+
+    /**
+     * The largest error allowed in each step, relative to the concentration of each Molecule.
+     */
+    public static final double RELATIVE_TOLERANCE = 1e-3;
+    /**
+     * The largest error (in moles per Bucket) allowed in each step for Molecules with very low concentrations. This is well below the difference
+     * at which {@link LegacyMixture#areVeryClose two concentrations are considered different}.
+     */
+    public static final double ABSOLUTE_TOLERANCE = 1e-7;
+    /**
+     * The maximum number of steps to take in one tick. If this is reached, the rest of the tick is tried in one last step, and if that is not within tolerance
+     * either, the tick is {@link AdaptiveReactionIntegrator#integrate not integrated} at all.
+     */
+    public static final int MAXIMUM_STEPS = 64;
+
+    /**
+     * The step size (as a proportion of a tick) to try first next time, carried over from the last tick as the stiffness rarely changes much from one tick to the next.
+     */
+    private double stepSize;
+
+    /**
+     * The position of each Molecule in the arrays of this integrator, for this tick.
+     */
+    private final Map<LegacySpecies, Integer> speciesIndices;
+    private LegacySpecies[] species;
+    private int speciesCount;
+
+    private ReactionKernel[] kernels;
+    /**
+     * The rate constants of each Reaction in moles per Bucket per tick, including any factor for UV.
+     */
+    private double[] rateConstants;
+    private int[][] reactantIndices, productIndices, orderedIndices;
+    private int reactionCount;
+
+    private double[] initialConcentrations, concentrations, stageConcentrations, newConcentrations;
+    private double[] derivatives, stageDerivatives, firstStage, secondStage;
+    private double[] rates, stageRates, extents, firstExtentStage, secondExtentStage;
+    /**
+     * The derivative of the rate of each Reaction with respect to the concentration of each Molecule, with one row per Reaction.
+     */
+    private double[] rateJacobian;
+    /**
+     * {@code I - gamma hJ}, which is LU-decomposed in place.
+     */
+    private double[] matrix;
+    private int[] pivots;
+
+    /**
+     * The number of times the rates of every Reaction were evaluated in the last tick.
+     */
+    private int evaluations;
+
+    public AdaptiveReactionIntegrator() {
+        stepSize = 1d;
+        speciesIndices = new HashMap<>();
+        species = new LegacySpecies[0];
+        kernels = new ReactionKernel[0];
+        rateConstants = new double[0];
+        reactantIndices = new int[0][];
+        productIndices = new int[0][];
+        orderedIndices = new int[0][];
+        allocateSpeciesArrays(0);
+        allocateReactionArrays(0);
+    };
+
+    /**
+     * Forget all Molecules and Reactions from the last tick, and start with the given {@link LegacySpecies Molecules}.
+     * @param contents The contents of the Mixture at the start of this tick
+     */
+    public void reset(MixtureContents contents) {
+        Arrays.fill(species, 0, speciesCount, null);
+        Arrays.fill(kernels, 0, reactionCount, null);
+        speciesIndices.clear();
+        speciesCount = 0;
+        reactionCount = 0;
+        evaluations = 0;
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            int index = indexOf(contents.speciesAt(i));
+            initialConcentrations[index] = contents.concentrationAt(i);
+        };
+    };
+
+    /**
+     * Include a {@link LegacyReaction} in this tick. Any products not already in the Mixture start with a concentration of {@code 0}.
+     * @param kernel
+     * @param rateConstant In moles per Bucket per tick, including any factor for UV
+     */
+    public void addReaction(ReactionKernel kernel, float rateConstant) {
+        if (reactionCount == kernels.length) {
+            int newCapacity = Math.max(reactionCount + 1, kernels.length + (kernels.length >> 1));
+            kernels = Arrays.copyOf(kernels, newCapacity);
+            rateConstants = Arrays.copyOf(rateConstants, newCapacity);
+            reactantIndices = Arrays.copyOf(reactantIndices, newCapacity);
+            productIndices = Arrays.copyOf(productIndices, newCapacity);
+            orderedIndices = Arrays.copyOf(orderedIndices, newCapacity);
+        };
+        int r = reactionCount++;
+        kernels[r] = kernel;
+        rateConstants[r] = rateConstant;
+        reactantIndices[r] = indicesOf(kernel.reactants, reactantIndices[r]);
+        productIndices[r] = indicesOf(kernel.products, productIndices[r]);
+        orderedIndices[r] = indicesOf(kernel.orderedMolecules, orderedIndices[r]);
+    };
+
+    /**
+     * Advance every Molecule through one tick.
+     * @return {@code false} if the tick could not be advanced within {@link AdaptiveReactionIntegrator#RELATIVE_TOLERANCE tolerance} in {@link AdaptiveReactionIntegrator#MAXIMUM_STEPS the steps allowed},
+     * in which case none of the results of this integrator should be used
+     */
+    public boolean integrate() {
+        int n = speciesCount;
+        int m = reactionCount;
+        if (rateJacobian.length < m * n) rateJacobian = new double[m * n];
+        if (rates.length < m) allocateReactionArrays(m);
+
+        System.arraycopy(initialConcentrations, 0, concentrations, 0, n);
+        Arrays.fill(extents, 0, m, 0d);
+        if (m == 0) return true;
+
+        double time = 0d;
+        double h = Math.min(stepSize, 1d);
+        int steps = 0;
+        while (1d - time > 1e-12) {
+            boolean lastStep = steps >= MAXIMUM_STEPS - 1;
+            if (lastStep || time + h > 1d) h = 1d - time;
+            steps++;
+
+            evaluate(concentrations, rates, derivatives);
+            evaluateRateJacobian(concentrations);
+
+            // Form and decompose I - gamma hJ, where J = (stoichiometry)(rate Jacobian)
+            Arrays.fill(matrix, 0, n * n, 0d);
+            for (int r = 0; r < m; r++) {
+                int row = r * n;
+                for (int reactant = 0; reactant < reactantIndices[r].length; reactant++) {
+                    double coefficient = GAMMA * h * kernels[r].reactantRatios[reactant];
+                    int i = reactantIndices[r][reactant];
+                    for (int j = 0; j < n; j++) matrix[i * n + j] += coefficient * rateJacobian[row + j];
+                };
+                for (int product = 0; product < productIndices[r].length; product++) {
+                    double coefficient = GAMMA * h * kernels[r].productRatios[product];
+                    int i = productIndices[r][product];
+                    for (int j = 0; j < n; j++) matrix[i * n + j] -= coefficient * rateJacobian[row + j];
+                };
+            };
+            for (int i = 0; i < n; i++) matrix[i * n + i] += 1d;
+            if (!decompose(n)) {
+                if (lastStep) return false; // Never solve with a singular matrix
+                h *= 0.5d;
+                continue;
+            };
+
+            // First stage
+            System.arraycopy(derivatives, 0, firstStage, 0, n);
+            solve(n, firstStage);
+            extentStage(h, rates, firstStage, firstExtentStage);
+            for (int i = 0; i < n; i++) stageConcentrations[i] = concentrations[i] + h * firstStage[i];
+
+            // Second stage
+            evaluate(stageConcentrations, stageRates, stageDerivatives);
+            for (int i = 0; i < n; i++) secondStage[i] = stageDerivatives[i] - 2d * firstStage[i];
+            solve(n, secondStage);
+            extentStage(h, stageRates, secondStage, secondExtentStage);
+            for (int r = 0; r < m; r++) secondExtentStage[r] -= 2d * firstExtentStage[r];
+
+            // The difference between ROS2 and the first-order solution from the first stage alone estimates the error
+            double error = 0d;
+            for (int i = 0; i < n; i++) {
+                newConcentrations[i] = concentrations[i] + h * (1.5d * firstStage[i] + 0.5d * secondStage[i]);
+                double scale = ABSOLUTE_TOLERANCE + RELATIVE_TOLERANCE * Math.max(Math.abs(concentrations[i]), Math.abs(newConcentrations[i]));
+                double componentError = 0.5d * h * (firstStage[i] + secondStage[i]) / scale;
+                error += componentError * componentError;
+                if (newConcentrations[i] < -ABSOLUTE_TOLERANCE) error = Double.POSITIVE_INFINITY; // Never accept steps which overshoot into negative concentrations
+            };
+            error = n == 0 ? 0d : Math.sqrt(error / n);
+            if (Double.isNaN(error)) error = Double.POSITIVE_INFINITY; // Reject steps which went wrong entirely
+
+            if (error <= 1d) {
+                for (int i = 0; i < n; i++) concentrations[i] = Math.max(newConcentrations[i], 0d);
+                for (int r = 0; r < m; r++) extents[r] += h * (1.5d * firstExtentStage[r] + 0.5d * secondExtentStage[r]);
+                time += h;
+            } else if (lastStep) {
+                return false; // Clamping the concentrations of a step this far out would no longer match the extents of the Reactions
+            };
+
+            h *= error == 0d ? 5d : Math.min(5d, Math.max(0.2d, 0.9d / Math.sqrt(error)));
+            if (error <= 1d) stepSize = h;
+        };
+
+        return true;
+    };
+
+    public int getSpeciesCount() {
+        return speciesCount;
+    };
+
+    public LegacySpecies getSpecies(int index) {
+        return species[index];
+    };
+
+    /**
+     * The concentration of the Molecule at the given index at the start of the tick.
+     */
+    public float getInitialConcentration(int index) {
+        return (float)initialConcentrations[index];
+    };
+
+    /**
+     * The concentration of the Molecule at the given index at the end of the tick.
+     */
+    public float getConcentration(int index) {
+        return (float)concentrations[index];
+    };
+
+    public int getReactionCount() {
+        return reactionCount;
+    };
+
+    public ReactionKernel getKernel(int index) {
+        return kernels[index];
+    };
+
+    /**
+     * The moles (per Bucket) of the Reaction at the given index which occured during the tick.
+     */
+    public float getExtent(int index) {
+        return (float)extents[index];
+    };
+
+    /**
+     * The number of times the rates of every Reaction were calculated in the last tick.
+     */
+    public int getEvaluations() {
+        return evaluations;
+    };
+
+    /**
+     * Calculate the rate of every Reaction, and from these the rate of change of every Molecule.
+     */
+    private void evaluate(double[] y, double[] rates, double[] derivatives) {
+        evaluations++;
+        Arrays.fill(derivatives, 0, speciesCount, 0d);
+        for (int r = 0; r < reactionCount; r++) {
+            ReactionKernel kernel = kernels[r];
+            double rate = rateConstants[r];
+            for (int o = 0; o < kernel.orders.length; o++) rate *= power(y[orderedIndices[r][o]], kernel.orders[o]);
+            rates[r] = rate;
+            for (int reactant = 0; reactant < reactantIndices[r].length; reactant++) derivatives[reactantIndices[r][reactant]] -= kernel.reactantRatios[reactant] * rate;
+            for (int product = 0; product < productIndices[r].length; product++) derivatives[productIndices[r][product]] += kernel.productRatios[product] * rate;
+        };
+    };
+
+    private void evaluateRateJacobian(double[] y) {
+        int n = speciesCount;
+        Arrays.fill(rateJacobian, 0, reactionCount * n, 0d);
+        for (int r = 0; r < reactionCount; r++) {
+            ReactionKernel kernel = kernels[r];
+            for (int o = 0; o < kernel.orders.length; o++) {
+                int order = kernel.orders[o];
+                if (order == 0) continue;
+                double derivative = rateConstants[r] * order * power(y[orderedIndices[r][o]], order - 1);
+                for (int other = 0; other < kernel.orders.length; other++) {
+                    if (other != o) derivative *= power(y[orderedIndices[r][other]], kernel.orders[other]);
+                };
+                if (Double.isFinite(derivative)) rateJacobian[r * n + orderedIndices[r][o]] = derivative;
+            };
+        };
+    };
+
+    /**
+     * The extents change at the rates of the Reactions, but do not affect them, so their part of each stage can be found directly from the concentration part.
+     */
+    private void extentStage(double h, double[] rates, double[] stage, double[] extentStage) {
+        int n = speciesCount;
+        for (int r = 0; r < reactionCount; r++) {
+            double correction = 0d;
+            for (int o = 0; o < orderedIndices[r].length; o++) {
+                int j = orderedIndices[r][o];
+                correction += rateJacobian[r * n + j] * stage[j];
+            };
+            extentStage[r] = rates[r] + GAMMA * h * correction;
+        };
+    };
+
+    /**
+     * LU-decompose the {@link AdaptiveReactionIntegrator#matrix matrix} in place with partial pivoting.
+     * @return {@code false} if the matrix is singular
+     */
+    private boolean decompose(int n) {
+        for (int k = 0; k < n; k++) {
+            int pivot = k;
+            for (int i = k + 1; i < n; i++) {
+                if (Math.abs(matrix[i * n + k]) > Math.abs(matrix[pivot * n + k])) pivot = i;
+            };
+            pivots[k] = pivot;
+            if (matrix[pivot * n + k] == 0d) return false;
+            if (pivot != k) {
+                for (int j = 0; j < n; j++) {
+                    double swap = matrix[k * n + j];
+                    matrix[k * n + j] = matrix[pivot * n + j];
+                    matrix[pivot * n + j] = swap;
+                };
+            };
+            for (int i = k + 1; i < n; i++) {
+                double factor = matrix[i * n + k] / matrix[k * n + k];
+                matrix[i * n + k] = factor;
+                if (factor == 0d) continue;
+                for (int j = k + 1; j < n; j++) matrix[i * n + j] -= factor * matrix[k * n + j];
+            };
+        };
+        return true;
+    };
+
+    /**
+     * Solve {@code Ax = b} with the decomposed {@link AdaptiveReactionIntegrator#matrix matrix}, overwriting {@code b} with {@code x}.
+     */
+    private void solve(int n, double[] b) {
+        for (int k = 0; k < n; k++) {
+            int pivot = pivots[k];
+            if (pivot != k) {
+                double swap = b[k];
+                b[k] = b[pivot];
+                b[pivot] = swap;
+            };
+            for (int i = k + 1; i < n; i++) b[i] -= matrix[i * n + k] * b[k];
+        };
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = b[i];
+            for (int j = i + 1; j < n; j++) sum -= matrix[i * n + j] * b[j];
+            b[i] = sum / matrix[i * n + i];
+        };
+    };
+
+    private static double power(double concentration, int order) {
+        if (concentration <= 0d) return order == 0 ? 1d : (order > 0 ? 0d : Double.POSITIVE_INFINITY);
+        if (order < 0) return Math.pow(concentration, order);
+        double result = 1d;
+        for (int i = 0; i < order; i++) result *= concentration;
+        return result;
+    };
+
+    private int[] indicesOf(LegacySpecies[] molecules, int[] existing) {
+        int[] indices = existing != null && existing.length == molecules.length ? existing : new int[molecules.length];
+        for (int i = 0; i < molecules.length; i++) indices[i] = indexOf(molecules[i]);
+        return indices;
+    };
+
+    private int indexOf(LegacySpecies molecule) {
+        Integer index = speciesIndices.get(molecule);
+        if (index != null) return index;
+        if (speciesCount == species.length) {
+            int newCapacity = Math.max(speciesCount + 1, species.length + (species.length >> 1));
+            species = Arrays.copyOf(species, newCapacity);
+            allocateSpeciesArrays(newCapacity);
+        };
+        int newIndex = speciesCount++;
+        species[newIndex] = molecule;
+        initialConcentrations[newIndex] = 0d;
+        speciesIndices.put(molecule, newIndex);
+        return newIndex;
+    };
+
+    private void allocateSpeciesArrays(int capacity) {
+        initialConcentrations = initialConcentrations == null ? new double[capacity] : Arrays.copyOf(initialConcentrations, capacity);
+        concentrations = new double[capacity];
+        stageConcentrations = new double[capacity];
+        newConcentrations = new double[capacity];
+        derivatives = new double[capacity];
+        stageDerivatives = new double[capacity];
+        firstStage = new double[capacity];
+        secondStage = new double[capacity];
+        matrix = new double[capacity * capacity];
+        pivots = new int[capacity];
+        rateJacobian = new double[0];
+    };
+
+    private void allocateReactionArrays(int capacity) {
+        rates = new double[capacity];
+        stageRates = new double[capacity];
+        extents = new double[capacity];
+        firstExtentStage = new double[capacity];
+        secondExtentStage = new double[capacity];
+    };
+};
@@ -2,7 +2,6 @@ package com.petrolpark.destroy.chemistry.legacy;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map.Entry;
 
 import com.jozufozu.flywheel.util.Color;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -21,10 +20,10 @@ public class ClientMixture extends ReadOnlyMixture {
         float totalGreen = 0;
         float totalBlue = 0;
         int totalAlpha = 64;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            //if (entry.getKey().isColorless()) continue;
-            Color color = new Color(entry.getKey().getColor());
-            float colorContribution = entry.getValue() * color.getAlphaAsFloat();
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            //if (contents.speciesAt(i).isColorless()) continue;
+            Color color = new Color(contents.speciesAt(i).getColor());
+            float colorContribution = contents.concentrationAt(i) * color.getAlphaAsFloat();
             totalColorContribution += colorContribution;
             totalRed += color.getRed() * colorContribution;
             totalGreen += color.getGreen() * colorContribution;
@@ -46,7 +45,7 @@ public class ClientMixture extends ReadOnlyMixture {
             boolean iupac = DestroyAllConfigs.CLIENT.chemistry.iupacNames.get();
 
             if (contents.size() == 1) {
-                name = contents.entrySet().iterator().next().getKey().getName(iupac);
+                name = contents.speciesAt(contents.first()).getName(iupac);
                 return;
             };
 
@@ -58,10 +57,10 @@ public class ClientMixture extends ReadOnlyMixture {
             List<LegacySpecies> solvents = new ArrayList<>();
             List<LegacySpecies> impurities = new ArrayList<>();
             boolean thereAreNeutralMolecules = false;
-            for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-                LegacySpecies molecule = entry.getKey();
+            for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+                LegacySpecies molecule = contents.speciesAt(i);
                 if (neutral && (molecule == DestroyMolecules.HYDROXIDE || molecule == DestroyMolecules.PROTON)) continue;
-                if (entry.getValue() < IMPURITY_THRESHOLD) {
+                if (contents.concentrationAt(i) < IMPURITY_THRESHOLD) {
                     impurities.add(molecule);
                 } else if (molecule.hasTag(DestroyMolecules.Tags.SOLVENT)) {
                     solvents.add(molecule);
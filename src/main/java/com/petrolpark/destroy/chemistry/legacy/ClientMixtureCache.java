@@ -0,0 +1,81 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+
+/**
+ * A client-side store of the colors and names of {@link ClientMixture Mixtures}, indexed by their {@code Mixture} Compound Tag.
+ * Every visible Fluid Stack of Mixture gets its tint worked out every frame (and its name for every tooltip), and reading the Mixture
+ * to do so works out the whole name with all its salts and solvents, so each distinct Tag is only read once.
+ * <p>This is forgotten whenever resources (including languages and {@link com.petrolpark.destroy.chemistry.naming.SaltNameOverrides salt names}) are reloaded.</p>
+ */
+public class ClientMixtureCache {
+
+    /**
+     * The maximum number of distinct Tags for which to hold a color and name. The least recently used are forgotten first.
+     */
+    public static final int MAXIMUM_SIZE = 512;
+
+    public static final Listener RELOAD_LISTENER = new Listener();
+
+    private static final Cache<CompoundTag, Appearance> APPEARANCES = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    /**
+     * What a Mixture looks like.
+     * @param color ARGB
+     * @param name
+     * @param iupac Whether the name was worked out using IUPAC names
+     */
+    private static record Appearance(int color, Component name, boolean iupac) {};
+
+    /**
+     * The {@link ReadOnlyMixture#getColor color} of the Mixture described by the given Tag.
+     * @param compound Not {@code null}
+     */
+    public static int getColor(CompoundTag compound) {
+        return getAppearance(compound).color();
+    };
+
+    /**
+     * The {@link ReadOnlyMixture#getName name} of the Mixture described by the given Tag.
+     * @param compound Not {@code null}
+     */
+    public static Component getName(CompoundTag compound) {
+        return getAppearance(compound).name();
+    };
+
+    private static Appearance getAppearance(CompoundTag compound) {
+        boolean iupac = DestroyAllConfigs.CLIENT.chemistry.iupacNames.get();
+        Appearance appearance = APPEARANCES.getIfPresent(compound);
+        if (appearance == null || appearance.iupac() != iupac) { // Names depend on the naming config, which might have changed since this was stored
+            ClientMixture mixture = ReadOnlyMixture.readNBT(ClientMixture::new, compound);
+            appearance = new Appearance(mixture.getColor(), mixture.getName(), iupac);
+            APPEARANCES.put(compound.copy(), appearance); // Copy the key as the original Tag might be modified later
+        };
+        return appearance;
+    };
+
+    /**
+     * Forget every color and name.
+     */
+    public static void clear() {
+        APPEARANCES.invalidateAll();
+    };
+
+    public static class Listener implements ResourceManagerReloadListener {
+
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            clear();
+        };
+
+    };
+};
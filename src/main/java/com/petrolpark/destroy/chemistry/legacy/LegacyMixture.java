@@ -1,24 +1,18 @@
 package com.petrolpark.destroy.chemistry.legacy;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import java.util.Set;
-
 import com.google.common.collect.ImmutableList;
 import com.petrolpark.destroy.Destroy;
-import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
-import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.NovelCompoundSynthesizedReactionResult;
 import com.petrolpark.destroy.recipe.ReactionInBasinRecipe.ReactionInBasinResult;
@@ -42,9 +36,9 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     protected Map<ReactionResult, Float> reactionResults;
     /**
-     * {@link LegacySpecies Molecules} which do not have a name space or ID.
+     * {@link LegacySpecies Molecules} which do not have a name space or ID, indexed by their {@link LegacySpecies#getFullID FROWNS code}.
      */
-    protected List<LegacySpecies> novelMolecules;
+    protected Map<String, LegacySpecies> novelMolecules;
 
     /**
      * All {@link LegacyReaction Reactions} with specific Reactants and specified {@link GenericReaction Generic Reactions}
@@ -52,12 +46,17 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     protected List<LegacyReaction> possibleReactions;
 
-    /**`
-     * Every {@link LegacySpecies} in this Mixture that has a {@link LegacyFunctionalGroup functional Group}, indexed by the {@link LegacyFunctionalGroup#getType Type} of that Group.
-     * Molecules are stored as {@link com.petrolpark.destroy.chemistry.genericReaction.GenericReactant Generic Reactants}.
-     * Molecules which have multiple of the same Group are indexed for each occurence of the Group.
+    /**
+     * Whether the {@link LegacyMixture#possibleReactions possible Reactions} are out of date and must be {@link LegacyMixture#refreshPossibleReactions refreshed} before they are next used.
+     * Mixtures which are made only to be stored (such as those {@link PhaseSeparation split} from another) put this off, as most are never reacted.
      */
-    protected Map<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> groupIDsAndMolecules;
+    private boolean possibleReactionsStale;
+
+    /**
+     * The incrementally-updated store of every {@link LegacyReaction Reaction} that could be possible in this Mixture, from which
+     * the {@link LegacyMixture#possibleReactions possible Reactions} are {@link LegacyMixture#refreshPossibleReactions refreshed}.
+     */
+    protected final LegacyReactionCacher reactionCacher;
 
     /**
      * Whether this Mixture has reached equilibrium. This means either:
@@ -80,6 +79,25 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     Pair<Float, LegacySpecies> nextLowerBoilingPoint;
 
+    /**
+     * A copy of the {@link ReadOnlyMixture#contents contents} of this Mixture from the start of the current {@link LegacyMixture#reactForTick reaction} cycle,
+     * to check for equilibrium. This is kept so the arrays can be reused every cycle.
+     */
+    private final MixtureContents previousContents;
+
+    /**
+     * The {@link ReactionKernel Kernels} of the Reactions which will happen in the current {@link LegacyMixture#reactForTick reaction} cycle, slowest first,
+     * and their rates (in moles per Bucket per cycle) at the same positions. These are kept so the arrays can be reused every cycle.
+     */
+    private ReactionKernel[] orderedKernels;
+    private float[] orderedRates;
+
+    /**
+     * Used instead of reacting a fixed number of times per tick when the {@link IntegrationMode#ADAPTIVE adaptive} {@link IntegrationMode mode} is chosen,
+     * or {@code null} if it never has been.
+     */
+    private AdaptiveReactionIntegrator integrator;
+
     /**
      * Some Molecules which get removed get swiftly added back in the next tick. To prevent refreshing the Reactions every time, we keep hold of them for a while until we know they're definitely gone.
      * This maps Molecules which have 0 concentration to the ticks they have left to live.
@@ -89,15 +107,38 @@ public class LegacyMixture extends ReadOnlyMixture {
     public LegacyMixture() {
         super();
         reactionResults = new HashMap<>();
-        novelMolecules = new ArrayList<>();
+        novelMolecules = new HashMap<>();
         possibleReactions = new ArrayList<>();
-        groupIDsAndMolecules = new HashMap<>();
+        possibleReactionsStale = false;
+        reactionCacher = new LegacyReactionCacher(this);
+        previousContents = new MixtureContents();
+        orderedKernels = new ReactionKernel[0];
+        orderedRates = new float[0];
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
         moleculesToRemove = new HashMap<>();
         equilibrium = false;
     };
 
+    /**
+     * Get a new Mixture with exactly the same contents, {@link ReactionResult Results} and possible {@link LegacyReaction Reactions} as this one.
+     * This is much cheaper than {@link LegacyMixture#writeNBT writing} and {@link LegacyMixture#readNBT reading}, as no Molecules or Reactions need to be found again.
+     */
+    public LegacyMixture copy() {
+        LegacyMixture mixture = new LegacyMixture();
+        copyInto(mixture);
+        mixture.reactionResults.putAll(reactionResults);
+        mixture.novelMolecules.putAll(novelMolecules);
+        mixture.possibleReactions.addAll(possibleReactions);
+        mixture.possibleReactionsStale = possibleReactionsStale;
+        mixture.reactionCacher.copyFrom(reactionCacher);
+        mixture.equilibrium = equilibrium;
+        mixture.nextHigherBoilingPoint = nextHigherBoilingPoint;
+        mixture.nextLowerBoilingPoint = nextLowerBoilingPoint;
+        mixture.moleculesToRemove.putAll(moleculesToRemove);
+        return mixture;
+    };
+
     /**
      * Get a Mixture containing only the given Molecule, unless it is charged, in which case get a Mixture
      * containing the sodium salt or chloride of the ion.
@@ -117,13 +158,27 @@ public class LegacyMixture extends ReadOnlyMixture {
         return mixture;
     };
 
+    /**
+     * Get the Mixture described by the given Compound Tag. Each distinct Tag is only parsed once, and this returns a {@link LegacyMixture#copy copy}
+     * of the result, which can be freely modified.
+     * @param compound
+     * @see ParsedMixtureCache
+     */
     public static LegacyMixture readNBT(CompoundTag compound) {
-        LegacyMixture mixture = new LegacyMixture();
-        
         if (compound == null) {
             Destroy.LOGGER.warn("Null Mixture loaded");
-            return mixture;
+            return new LegacyMixture();
         };
+        return ParsedMixtureCache.getMixture(compound).copy();
+    };
+
+    /**
+     * Parse a Mixture from the given Compound Tag, finding every Molecule and possible Reaction from scratch.
+     * @param compound Not {@code null}
+     * @see LegacyMixture#readNBT The cached version of this
+     */
+    static LegacyMixture parseNBT(CompoundTag compound) {
+        LegacyMixture mixture = new LegacyMixture();
 
         mixture.translationKey = compound.getString("TranslationKey"); // Set to "" if the key is not present
 
@@ -136,10 +191,10 @@ public class LegacyMixture extends ReadOnlyMixture {
             mixture.internalAddMolecule(molecule, moleculeTag.getFloat("Concentration"), false);
             if (moleculeTag.contains("Gaseous",Tag.TAG_FLOAT)) {
                 float state = moleculeTag.getFloat("Gaseous");
-                mixture.states.put(molecule, state);
+                mixture.contents.setState(molecule, state);
                 if (state != 0f && state != 1f) mixture.boiling = true;
             } else { // If we're not told the state, guess it
-                mixture.states.put(molecule, molecule.getBoilingPoint() < mixture.temperature ? 1f : 0f);
+                mixture.contents.setState(molecule, molecule.getBoilingPoint() < mixture.temperature ? 1f : 0f);
             };
         });
 
@@ -189,11 +244,11 @@ public class LegacyMixture extends ReadOnlyMixture {
     public LegacyMixture setTemperature(float temperature) {
         this.temperature = temperature;
         // Ensure everything has the right state
-        for (LegacySpecies molecule : contents.keySet()) {
-            if (molecule.getBoilingPoint() < temperature) {
-                states.put(molecule, 1f);
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            if (contents.speciesAt(i).getBoilingPoint() < temperature) {
+                contents.setStateAt(i, 1f);
             } else {
-                states.put(molecule, 0f);
+                contents.setStateAt(i, 0f);
             };
         };
         return this; 
@@ -206,7 +261,7 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     public void setState(LegacySpecies molecule, float state) {
         if (state < 0f || state > 1f) throw new IllegalStateException("Molecules can range from entirely liquid (state = 0) to entirely gas (state = 1)");
-        if (getConcentrationOf(molecule) > 0f) states.put(molecule, state);
+        if (getConcentrationOf(molecule) > 0f) contents.setState(molecule, state);
     };
 
     /**
@@ -232,7 +287,7 @@ public class LegacyMixture extends ReadOnlyMixture {
     };
 
     public List<LegacySpecies> getContents(boolean excludeNovel) {
-        return contents.keySet().stream().filter(molecule -> getConcentrationOf(molecule) > 0f && (!molecule.isNovel() || !excludeNovel)).toList();
+        return contents.getSpecies().stream().filter(molecule -> getConcentrationOf(molecule) > 0f && (!molecule.isNovel() || !excludeNovel)).toList();
     };
 
     /**
@@ -244,6 +299,39 @@ public class LegacyMixture extends ReadOnlyMixture {
         if (mixtures.size() == 0) return new LegacyMixture();
         if (mixtures.size() == 1) return mixtures.keySet().iterator().next();
         LegacyMixture resultMixture = new LegacyMixture();
+        resultMixture.mixFrom(mixtures);
+
+        resultMixture.refreshPossibleReactions();
+        resultMixture.updateName();
+        resultMixture.updateColor();
+        resultMixture.updateNextBoilingPoints();
+
+        return resultMixture;
+    };
+
+    /**
+     * Mix together the Mixtures described by two Mixture tags, as {@link LegacyMixture#mix} would, but without reading either of them into a new Mixture
+     * or working out which Reactions are possible in the result. This is for merging Fluid Stacks, where the result is just going to be written back into a tag.
+     * @param firstCompound Not modified
+     * @param firstAmount The amount of the first Mixture, in the same units as the second
+     * @param secondCompound Not modified
+     * @param secondAmount
+     * @return A new Mixture tag
+     */
+    public static CompoundTag mixNBT(CompoundTag firstCompound, double firstAmount, CompoundTag secondCompound, double secondAmount) {
+        if (firstCompound.equals(secondCompound)) return firstCompound.copy();
+        LegacyMixture resultMixture = new LegacyMixture();
+        resultMixture.mixFrom(Map.of(ParsedMixtureCache.getMixture(firstCompound), firstAmount, ParsedMixtureCache.getMixture(secondCompound), secondAmount)); // The parsed Mixtures are shared, but only read from
+        return resultMixture.writeNBT();
+    };
+
+    /**
+     * Fill this empty Mixture with the given Mixtures, conserving the moles of every Molecule and Reaction Result, and the total internal energy.
+     * This does not refresh the possible Reactions, name or color.
+     * @param mixtures Mixtures mapped to their amounts, which are not modified
+     */
+    private void mixFrom(Map<LegacyMixture, Double> mixtures) {
+        LegacyMixture resultMixture = this;
         Map<LegacySpecies, Double> moleculesAndMoles = new HashMap<>(); // A Map of all Molecules to their quantity in moles (not their concentration)
         Map<ReactionResult, Double> reactionResultsAndMoles = new HashMap<>(); // A Map of all Reaction Results to their quantity in moles
         double totalAmount = 0d;
@@ -254,12 +342,12 @@ public class LegacyMixture extends ReadOnlyMixture {
             double amount = mixtureAndAmount.getValue();
             totalAmount += amount;
 
-            for (Entry<LegacySpecies, Float> entry : mixture.contents.entrySet()) {
-                LegacySpecies molecule = entry.getKey();
-                float concentration = entry.getValue();
+            for (int i = mixture.contents.first(); i >= 0; i = mixture.contents.next(i)) {
+                LegacySpecies molecule = mixture.contents.speciesAt(i);
+                float concentration = mixture.contents.concentrationAt(i);
                 moleculesAndMoles.merge(molecule, concentration * amount, (m1, m2) -> m1 + m2); // Add the Molecule to the map if it's a new one, or increase the existing molar quantity otherwise
                 totalEnergy += molecule.getMolarHeatCapacity() * concentration * mixture.temperature * amount; // Add all the energy that would be required to raise this Molecule from 0K to its current temperature
-                totalEnergy += molecule.getLatentHeat() * concentration * mixture.states.get(molecule) * amount; // Add all the energy that would be required to vaporise this Molecule, if necessary
+                totalEnergy += molecule.getLatentHeat() * concentration * mixture.contents.stateAt(i) * amount; // Add all the energy that would be required to vaporise this Molecule, if necessary
             };
 
             for (Entry<ReactionResult, Float> entry : mixture.reactionResults.entrySet()) {
@@ -270,7 +358,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         for (Entry<LegacySpecies, Double> moleculeAndMoles : moleculesAndMoles.entrySet()) {
             LegacySpecies molecule = moleculeAndMoles.getKey();
             resultMixture.internalAddMolecule(molecule, (float)(moleculeAndMoles.getValue() / totalAmount), false); // Add all these Molecules to the new Mixture
-            resultMixture.states.put(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
+            resultMixture.contents.setState(molecule, 0f); // Set it to entirely liquid as we will soon be reheating the Mixture from 0K
         };
 
         for (Entry<ReactionResult, Double> reactionResultAndMoles : reactionResultsAndMoles.entrySet()) {
@@ -281,13 +369,6 @@ public class LegacyMixture extends ReadOnlyMixture {
         resultMixture.temperature = 0f; // Initially set the temperature of the new Mixture to 0K
         resultMixture.updateNextBoilingPoints();
         resultMixture.heat(totalEnergy / (float)totalAmount); // Now heat it up with the total internal energy of all component Mixtures
-
-        resultMixture.refreshPossibleReactions();
-        resultMixture.updateName();
-        resultMixture.updateColor();
-        resultMixture.updateNextBoilingPoints();
-
-        return resultMixture;
     };
 
     @Override
@@ -315,8 +396,21 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param cycles Number of times each tick the reactions should be enacted
      */
     public void reactForTick(ReactionContext context, int cycles) {
+        reactForTick(context, cycles, IntegrationMode.FIXED_CYCLES);
+    };
 
+    /**
+     * Reacts the contents of this Mixture for one tick, if it is not already at {@link LegacyMixture#equilibrium equilibrium}.
+     * @param context
+     * @param cycles Number of times each tick the reactions should be enacted. For {@link IntegrationMode#ADAPTIVE adaptive} integration, this is only used for ticks which cannot be integrated adaptively.
+     * @param mode How to advance the concentrations through the tick
+     */
+    public void reactForTick(ReactionContext context, int cycles, IntegrationMode mode) {
+
+        if (possibleReactionsStale) refreshPossibleReactions();
         boolean shouldUpdateDisplay = true;
+        int fixedCycles = Math.max(cycles, 1);
+        if (mode == IntegrationMode.ADAPTIVE) cycles = 1; // The adaptive integrator chooses its own steps within the tick
 
         for (int cycle = 0; cycle < cycles; cycle++) {
 
@@ -328,51 +422,17 @@ public class LegacyMixture extends ReadOnlyMixture {
             equilibrium = true; // Start by assuming we have reached equilibrium
             boolean shouldRefreshPossibleReactions = false; // Rather than refreshing the possible Reactions every time a new Molecule is added or removed, start by assuming we won't need to, and flag for refreshing if we ever do
 
-            Map<LegacySpecies, Float> oldContents = new HashMap<>(contents); // Copy all the old concentrations of everything
-
-            Map<LegacyReaction, Float> reactionRates = new HashMap<>(); // Rates of all Reactions
-            List<LegacyReaction> orderedReactions = new ArrayList<>(); // A list of Reactions in the order of their current rate, fastest first
-
-            orderEachReaction: for (LegacyReaction possibleReaction : possibleReactions) {
-                if (possibleReaction.consumesItem()) continue orderEachReaction; // Don't include Reactions which CONSUME Items at this stage
-
-                for (IItemReactant itemReactant : possibleReaction.getItemReactants()) { // Check all Reactions have the necessary Item catalysts
-                    boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
-                    checkAllItems: for (ItemStack stack : context.availableItemStacks) {
-                        if (itemReactant.isItemValid(stack)) {
-                            validStackFound = true; // ...If we do, correct this assumption
-                            break checkAllItems;
-                        };
-                    };
-                    if (!validStackFound) continue orderEachReaction; // If we don't have the requesite Item Stacks, don't do this Reaction
-                };
-
-                reactionRates.put(possibleReaction, calculateReactionRate(possibleReaction, context) / cycles); // Calculate the Reaction data for this sub-tick
-                orderedReactions.add(possibleReaction); // Add the Reaction to the rate-ordered list, which is currently not sorted
-            };
-
-            Collections.sort(orderedReactions, (r1, r2) -> reactionRates.get(r1).compareTo(reactionRates.get(r2))); // Sort the Reactions by rate
-
-            doEachReaction: for (LegacyReaction reaction : orderedReactions) { // Go through each Reaction, fastest first
-
-                Float molesOfReaction = reactionRates.get(reaction); // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
-
-                for (LegacySpecies reactant : reaction.getReactants()) {
-                    int reactantMolarRatio = reaction.getReactantMolarRatio(reactant);
-                    float reactantConcentration = getConcentrationOf(reactant);
-                    if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
-                        molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
-                    };
-                };
-
-                if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
+            contents.copyInto(previousContents); // Copy all the old concentrations of everything
 
-                shouldRefreshPossibleReactions |= doReaction(reaction, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
+            if (mode == IntegrationMode.ADAPTIVE) {
+                shouldRefreshPossibleReactions = reactAdaptively(context, fixedCycles);
+            } else {
+                shouldRefreshPossibleReactions = reactForCycle(context, cycles);
             };
 
             // Check now if we have actually reached equilibrium or if that was a false assumption at the start
-            for (LegacySpecies molecule : oldContents.keySet()) {
-                if (!areVeryClose(oldContents.get(molecule), getConcentrationOf(molecule))) { // If there's something that has changed concentration noticeably in this tick...
+            for (int i = previousContents.first(); i >= 0; i = previousContents.next(i)) {
+                if (!areVeryClose(previousContents.concentrationAt(i), getConcentrationOf(previousContents.speciesAt(i)))) { // If there's something that has changed concentration noticeably in this tick...
                     equilibrium = false; // ...we cannot have reached equilibrium
                 };
             };
@@ -403,6 +463,145 @@ public class LegacyMixture extends ReadOnlyMixture {
         };
     };
 
+    /**
+     * Enact every {@link LegacyReaction Reaction} which doesn't consume Items once, in order of rate, each limited by its reagents.
+     * @param context
+     * @param cycles The number of times this will happen this tick
+     * @return Whether the possible Reactions for this Mixture should be updated
+     */
+    private boolean reactForCycle(ReactionContext context, int cycles) {
+
+        boolean shouldRefreshPossibleReactions = false;
+
+        if (orderedKernels.length < possibleReactions.size()) {
+            orderedKernels = new ReactionKernel[possibleReactions.size()];
+            orderedRates = new float[possibleReactions.size()];
+        };
+        int reactionCount = 0;
+
+        orderEachReaction: for (int r = 0; r < possibleReactions.size(); r++) {
+            LegacyReaction possibleReaction = possibleReactions.get(r);
+            if (!canReactWithoutConsumingItems(possibleReaction, context)) continue orderEachReaction;
+
+            ReactionKernel kernel = possibleReaction.getKernel();
+            float rate = calculateReactionRate(kernel, context) / cycles; // Calculate the Reaction data for this sub-tick
+
+            // Insert the Reaction into the rate-ordered arrays. Reactions with equal rates stay in the order they were found
+            int position = reactionCount;
+            while (position > 0 && Float.compare(orderedRates[position - 1], rate) > 0) {
+                orderedKernels[position] = orderedKernels[position - 1];
+                orderedRates[position] = orderedRates[position - 1];
+                position--;
+            };
+            orderedKernels[position] = kernel;
+            orderedRates[position] = rate;
+            reactionCount++;
+        };
+
+        doEachReaction: for (int r = 0; r < reactionCount; r++) { // Go through each Reaction in order of rate
+
+            ReactionKernel kernel = orderedKernels[r];
+            float molesOfReaction = orderedRates[r]; // We are reacting over one tick, so moles of Reaction that take place in this time = rate of Reaction in M per sub-tick
+
+            for (int j = 0; j < kernel.reactants.length; j++) {
+                int reactantMolarRatio = kernel.reactantRatios[j];
+                float reactantConcentration = getConcentrationOf(kernel.reactants[j]);
+                if (reactantConcentration < reactantMolarRatio * molesOfReaction) { // Determine the limiting reagent, if there is one
+                    molesOfReaction = reactantConcentration / (float) reactantMolarRatio; // If there is a new limiting reagent, alter the moles of reaction which will take place
+                };
+            };
+
+            if (molesOfReaction <= 0f) continue doEachReaction; // Don't bother going any further if this Reaction won't happen
+
+            shouldRefreshPossibleReactions |= doReaction(kernel, molesOfReaction); // Increment the amount of this Reaction which has occured, add all products and remove all reactants
+        };
+        Arrays.fill(orderedKernels, 0, reactionCount, null); // Don't hold on to Reactions which may no longer be possible
+
+        return shouldRefreshPossibleReactions;
+    };
+
+    /**
+     * Advance every {@link LegacyReaction Reaction} which doesn't consume Items through the whole tick with the {@link AdaptiveReactionIntegrator},
+     * then apply the changes in concentration, heat and {@link ReactionResult Results}. The temperature is taken to be constant over the tick.
+     * @param context
+     * @param fixedCycles The number of {@link LegacyMixture#reactForCycle cycles} to react in instead if the tick cannot be integrated within tolerance
+     * @return Whether the possible Reactions for this Mixture should be updated
+     */
+    private boolean reactAdaptively(ReactionContext context, int fixedCycles) {
+
+        boolean shouldRefreshPossibleReactions = false;
+
+        if (integrator == null) integrator = new AdaptiveReactionIntegrator();
+        integrator.reset(contents);
+        for (int r = 0; r < possibleReactions.size(); r++) {
+            LegacyReaction possibleReaction = possibleReactions.get(r);
+            if (!canReactWithoutConsumingItems(possibleReaction, context)) continue;
+            ReactionKernel kernel = possibleReaction.getKernel();
+            float rateConstant = kernel.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
+            if (possibleReaction.needsUV()) rateConstant *= context.UVPower;
+            integrator.addReaction(kernel, rateConstant);
+        };
+
+        if (!integrator.integrate()) { // If the step can't be kept within tolerance, fall back to reacting in fixed cycles
+            for (int cycle = 0; cycle < fixedCycles; cycle++) {
+                if (reactForCycle(context, fixedCycles)) {
+                    refreshPossibleReactions();
+                    shouldRefreshPossibleReactions = true;
+                };
+            };
+            return shouldRefreshPossibleReactions;
+        };
+
+        for (int i = 0; i < integrator.getSpeciesCount(); i++) {
+            LegacySpecies molecule = integrator.getSpecies(i);
+            float change = integrator.getConcentration(i) - integrator.getInitialConcentration(i);
+            if (change == 0f) continue;
+            if (!contents.contains(molecule)) {
+                if (change < 0f) continue;
+                shouldRefreshPossibleReactions = true; // If we are adding a new product, the possible Reactions will change
+                if (molecule.isNovel()) {
+                    internalAddMolecule(molecule, change, false); // This checks for pre-existing novel Molecules
+                    continue;
+                };
+            };
+            if (getConcentrationOf(molecule) + change < 0f) change = -getConcentrationOf(molecule);
+            changeConcentrationOf(molecule, change, false);
+        };
+
+        float energyDensity = 0f;
+        for (int r = 0; r < integrator.getReactionCount(); r++) {
+            float molesPerLiter = integrator.getExtent(r);
+            if (molesPerLiter <= 0f) continue;
+            LegacyReaction reaction = integrator.getKernel(r).reaction;
+            energyDensity -= reaction.getEnthalpyChange() * 1000 * molesPerLiter;
+            incrementReactionResults(reaction, molesPerLiter);
+        };
+        heat(energyDensity);
+
+        return shouldRefreshPossibleReactions;
+    };
+
+    /**
+     * Whether the given {@link LegacyReaction} doesn't consume any Items, and all its Item catalysts are available.
+     */
+    private boolean canReactWithoutConsumingItems(LegacyReaction reaction, ReactionContext context) {
+        if (reaction.consumesItem()) return false; // Don't include Reactions which CONSUME Items at this stage
+
+        List<IItemReactant> itemReactants = reaction.getItemReactants();
+        for (int j = 0; j < itemReactants.size(); j++) { // Check all Reactions have the necessary Item catalysts
+            IItemReactant itemReactant = itemReactants.get(j);
+            boolean validStackFound = false; // Start by assuming we won't have the required Item Stack...
+            checkAllItems: for (ItemStack stack : context.availableItemStacks) {
+                if (itemReactant.isItemValid(stack)) {
+                    validStackFound = true; // ...If we do, correct this assumption
+                    break checkAllItems;
+                };
+            };
+            if (!validStackFound) return false; // If we don't have the requesite Item Stacks, don't do this Reaction
+        };
+        return true;
+    };
+
     /**
      * Add or take heat from this Mixture. This will boil/condense Molecules and change the temperature.
      * @param energy In joules per bucket
@@ -423,18 +622,18 @@ public class LegacyMixture extends ReadOnlyMixture {
                 energyDensity -= temperatureChange * getVolumetricHeatCapacity(); // Energy leftover once the Mixture has been raised to the boiling point
 
                 LegacySpecies molecule = nextHigherBoilingPoint.getSecond();
-                float liquidConcentration = getConcentrationOf(molecule) * (1f - states.get(molecule)); // The moles per bucket of liquid Molecules
+                float liquidConcentration = getConcentrationOf(molecule) * (1f - contents.getState(molecule)); // The moles per bucket of liquid Molecules
                 float energyRequiredToFullyBoil = liquidConcentration * molecule.getLatentHeat(); // The energy density required to boil all remaining liquid
 
                 if (energyDensity > energyRequiredToFullyBoil) { // If there is leftover energy once the Molecule has been boiled
-                    states.put(molecule, 1f); // Convert the Molecule fully to gas
+                    contents.setState(molecule, 1f); // Convert the Molecule fully to gas
                     //temperature += 0.01f; // Increase the temperature slightly so the new next higher Molecule isn't the one we just finished boiling
                     updateNextBoilingPoints(true);
                     boiling = false; // If we're just increasing the temperature, then all Molecule are either fully gaseous or liquid
                     heat(energyDensity - energyRequiredToFullyBoil); // Continue heating
                 } else { // If there is no leftover energy and the Molecule is still boiling
                     float boiled = energyDensity / (molecule.getLatentHeat() * getConcentrationOf(molecule)); // The proportion of all of the Molecule which is additionally boiled
-                    states.merge(molecule, boiled, (f1, f2) -> f1 + f2);
+                    contents.setState(molecule, contents.getState(molecule) + boiled);
                     boiling = true; // Set the fact that there is a Molecule which will be not fully gaseous or liquid
                 };
 
@@ -451,18 +650,18 @@ public class LegacyMixture extends ReadOnlyMixture {
                 energyDensity -= temperatureChange * getVolumetricHeatCapacity(); // Additional energy once the Mixture has been lowered to the condensation point
 
                 LegacySpecies molecule = nextLowerBoilingPoint.getSecond();
-                float gasConcentration = getConcentrationOf(molecule) * states.get(molecule);
+                float gasConcentration = getConcentrationOf(molecule) * contents.getState(molecule);
                 float energyReleasedWhenFullyCondensed = gasConcentration * molecule.getLatentHeat(); // The energy density which could be released when all remaining gas is condensed
 
                 if (energyDensity < -energyReleasedWhenFullyCondensed) { // If there is more energy that needs to be released than the condensation can supply
-                    states.put(molecule, 0f); // Convert the Molecule fully to liquid
+                    contents.setState(molecule, 0f); // Convert the Molecule fully to liquid
                     //temperature -= 0.01f; // Decrease the temperature slightly so the new next lower Molecule isn't the one we just finished condensing
                     updateNextBoilingPoints(true);
                     boiling = false; // If we're just increasing the temperature, then all Molecule are either fully gaseous or liquid
                     heat(energyDensity + energyReleasedWhenFullyCondensed); // Continue cooling
                 } else {
                     float condensed = -energyDensity / (molecule.getLatentHeat() * getConcentrationOf(molecule));
-                    states.merge(molecule, 1f - condensed, (f1, f2) -> f1 + f2 - 1f);
+                    contents.setState(molecule, contents.getState(molecule) - condensed);
                     boiling = true; // Set the fact that a Molecule is currently not fully gaseous or liquid
                 };
 
@@ -487,6 +686,7 @@ public class LegacyMixture extends ReadOnlyMixture {
         List<ItemStack> availableStacks = List.copyOf(context.availableItemStacks);
         if (availableStacks.isEmpty()) return availableStacks;
         boolean shouldRefreshReactions = false;
+        if (possibleReactionsStale) refreshPossibleReactions();
 
         List<LegacyReaction> orderedReactions = new ArrayList<>();
 
@@ -497,7 +697,7 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         if (orderedReactions.isEmpty()) return availableStacks; // Don't go any further if there aren't any items to dissolve
 
-        Collections.sort(possibleReactions, (r1, r2) -> ((Float)calculateReactionRate(r1, context)).compareTo(calculateReactionRate(r2, context))); // Order the list of Item-consuming Reactions by rate, in case multiple of them want the same Item
+        Collections.sort(possibleReactions, (r1, r2) -> ((Float)calculateReactionRate(r1.getKernel(), context)).compareTo(calculateReactionRate(r2.getKernel(), context))); // Order the list of Item-consuming Reactions by rate, in case multiple of them want the same Item
 
         tryEachReaction: for (LegacyReaction reaction : orderedReactions) {
 
@@ -572,15 +772,11 @@ public class LegacyMixture extends ReadOnlyMixture {
         double newVolumeInLiters = 0d;
 
         // Molecules
-        Map<LegacySpecies, Double> molesOfMolecules = new HashMap<>();
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            LegacySpecies molecule = entry.getKey();
-            double molesOfMolecule = entry.getValue() * initialVolumeInLiters;
-            molesOfMolecules.put(molecule, molesOfMolecule);
-            newVolumeInLiters += molesOfMolecule / molecule.getPureConcentration();
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            newVolumeInLiters += contents.concentrationAt(i) * initialVolumeInLiters / contents.speciesAt(i).getPureConcentration();
         };
-        for (Entry<LegacySpecies, Double> entry : molesOfMolecules.entrySet()) {
-            contents.replace(entry.getKey(), (float)(entry.getValue() / newVolumeInLiters));
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            contents.setConcentrationAt(i, (float)(contents.concentrationAt(i) * initialVolumeInLiters / newVolumeInLiters));
         };
 
         // Results
@@ -597,12 +793,39 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param volumeIncreaseFactor The multiplicative factor which has been applied to the volume.
      */
     public void scale(float volumeIncreaseFactor) {
-        contents.replaceAll((molecule, concentration) -> concentration / volumeIncreaseFactor);
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            contents.setConcentrationAt(i, contents.concentrationAt(i) / volumeIncreaseFactor);
+        };
         reactionResults.replaceAll((reactionResult, molesPerBucket) -> molesPerBucket / volumeIncreaseFactor);
     };
 
     public static record Phases(LegacyMixture gasMixture, Double gasVolume, LegacyMixture liquidMixture, Double liquidVolume) {};
 
+    /**
+     * The volume the liquid in this Mixture would take up if its phases were {@link LegacyMixture#separatePhases separated}, without separating them.
+     * @param initialVolume The volume of this Mixture
+     * @return A volume in the same units as {@code initialVolume}
+     */
+    public double getLiquidVolume(double initialVolume) {
+        double liquidVolume = 0d;
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            liquidVolume += PhaseSeparation.liquidMolesAt(contents, i, initialVolume) / contents.speciesAt(i).getPureConcentration();
+        };
+        return liquidVolume;
+    };
+
+    /**
+     * The number of moles of gas in this Mixture, without {@link LegacyMixture#separatePhases separating} its phases.
+     * @param initialVolume The volume of this Mixture
+     */
+    public double getGasMoles(double initialVolume) {
+        double gasMoles = 0d;
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            gasMoles += PhaseSeparation.gasMolesAt(contents, i, initialVolume);
+        };
+        return gasMoles;
+    };
+
     /**
      * Get two new Mixtures from one - one containing all gas, one containing all liquid.
      * This doesn't mutate this Mixture.
@@ -614,41 +837,33 @@ public class LegacyMixture extends ReadOnlyMixture {
      * <li>{@code liquidVolume} A volume of liquid in the same units as {@code initialVolume}.</li></ul>
      */
     public Phases separatePhases(double initialVolume) {
-        Map<LegacySpecies, Double> liquidMoles = new HashMap<>();
-        Map<LegacySpecies, Double> gasMoles = new HashMap<>();
-
         double newLiquidVolume = 0d;
         double newGasVolume = 1d;
 
         LegacyMixture liquidMixture = new LegacyMixture();
         LegacyMixture gasMixture = new LegacyMixture();
 
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            LegacySpecies molecule = entry.getKey();
-            float concentration = entry.getValue();
-            float proportionGaseous = states.get(molecule);
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            newLiquidVolume += PhaseSeparation.liquidMolesAt(contents, i, initialVolume) / contents.speciesAt(i).getPureConcentration();
+        };
+
+        // Put Molecules in new Mixtures
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            LegacySpecies molecule = contents.speciesAt(i);
 
             // Liquid
-            double molesOfLiquidMolecule = concentration * (1f - proportionGaseous) * initialVolume;
-            liquidMoles.put(molecule, molesOfLiquidMolecule);
-            newLiquidVolume += molesOfLiquidMolecule / molecule.getPureConcentration();
+            double liquidMoles = PhaseSeparation.liquidMolesAt(contents, i, initialVolume);
+            if (liquidMoles != 0d) {
+                liquidMixture.internalAddMolecule(molecule, (float)(liquidMoles / newLiquidVolume), false);
+                liquidMixture.contents.setState(molecule, 0f);
+            };
 
             // Gas
-            gasMoles.put(molecule, concentration * proportionGaseous * initialVolume);
-        };
-
-        // Put Molecules in new Mixtures
-        for (Entry<LegacySpecies, Double> entry : liquidMoles.entrySet()) {
-            double moles = entry.getValue();
-            if (moles == 0d) continue;
-            liquidMixture.internalAddMolecule(entry.getKey(), (float)(moles / newLiquidVolume), false);
-            liquidMixture.states.put(entry.getKey(), 0f);
-        };
-        for (Entry<LegacySpecies, Double> entry : gasMoles.entrySet()) {
-            double moles = entry.getValue();
-            if (moles == 0d) continue;
-            gasMixture.internalAddMolecule(entry.getKey(), (float)(moles / newGasVolume), false);
-            gasMixture.states.put(entry.getKey(), 1f);
+            double gasMoles = PhaseSeparation.gasMolesAt(contents, i, initialVolume);
+            if (gasMoles != 0d) {
+                gasMixture.internalAddMolecule(molecule, (float)(gasMoles / newGasVolume), false);
+                gasMixture.contents.setState(molecule, 1f);
+            };
         };
 
         // Add Reaction Results to new Mixtures
@@ -661,8 +876,8 @@ public class LegacyMixture extends ReadOnlyMixture {
 
         liquidMixture.temperature = temperature;
         gasMixture.temperature = temperature;
-        liquidMixture.refreshPossibleReactions();
-        gasMixture.refreshPossibleReactions();
+        liquidMixture.invalidatePossibleReactions(); // Most separated Mixtures are only stored, so don't work out their Reactions until they're needed
+        gasMixture.invalidatePossibleReactions();
         liquidMixture.equilibrium = equilibrium;
         gasMixture.equilibrium = equilibrium;
 
@@ -676,25 +891,34 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @return Whether the possible Reactions for this Mixture should be updated
      */
     protected boolean doReaction(LegacyReaction reaction, float molesPerLiter) {
+        return doReaction(reaction.getKernel(), molesPerLiter);
+    };
+
+    /**
+     * @see LegacyMixture#doReaction(LegacyReaction, float)
+     */
+    protected boolean doReaction(ReactionKernel kernel, float molesPerLiter) {
 
+        LegacyReaction reaction = kernel.reaction;
         boolean shouldRefreshPossibleReactions = false;
 
-        for (LegacySpecies reactant : reaction.getReactants()) {
-            changeConcentrationOf(reactant, - (molesPerLiter * reaction.getReactantMolarRatio(reactant)), false); // Use up the right amount of all the reagents
+        for (int i = 0; i < kernel.reactants.length; i++) {
+            changeConcentrationOf(kernel.reactants[i], - (molesPerLiter * kernel.reactantRatios[i]), false); // Use up the right amount of all the reagents
         };
 
-        addEachProduct: for (LegacySpecies product : reaction.getProducts()) {
+        addEachProduct: for (int i = 0; i < kernel.products.length; i++) {
+            LegacySpecies product = kernel.products[i];
             if (product.isNovel() && getConcentrationOf(product) == 0f) { // If we have a novel Molecule that we don't think currently exists in the Mixture...
-                if (internalAddMolecule(product, molesPerLiter * reaction.getProductMolarRatio(product), false)) { // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and if it was actually a brand new Molecule...
+                if (internalAddMolecule(product, molesPerLiter * kernel.productRatios[i], false)) { // ...add it with this method, as this automatically checks for pre-existing novel Molecules, and if it was actually a brand new Molecule...
                     shouldRefreshPossibleReactions = true; // ...flag this
                 }; 
                 continue addEachProduct;
             };
 
-            if (!contents.containsKey(product)) { // If we are adding a new product, the possible Reactions will change
+            if (!contents.contains(product)) { // If we are adding a new product, the possible Reactions will change
                 shouldRefreshPossibleReactions = true;
             };
-            changeConcentrationOf(product, molesPerLiter * reaction.getProductMolarRatio(product), false); // Increase the concentration of the product
+            changeConcentrationOf(product, molesPerLiter * kernel.productRatios[i], false); // Increase the concentration of the product
         };
 
         heat(-reaction.getEnthalpyChange() * 1000 * molesPerLiter);
@@ -782,8 +1006,8 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     public float getVolumetricHeatCapacity() {
         float totalHeatCapacity = 0f;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            totalHeatCapacity += entry.getKey().getMolarHeatCapacity() * entry.getValue();
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            totalHeatCapacity += contents.speciesAt(i).getMolarHeatCapacity() * contents.concentrationAt(i);
         };
         return totalHeatCapacity;
     };
@@ -795,7 +1019,8 @@ public class LegacyMixture extends ReadOnlyMixture {
     protected void updateNextBoilingPoints(boolean ignoreCurrentTemperature) {
         nextHigherBoilingPoint = Pair.of(Float.MAX_VALUE, null);
         nextLowerBoilingPoint = Pair.of(0f, null);
-        for (LegacySpecies molecule : contents.keySet()) {
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            LegacySpecies molecule = contents.speciesAt(i);
             float bp = molecule.getBoilingPoint();
             if (bp < temperature || (bp == temperature && !ignoreCurrentTemperature)) {
                 if (bp > nextLowerBoilingPoint.getFirst()) nextLowerBoilingPoint = Pair.of(bp, molecule);
@@ -819,59 +1044,34 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @see LegacyMixture#addMolecule The wrapper for this method
      * @see LegacyMixture#changeConcentrationOf Modifying the concentration of pre-existing Molecule
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private boolean internalAddMolecule(LegacySpecies molecule, float concentration, boolean shouldRefreshReactions) {
+    boolean internalAddMolecule(LegacySpecies molecule, float concentration, boolean shouldRefreshReactions) {
 
-        boolean newMoleculeAdded = true; // Start by assuming we're adding a brand new Molecule to this solution
-
-        if (contents.containsKey(molecule)) { // Just in case this Molecule is already in the Mixture, increase its concentration
+        if (contents.contains(molecule)) { // Just in case this Molecule is already in the Mixture, increase its concentration
             changeConcentrationOf(molecule, concentration, shouldRefreshReactions);
             return false;
         };
 
-        if (!molecule.isNovel()) super.addMolecule(molecule, concentration);
-
-        List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
-        if (functionalGroups.size() != 0) {
-            for (LegacyFunctionalGroup group : functionalGroups) { // Unparameterised raw type
-                addGroupToMixture(molecule, group); // Unchecked conversion
-            };
-        };
-
         if (molecule.isNovel()) { // If this is a novel Molecule, it might already match to one of our existing novel Molecules
-            boolean found = false; // Start by assuming it's not already in the Mixture
-            for (LegacySpecies novelMolecule : novelMolecules) { // Check every novel Molecule
-                if (novelMolecule.getFullID().equals(molecule.getFullID())) {
-                    found = true;
-                    newMoleculeAdded = false; // We haven't actually added a brand new Molecule so flag this
-                    changeConcentrationOf(novelMolecule, concentration, true);
-                    equilibrium = false;
-                };
-            };
-            if (!found) {
-                super.addMolecule(molecule, concentration);
-                novelMolecules.add(molecule); // If it was actually a brand new Molecule, add it to the novel list
-            };
-            if (newMoleculeAdded) {
-                reactionResults.put(new NovelCompoundSynthesizedReactionResult(0f, null, molecule), 1f);
+            LegacySpecies novelMolecule = novelMolecules.get(molecule.getFullID());
+            if (novelMolecule != null) {
+                changeConcentrationOf(novelMolecule, concentration, true);
+                equilibrium = false;
+                return false; // We haven't actually added a brand new Molecule so flag this
             };
+            novelMolecules.put(molecule.getFullID(), molecule); // If it was actually a brand new Molecule, add it to the novel list
+            reactionResults.put(new NovelCompoundSynthesizedReactionResult(0f, null, molecule), 1f);
         };
 
-        if (shouldRefreshReactions && newMoleculeAdded) {
+        super.addMolecule(molecule, concentration);
+        reactionCacher.componentAdded(molecule); // Specify only the Generic Reactions this new Molecule can take part in
+
+        if (shouldRefreshReactions) {
             refreshPossibleReactions();
         };
 
         equilibrium = false;
 
-        return newMoleculeAdded; // Return whether or not we actually added a brand new Molecule
-    };
-
-    private <G extends LegacyFunctionalGroup<G>> void addGroupToMixture(LegacySpecies molecule, G group) {
-        LegacyFunctionalGroupType<? extends G> groupType = group.getType();
-        if (!groupIDsAndMolecules.containsKey(groupType)) {
-            groupIDsAndMolecules.put(groupType, new ArrayList<>());
-        };
-        groupIDsAndMolecules.get(groupType).add(new GenericReactant<>(molecule, group));
+        return true; // We actually added a brand new Molecule
     };
 
     /**
@@ -882,15 +1082,8 @@ public class LegacyMixture extends ReadOnlyMixture {
      */
     private LegacyMixture removeMolecule(LegacySpecies molecule) {
 
-        List<LegacyFunctionalGroup<?>> functionalGroups = molecule.getFunctionalGroups();
-        if (functionalGroups.size() != 0) {
-            for (LegacyFunctionalGroup<?> group : functionalGroups) {
-                groupIDsAndMolecules.get(group.getType()).removeIf((reactant) -> {
-                    return reactant.getMolecule() == molecule;
-                });
-            };
-        };
-        if (molecule.isNovel()) novelMolecules.remove(molecule);
+        reactionCacher.componentRemoved(molecule); // Drop only the specified Generic Reactions which needed this Molecule
+        if (molecule.isNovel()) novelMolecules.remove(molecule.getFullID(), molecule);
 
         contents.remove(molecule);
         equilibrium = false; // As we have removed a Molecule the position of equilibrium is likely to change
@@ -907,29 +1100,29 @@ public class LegacyMixture extends ReadOnlyMixture {
      * @param shouldRefreshReactions Whether to alter the possible {@link LegacyReaction Reactions} in the case that a new Molecule is added to the Mixture (should almost always be {@code true})
      */
     private LegacyMixture changeConcentrationOf(LegacySpecies molecule, float change, boolean shouldRefreshReactions) {
-        Float currentConcentration = getConcentrationOf(molecule);
+        float currentConcentration = getConcentrationOf(molecule);
 
-        if (!contents.containsKey(molecule) && change > 0f) internalAddMolecule(molecule, change, shouldRefreshReactions);
+        if (!contents.contains(molecule) && change > 0f) internalAddMolecule(molecule, change, shouldRefreshReactions);
 
         if (currentConcentration <= 0f && change < 0f) throw new IllegalArgumentException("Attempted to decrease concentration of Molecule '" + molecule.getFullID()+"', which was not in a Mixture. The Mixture contains " + getContentsString());
 
         float newConcentration = Math.max(currentConcentration + change, 0f);
-        contents.replace(molecule, newConcentration);
+        contents.setConcentration(molecule, newConcentration);
         if (newConcentration <= 0f) moleculesToRemove.put(molecule, 10); // Mark this Molecule as imminent for removal - but don't actually remove it in case it gets added back soon
         if (newConcentration > 0f) moleculesToRemove.remove(molecule); // This molecule no longer needs to be removed if it was going to be
         return this;
     };
 
     /**
-     * Get the rate - in moles of Reaction per Bucket <em>per tick</em> (not per second) - at which this {@link LegacyReaction} will proceed in this Mixture.
-     * @param reaction
+     * Get the rate - in moles of Reaction per Bucket <em>per tick</em> (not per second) - at which the {@link LegacyReaction} of this {@link ReactionKernel Kernel} will proceed in this Mixture.
+     * @param kernel
      */
-    private float calculateReactionRate(LegacyReaction reaction, ReactionContext context) {
-        float rate = reaction.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
-        for (LegacySpecies molecule : reaction.getOrders().keySet()) {
-            rate *= (float)Math.pow(getConcentrationOf(molecule), reaction.getOrders().get(molecule));
+    private float calculateReactionRate(ReactionKernel kernel, ReactionContext context) {
+        float rate = kernel.getRateConstant(temperature) / (float) TICKS_PER_SECOND;
+        for (int i = 0; i < kernel.orderedMolecules.length; i++) {
+            rate *= ReactionKernel.power(getConcentrationOf(kernel.orderedMolecules[i]), kernel.orders[i]);
         };
-        if (reaction.needsUV()) rate *= context.UVPower;
+        if (kernel.reaction.needsUV()) rate *= context.UVPower;
         return rate;
     };
 
@@ -937,127 +1130,47 @@ public class LegacyMixture extends ReadOnlyMixture {
      * Determine all {@link LegacyReaction Reactions} - including {@link GenericReactions Generic Reactions} that are possible with the {@link LegacySpecies Molecules} in this Mixture,
      * and update the {@link LegacyMixture#possibleReactions stored possible Reactions} accordingly.
      * This should be called whenever new Molecules have been {@link LegacyMixture#addMolecule added} to the Mixture, or a Molecule has been removed entirely, but rarely otherwise.
+     * Generic Reactions are not regenerated here - the {@link LegacyMixture#reactionCacher Reaction cacher} specifies them as Molecules are added and removed.
      */
     private void refreshPossibleReactions() {
-        possibleReactions = new ArrayList<>();
-        Set<LegacyReaction> newPossibleReactions = new HashSet<>();
-
-        // Generate specific Generic Reactions
-        for (LegacyFunctionalGroupType<?> groupType : groupIDsAndMolecules.keySet()) { // Only search for Generic Reactions of Groups present in this Molecule
-            checkEachGenericReaction: for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(groupType)) {
-
-                if (!genericReaction.isPossibleIn(this)) continue checkEachGenericReaction;
-
-                if (genericReaction.involvesSingleGroup()) { // Generic Reactions involving only one functional Group
-                    newPossibleReactions.addAll(specifySingleGroupGenericReactions(genericReaction, groupIDsAndMolecules.get(groupType)));
-                
-                } else { // Generic Reactions involving two functional Groups
-                    if (!(genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr)) continue checkEachGenericReaction; // This check should never fail
-                    if (groupType != dggr.getFirstGroupType()) continue checkEachGenericReaction; // Only generate Reactions when we're dealing with the first Group type
-                    
-                    LegacyFunctionalGroupType<?> secondGroupType = dggr.getSecondGroupType();
-                    if (!groupIDsAndMolecules.keySet().contains(secondGroupType)) continue checkEachGenericReaction; // We can't do this generic reaction if we only have one group type
-                    
-                    List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs = new ArrayList<>();
-                    for (GenericReactant<?> firstGenericReactant : groupIDsAndMolecules.get(groupType)) {
-                        for (GenericReactant<?> secondGenericReactant : groupIDsAndMolecules.get(secondGroupType)) {
-                            reactantPairs.add(Pair.of(firstGenericReactant, secondGenericReactant));
-                        };
-                    };
-
-                    newPossibleReactions.addAll(specifyDoubleGroupGenericReactions(dggr, reactantPairs));
-                };
-            };
-        };
-
-        //All Reactions
-        for (LegacySpecies possibleReactant : contents.keySet()) {
-            newPossibleReactions.addAll(possibleReactant.getReactantReactions());
-        };
-        for (LegacyReaction reaction : newPossibleReactions) {
-            //possibleReactions.add(reaction);
-
-            /* 
-             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
-             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
-             */ 
-            boolean reactionHasAllReactants = true;
-            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
-                if (getConcentrationOf(necessaryReactantOrCatalyst) == 0) {
-                    reactionHasAllReactants = false;
-                    break;
-                };
-            };
-            if (reactionHasAllReactants) {
-                possibleReactions.add(reaction);
-            };
-        };
-
+        possibleReactions = reactionCacher.getPossibleReactions();
+        possibleReactionsStale = false;
     };
 
     /**
-     * Given a {@link SingleGroupGenericReaction Generic Reaction} involving only one {@link LegacyFunctionalGroup functional Group},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is the {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.SaturatedCarbonHydrolysis hydration of an alkene},
-     * and <b>reactants</b> includes {@code destroy:ethene}, the returned collection will include a Reaction with {@code destroy:ethene} and {@code destroy:water} as reactants,
-     * {@code destroy:ethanol} as a product, and all the appropriate rate constants and catalysts as defined in the {@link com.petrolpark.destroy.chemistry.index.SaturatedCarbonHydrolysis.AlkeneHydration#generateReaction generator}.</p>
-     * 
-     * @param <G> <b>G</b> The Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactants All {@link GenericReactant Reactants} that have the Group
-     * @return A Collection of all specified Reactions
+     * Mark the {@link LegacyMixture#possibleReactions possible Reactions} as out of date, so they are only {@link LegacyMixture#refreshPossibleReactions refreshed}
+     * when they are next needed. This is used in place of refreshing them when many Molecules have been added to a new Mixture which might never be reacted.
      */
-    @SuppressWarnings("unchecked")
-    private <G extends LegacyFunctionalGroup<G>> List<LegacyReaction> specifySingleGroupGenericReactions(GenericReaction genericReaction, List<GenericReactant<?>> reactants) {
-        List<LegacyReaction> reactions = new ArrayList<>();
-        SingleGroupGenericReaction<G> singleGroupGenericReaction = (SingleGroupGenericReaction<G>) genericReaction; // Unchecked conversion
-        for (GenericReactant<?> reactant : reactants) {
-            try {
-                LegacyReaction reaction = singleGroupGenericReaction.generateReaction((GenericReactant<G>)reactant);
-                if (reaction != null) reactions.add(reaction); // Unchecked conversion
-            } catch(ChemistryException e) {
-                // Don't do anything for chemistry exceptions
-            };
-        };
-        return reactions;
+    void invalidatePossibleReactions() {
+        possibleReactionsStale = true;
     };
 
     /**
-     * Given a {@link DoubleGroupGenericReaction Generic Reaction} involving two {@link LegacyFunctionalGroup functional Groups},
-     * generates the specified {@link LegacyReaction Reactions} that apply to this Mixture.
-     * 
-     * <p>For example, if the Generic Reaction supplied is {@link com.petrolpark.destroy.chemistry.legacy.index.genericreaction.AcylChlorideEsterification esterification},
-     * and this this Mixture contains methanoyl chloride, ethanoyl chloride, and ethanol, the returned collection will include two Reactions, one of which makes 
-     * ethyl ethanoate and the other ethyl methanoate.</p>
-     * 
-     * @param <G1> <b>G1</b> The first Group to which this Generic Reaction applies
-     * @param <G2> <b>G2</b> The second Group to which this Generic Reaction applies
-     * @param genericReaction
-     * @param reactantPairs All possible pairs of {@link GenericReactant Reactants} in this Mixture
-     * @return A Collection of specified Reactions
-     * @see LegacyMixture#specifySingleGroupGenericReactions A more in-depth description
+     * Get all {@link LegacyReaction Reactions} which are possible in this Mixture.
      */
-    @SuppressWarnings("unchecked")
-    private <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> List<LegacyReaction> specifyDoubleGroupGenericReactions(GenericReaction genericReaction, List<Pair<GenericReactant<?>, GenericReactant<?>>> reactantPairs) {
-            DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
-            List<LegacyReaction> reactions = new ArrayList<>();
-            for (Pair<GenericReactant<?>, GenericReactant<?>> reactantPair : reactantPairs) {
-                if (reactantPair.getFirst().getMolecule() == reactantPair.getSecond().getMolecule()) continue; // Cannot React Molecules with themselves
-                try {
-                    LegacyReaction reaction = doubleGroupGenericReaction.generateReaction((GenericReactant<G1>)reactantPair.getFirst(), (GenericReactant<G2>)reactantPair.getSecond());
-                    if (reaction != null) reactions.add(reaction); // Unchecked conversions {
-                } catch(ChemistryException e) {
-                    // Do nothing for chemistry exceptions
-                };
-            };
-            return reactions;
+    public List<LegacyReaction> getPossibleReactions() {
+        if (possibleReactionsStale) refreshPossibleReactions();
+        return Collections.unmodifiableList(possibleReactions);
     };
 
     public static boolean areVeryClose(float f1, float f2) {
         return Math.abs(f1 - f2) <= 1 / 512f / 512f;
     };
 
+    /**
+     * How a {@link LegacyMixture} {@link LegacyMixture#reactForTick reacts} over each tick.
+     */
+    public static enum IntegrationMode {
+        /**
+         * Enact every {@link LegacyReaction Reaction} a fixed number of times per tick, slowest first, each limited by its reagents.
+         */
+        FIXED_CYCLES,
+        /**
+         * Integrate the rate equations over the whole tick with the {@link AdaptiveReactionIntegrator}, which takes as few or as many steps as the Mixture needs.
+         */
+        ADAPTIVE;
+    };
+
     /**
      * The context for the {@link LegacyMixture#reactForTick reaction} of a {@link LegacyMixture}.
      * <strong>Do not modify its fields, or anything contained within them.</em>
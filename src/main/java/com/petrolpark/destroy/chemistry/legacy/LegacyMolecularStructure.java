@@ -23,6 +23,8 @@ import com.petrolpark.destroy.chemistry.legacy.LegacyBond.BondType;
 import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure.Topology.SideChainInformation;
 import com.petrolpark.destroy.chemistry.serializer.Branch;
+import com.petrolpark.destroy.chemistry.serializer.CanonicalBranchFinder;
+import com.petrolpark.destroy.chemistry.serializer.CanonicalBranchFinder.CanonicalBranch;
 import com.petrolpark.destroy.chemistry.serializer.Node;
 import com.simibubi.create.foundation.utility.Pair;
 
@@ -705,10 +707,12 @@ public class LegacyMolecularStructure implements Cloneable {
      * The {@link Topology} of this Formula is not included, and in fact this will quietly fail for cyclic {@link LegacySpecies Molecules}.
      * @param atom
      */
-    private Branch getStrippedBranchStartingWithAtom(LegacyAtom atom) {
+    private CanonicalBranch getStrippedBranchStartingWithAtom(LegacyAtom atom) {
         Map<LegacyAtom, List<LegacyBond>> newStructure = stripHydrogens(structure);
         if (topology == Topology.LINEAR) {
-            return getMaximumBranch(atom, newStructure);
+            CanonicalBranchFinder finder = new CanonicalBranchFinder(newStructure);
+            if (!finder.isAcyclic()) return CanonicalBranch.of(getMaximumBranch(atom, newStructure));
+            return finder.getMaximumBranch(atom);
         } else {
             throw new FormulaSerializationException("Cannot serialize branch if it is cyclic.");
         }
@@ -732,27 +736,33 @@ public class LegacyMolecularStructure implements Cloneable {
 
             Map<LegacyAtom, List<LegacyBond>> newStructure = stripHydrogens(structure);
 
-            body = getMaximumBranchWithHighestMass(newStructure).serialize();
+            CanonicalBranchFinder finder = new CanonicalBranchFinder(newStructure);
+            if (finder.isAcyclic()) {
+                CanonicalBranch branch = finder.getMaximumBranchWithHighestMass();
+                body = branch == null ? "" : branch.code();
+            } else { // Linear structures should not contain rings, but if they do, they can only be serialized the slow way
+                body = getMaximumBranchWithHighestMass(newStructure).serialize();
+            };
 
         } else {
             updateSideChainStructures();
-            List<Branch> identity = new ArrayList<>(topology.getConnections());
+            List<CanonicalBranch> identity = new ArrayList<>(topology.getConnections());
 
             if (topology.getConnections() > 0) for (int i = 0; i < topology.getConnections(); i++) {
                 LegacyMolecularStructure sideChain = sideChains.get(i).getSecond();
                 if (sideChain.getAllAtoms().size() == 0 || (sideChain.startingAtom.isNeutralHydrogen())) { // If there is nothing or just a hydrogen
-                    identity.add(new Branch(new Node(new LegacyAtom(LegacyElement.HYDROGEN))));
+                    identity.add(CanonicalBranch.of(new Branch(new Node(new LegacyAtom(LegacyElement.HYDROGEN)))));
                 } else {
                     identity.add(sideChain.getStrippedBranchStartingWithAtom(sideChain.startingAtom));
                 };
             };
             
-            List<List<Branch>> possibleReflections = new ArrayList<>(topology.getReflections().length + 1);
+            List<List<CanonicalBranch>> possibleReflections = new ArrayList<>(topology.getReflections().length + 1);
             possibleReflections.add(identity);
 
             // Add all possible rearrangements of the same Branches that are still the same isomer
             for (int[] reflectionOrder : topology.getReflections()) {
-                List<Branch> reflection = new ArrayList<>(topology.getConnections());
+                List<CanonicalBranch> reflection = new ArrayList<>(topology.getConnections());
                 for (int reflectedBranchPosition : reflectionOrder) {
                     reflection.add(identity.get(reflectedBranchPosition));
                 };
@@ -762,11 +772,11 @@ public class LegacyMolecularStructure implements Cloneable {
             // Sort the possible reflections so the first element is the reflection that gives the highest mass branch in position 0, the next highest in position 1, etc.
             Collections.sort(possibleReflections, (r1, r2) -> getReflectionComparison(r1).compareTo(getReflectionComparison(r2)));
 
-            List<Branch> bestReflection = possibleReflections.get(0);
+            List<CanonicalBranch> bestReflection = possibleReflections.get(0);
             if (bestReflection.size() > 0) for (int i = 0; i < topology.getConnections(); i++) {
-                Branch branch = bestReflection.get(i);
-                if (!branch.getStartNode().getAtom().isNeutralHydrogen()) { // If there's actually a chain to add and not just a hydrogen
-                    body += branch.serialize();
+                CanonicalBranch branch = bestReflection.get(i);
+                if (!branch.atom().isNeutralHydrogen()) { // If there's actually a chain to add and not just a hydrogen
+                    body += branch.code();
                 };
                 body += ",";
             };
@@ -778,10 +788,10 @@ public class LegacyMolecularStructure implements Cloneable {
 
     };
 
-    private static Float getReflectionComparison(List<Branch> reflection) {
+    private static Float getReflectionComparison(List<CanonicalBranch> reflection) {
         float total = 0f;
         for (int i = 0; i < reflection.size(); i++) {
-            total += i * reflection.get(i).getMassOfLongestChain();
+            total += i * reflection.get(i).massOfLongestChain();
         };
         return total;
     };
@@ -114,6 +114,12 @@ public class LegacyReaction {
      */
     private LegacyReaction reverseReaction;
 
+    /**
+     * This Reaction flattened into arrays for {@link LegacyMixture#reactForTick reacting}, or {@code null} if it has not been needed yet.
+     * @see LegacyReaction#getKernel The getter for this field
+     */
+    private ReactionKernel kernel;
+
     /**
      * Get the Reaction with the given {@link LegacyReaction#getFullId ID}.
      * @param reactionId In the format {@code <namespace>:<id>}
@@ -329,6 +335,19 @@ public class LegacyReaction {
         return this.orders;
     };
 
+    /**
+     * Get the {@link ReactionKernel} of this Reaction, compiling it if this is the first time it has been needed.
+     * This should only be called once the Reaction has been {@link ReactionBuilder#build built}.
+     */
+    public ReactionKernel getKernel() {
+        ReactionKernel k = kernel;
+        if (k == null) {
+            k = new ReactionKernel(this, reactants, products, orders);
+            kernel = k; // Two threads compiling at once is harmless, as both Kernels would be identical
+        };
+        return k;
+    };
+
     /**
      * Get the {@link LegacyReaction#standardHalfCellPotential standard half cell potential} of this reduction half-Reaction.
      * @return {@code 0f} if this is not a reduction half-Reaction
@@ -0,0 +1,198 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactionCache;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
+
+/**
+ * A store of the {@link LegacyReaction Reactions} possible in a {@link LegacyMixture}, which is updated as {@link LegacySpecies Molecules}
+ * are {@link LegacyReactionCacher#componentAdded added} to and {@link LegacyReactionCacher#componentRemoved removed} from the Mixture,
+ * rather than regenerating every {@link GenericReaction Generic Reaction} whenever anything changes.
+ * <p>This is the legacy counterpart to {@link com.petrolpark.destroy.chemistry.api.transformation.cacher.ITransformationCacher}.</p>
+ */
+public class LegacyReactionCacher {
+
+    /**
+     * The Mixture whose possible {@link LegacyReaction Reactions} this caches.
+     */
+    protected final LegacyMixture mixture;
+
+    /**
+     * Every {@link LegacySpecies} in the Mixture that has a {@link LegacyFunctionalGroup functional Group}, indexed by the {@link LegacyFunctionalGroup#getType Type} of that Group.
+     * Molecules which have multiple of the same Group are indexed for each occurence of the Group.
+     */
+    protected final Map<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> groupIDsAndMolecules;
+
+    /**
+     * Every {@link LegacyReaction Reaction} specified from a {@link GenericReaction Generic Reaction} for the {@link LegacySpecies Molecules} in the Mixture.
+     * These are not all necessarily possible - that is checked when {@link LegacyReactionCacher#getPossibleReactions getting the possible Reactions}.
+     */
+    protected final Set<SpecifiedReaction> specifiedReactions;
+
+    /**
+     * The {@link LegacyReactionCacher#specifiedReactions specified Reactions}, indexed by each {@link GenericReactant generic Reactant} Molecule they need,
+     * so they can be dropped when that Molecule is removed.
+     */
+    protected final Map<LegacySpecies, List<SpecifiedReaction>> specifiedReactionsByMolecule;
+
+    public LegacyReactionCacher(LegacyMixture mixture) {
+        this.mixture = mixture;
+        groupIDsAndMolecules = new HashMap<>();
+        specifiedReactions = new LinkedHashSet<>();
+        specifiedReactionsByMolecule = new HashMap<>();
+    };
+
+    /**
+     * Make this Cacher hold exactly the same {@link GenericReactant Reactants} and {@link SpecifiedReaction specified Reactions} as another,
+     * for when the contents of its {@link LegacyMixture} have been copied from the other's.
+     * @param other
+     */
+    public void copyFrom(LegacyReactionCacher other) {
+        groupIDsAndMolecules.clear();
+        other.groupIDsAndMolecules.forEach((groupType, reactants) -> groupIDsAndMolecules.put(groupType, new ArrayList<>(reactants)));
+        specifiedReactions.clear();
+        specifiedReactions.addAll(other.specifiedReactions);
+        specifiedReactionsByMolecule.clear();
+        other.specifiedReactionsByMolecule.forEach((molecule, reactions) -> specifiedReactionsByMolecule.put(molecule, new ArrayList<>(reactions)));
+    };
+
+    /**
+     * A {@link LegacyReaction} generated by a {@link GenericReaction}.
+     * @param genericReaction The Generic Reaction from which this was specified
+     * @param reaction
+     * @param firstReactant The Molecule with the first (or only) Group
+     * @param secondReactant The Molecule with the second Group, or {@code null} for {@link SingleGroupGenericReaction single-Group Generic Reactions}
+     */
+    protected static record SpecifiedReaction(GenericReaction genericReaction, LegacyReaction reaction, LegacySpecies firstReactant, @Nullable LegacySpecies secondReactant) {};
+
+    /**
+     * Get all {@link LegacyReaction Reactions} (both known ones and ones {@link GenericReaction specified}) which are possible in the Mixture as it currently is.
+     * This does not generate any new Reactions, so is much cheaper than regenerating everything but should still not be called more than necessary.
+     * <p>No guarantee is made about the order of the Reactions in this List, but it contains no repeats.</p>
+     */
+    public List<LegacyReaction> getPossibleReactions() {
+        Set<LegacyReaction> newPossibleReactions = new LinkedHashSet<>();
+
+        // Specified Generic Reactions
+        Map<GenericReaction, Boolean> possibleGenericReactions = new HashMap<>();
+        for (SpecifiedReaction specifiedReaction : specifiedReactions) {
+            if (possibleGenericReactions.computeIfAbsent(specifiedReaction.genericReaction(), genericReaction -> genericReaction.isPossibleIn(mixture))) newPossibleReactions.add(specifiedReaction.reaction());
+        };
+
+        // All Reactions
+        for (int i = mixture.contents.first(); i >= 0; i = mixture.contents.next(i)) {
+            newPossibleReactions.addAll(mixture.contents.speciesAt(i).getReactantReactions());
+        };
+
+        List<LegacyReaction> possibleReactions = new ArrayList<>(newPossibleReactions.size());
+        checkEachReaction: for (LegacyReaction reaction : newPossibleReactions) {
+            /*
+             * This checks if all necessary Reactants were present before proceeding, however this leads to some infinite loops
+             * where one half of a reversible Reaction would happen one tick, then the other one the next, etc.
+             */
+            for (LegacySpecies necessaryReactantOrCatalyst : reaction.getOrders().keySet()) {
+                if (mixture.getConcentrationOf(necessaryReactantOrCatalyst) == 0) continue checkEachReaction;
+            };
+            possibleReactions.add(reaction);
+        };
+        return possibleReactions;
+    };
+
+    /**
+     * Notify this Cacher that a {@link LegacySpecies} has been added to its {@link LegacyMixture}.
+     * This specifies only those {@link GenericReaction Generic Reactions} which involve the new Molecule.
+     * @param molecule Should not already be in the Mixture
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void componentAdded(LegacySpecies molecule) {
+        for (LegacyFunctionalGroup group : molecule.getFunctionalGroups()) { // Unparameterised raw type
+            addGroup(molecule, group); // Unchecked conversion
+        };
+    };
+
+    /**
+     * Notify this Cacher that a {@link LegacySpecies} has been entirely removed from its {@link LegacyMixture}.
+     * This drops only those {@link GenericReaction specified Reactions} which needed the Molecule.
+     * @param molecule
+     */
+    public void componentRemoved(LegacySpecies molecule) {
+        for (LegacyFunctionalGroup<?> group : molecule.getFunctionalGroups()) {
+            List<GenericReactant<?>> reactants = groupIDsAndMolecules.get(group.getType());
+            if (reactants != null) reactants.removeIf(reactant -> reactant.getMolecule() == molecule);
+        };
+        List<SpecifiedReaction> reactionsOfMolecule = specifiedReactionsByMolecule.remove(molecule);
+        if (reactionsOfMolecule == null) return;
+        for (SpecifiedReaction specifiedReaction : reactionsOfMolecule) {
+            specifiedReactions.remove(specifiedReaction);
+            LegacySpecies otherReactant = specifiedReaction.firstReactant() == molecule ? specifiedReaction.secondReactant() : specifiedReaction.firstReactant();
+            if (otherReactant == null) continue;
+            List<SpecifiedReaction> reactionsOfOtherReactant = specifiedReactionsByMolecule.get(otherReactant);
+            if (reactionsOfOtherReactant != null) reactionsOfOtherReactant.remove(specifiedReaction);
+        };
+    };
+
+    /**
+     * Index a {@link GenericReactant} and specify every {@link GenericReaction} in which it can take part with the Molecules already in the Mixture.
+     * For {@link DoubleGroupGenericReaction double-Group Generic Reactions}, each pair of Reactants is only ever specified once - by whichever of the two arrives second.
+     */
+    @SuppressWarnings("unchecked")
+    private <G extends LegacyFunctionalGroup<G>> void addGroup(LegacySpecies molecule, G group) {
+        LegacyFunctionalGroupType<? extends G> groupType = group.getType();
+        GenericReactant<G> newReactant = new GenericReactant<>(molecule, group);
+
+        Set<GenericReaction> genericReactions = LegacyFunctionalGroup.getReactionsOfGroupByID(groupType);
+        if (genericReactions != null) for (GenericReaction genericReaction : genericReactions) {
+            if (genericReaction.involvesSingleGroup()) {
+                specify(genericReaction, () -> GenericReactionCache.getOrGenerate((SingleGroupGenericReaction<G>)genericReaction, newReactant), molecule, null); // Unchecked conversion
+            } else if (genericReaction instanceof DoubleGroupGenericReaction<?, ?> dggr) {
+                if (dggr.getFirstGroupType() == groupType) {
+                    for (GenericReactant<?> secondReactant : groupIDsAndMolecules.getOrDefault(dggr.getSecondGroupType(), List.of())) {
+                        if (secondReactant.getMolecule() == molecule) continue; // Cannot React Molecules with themselves
+                        specifyDouble(dggr, newReactant, secondReactant);
+                    };
+                };
+                if (dggr.getSecondGroupType() == groupType) {
+                    for (GenericReactant<?> firstReactant : groupIDsAndMolecules.getOrDefault(dggr.getFirstGroupType(), List.of())) {
+                        if (firstReactant.getMolecule() == molecule) continue; // Cannot React Molecules with themselves
+                        specifyDouble(dggr, firstReactant, newReactant);
+                    };
+                };
+            };
+        };
+
+        groupIDsAndMolecules.computeIfAbsent(groupType, t -> new ArrayList<>()).add(newReactant);
+    };
+
+    @SuppressWarnings("unchecked")
+    private <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> void specifyDouble(DoubleGroupGenericReaction<?, ?> genericReaction, GenericReactant<?> firstReactant, GenericReactant<?> secondReactant) {
+        DoubleGroupGenericReaction<G1, G2> doubleGroupGenericReaction = (DoubleGroupGenericReaction<G1, G2>) genericReaction; // Unchecked conversion
+        specify(genericReaction, () -> GenericReactionCache.getOrGenerate(doubleGroupGenericReaction, (GenericReactant<G1>)firstReactant, (GenericReactant<G2>)secondReactant), firstReactant.getMolecule(), secondReactant.getMolecule()); // Unchecked conversions
+    };
+
+    private void specify(GenericReaction genericReaction, Supplier<LegacyReaction> generator, LegacySpecies firstReactant, @Nullable LegacySpecies secondReactant) {
+        LegacyReaction reaction;
+        try {
+            reaction = generator.get();
+        } catch (ChemistryException e) {
+            return; // Don't do anything for chemistry exceptions
+        };
+        if (reaction == null) return;
+        SpecifiedReaction specifiedReaction = new SpecifiedReaction(genericReaction, reaction, firstReactant, secondReactant);
+        specifiedReactions.add(specifiedReaction);
+        specifiedReactionsByMolecule.computeIfAbsent(firstReactant, m -> new ArrayList<>()).add(specifiedReaction);
+        if (secondReactant != null) specifiedReactionsByMolecule.computeIfAbsent(secondReactant, m -> new ArrayList<>()).add(specifiedReaction);
+    };
+};
@@ -1,6 +1,9 @@
 package com.petrolpark.destroy.chemistry.legacy;
+import java.lang.ref.Cleaner;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,9 +13,12 @@ import java.util.Set;
 import javax.annotation.Nullable;
 
 import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException.FormulaSerializationException;
 import com.petrolpark.destroy.chemistry.api.error.ChemistryException.FormulaException.FormulaModificationException;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure.Topology;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure.Topology.SideChainInformation;
@@ -53,6 +59,31 @@ public class LegacySpecies implements INameableProduct {
      * All non-novel Molecules known to Destroy, indexed by their {@link LegacySpecies#getFullID ID}.
      */
     public static final Map<String, LegacySpecies> MOLECULES = new HashMap<>(); // Map of Molecules stored by their IDs
+    /**
+     * All non-novel Molecules known to Destroy, indexed by the <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> code of their {@link LegacyMolecularStructure structure},
+     * so that {@link LegacySpecies#getEquivalent equivalents} can be found without checking every Molecule.
+     */
+    private static final Map<String, LegacySpecies> MOLECULES_BY_STRUCTURE = new HashMap<>();
+    /**
+     * Every novel Molecule currently in use, indexed by its FROWNS code, so that novel Molecules with the same structure are always the same object.
+     * Molecules are only weakly held, so ones no longer in any {@link LegacyMixture} or {@link LegacyReaction} are forgotten.
+     */
+    private static final Cache<String, LegacySpecies> NOVEL_MOLECULES = CacheBuilder.newBuilder()
+        .weakValues()
+        .build();
+
+    /**
+     * Returns the {@link LegacySpecies#index indices} of novel Molecules which have been garbage-collected, so they can be reused.
+     */
+    private static final Cleaner INDEX_CLEANER = Cleaner.create();
+    /**
+     * {@link LegacySpecies#index Indices} which belonged to novel Molecules which no longer exist.
+     */
+    private static final Deque<Integer> FREE_INDICES = new ArrayDeque<>();
+    /**
+     * The {@link LegacySpecies#index index} the next Molecule will be given if there are no {@link LegacySpecies#FREE_INDICES free} ones.
+     */
+    private static int nextIndex = 0;
 
     /**
      * The name space of the mod by which this Molecule was defined.
@@ -62,6 +93,11 @@ public class LegacySpecies implements INameableProduct {
      * The {@link LegacySpecies#getFullID ID} of this Molecule, not including its {@link LegacySpecies#nameSpace name space}.
      */
     private String id;
+    /**
+     * The position of this Molecule in the arrays of {@link MixtureContents}. Known Molecules are given one when they are registered and novel Molecules when they are first needed.
+     * This is {@code -1} until then.
+     */
+    private volatile int index;
 
     // PHYSICAL PROPERTIES
 
@@ -146,6 +182,7 @@ public class LegacySpecies implements INameableProduct {
     private LegacySpecies(String nameSpace) {
         this.nameSpace = nameSpace;
         id = null;
+        index = -1;
         structure = null;
 
         tags = new HashSet<>();
@@ -162,7 +199,7 @@ public class LegacySpecies implements INameableProduct {
      * </ul><p>This method does not {@link LegacySpecies#getEquivalent check for pre-existing defined Molecules} of the same structure. To generate novel Molecules from a
      * FROWNS code {@code x:y} and also check if they already exist, use a {@link MoleculeBuilder Molecule Builder} with {@code .structure(Formula.deserialize(x:y))}.</p>
      * @param id ID or full FROWNS code.
-     * @return A new Molecule instance for novel Molecules; the existing Molecule object for known ones
+     * @return The shared Molecule instance with that structure for novel Molecules; the existing Molecule object for known ones
      */
     @Nullable
     public static LegacySpecies getMolecule(String id) {
@@ -204,6 +241,33 @@ public class LegacySpecies implements INameableProduct {
         }
     };
 
+    /**
+     * Get the position of this Molecule in the arrays of {@link MixtureContents}. These are dense, so the most any Mixture's arrays need to hold is one slot for each known Molecule
+     * and novel Molecule currently in use.
+     */
+    public int getIndex() {
+        int i = index;
+        if (i < 0) i = assignIndex();
+        return i;
+    };
+
+    private synchronized int assignIndex() {
+        if (index >= 0) return index;
+        synchronized (FREE_INDICES) {
+            Integer freeIndex = FREE_INDICES.poll();
+            index = freeIndex == null ? nextIndex++ : freeIndex;
+        };
+        if (isNovel()) {
+            int novelIndex = index;
+            INDEX_CLEANER.register(this, () -> { // This must not refer to this Molecule or it will never be collected
+                synchronized (FREE_INDICES) {
+                    FREE_INDICES.push(novelIndex);
+                };
+            });
+        };
+        return index;
+    };
+
     /**
      * Checks all {@link LegacySpecies#MOLECULES known Molecules} for those which have the same structure as this one - this allows novel Molecules
      * generated by {@link com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction Generic Reactions} to be matched to pre-existing Molecules,
@@ -213,14 +277,15 @@ public class LegacySpecies implements INameableProduct {
      * @return A pre-existing Molecule object if there is a match, or this Molecule otherwise
      */
     public LegacySpecies getEquivalent() {
-        for (LegacySpecies molecule : MOLECULES.values()) {
-            if (Math.abs(getMass() - molecule.getMass()) < 0.001) { // Initially just check the masses match
-                if (structure.serialize().equals(molecule.structure.serialize())) { // Check the structures match
-                    return molecule;
-                };
-            };
-        };
-        return this;
+        LegacySpecies molecule = MOLECULES_BY_STRUCTURE.get(structure.serialize());
+        return molecule == null ? this : molecule;
+    };
+
+    /**
+     * The number of novel Molecules which are currently {@link LegacySpecies#NOVEL_MOLECULES shared}.
+     */
+    public static long getNovelMoleculeCount() {
+        return NOVEL_MOLECULES.size();
     };
 
     public String getFROWNSCode() {
@@ -726,10 +791,10 @@ public class LegacySpecies implements INameableProduct {
         /**
          * Builds the {@link LegacySpecies}. This will also:<ul>
          * <li>Estimate the {@link MoleculeBuilder#boilingPoint boiling point} and {@link MoleculeBuilder#dipoleMoment dipole moment} if they were not supplied.</li>
-         * <li>Check {@link LegacySpecies#MOLECULES existing Molecules} to see if a Molecule with the same {@link LegacyMolecularStructure structure} already exists.</li>
+         * <li>Check {@link LegacySpecies#MOLECULES existing Molecules} and novel Molecules already in use to see if a Molecule with the same {@link LegacyMolecularStructure structure} already exists.</li>
          * <li>Use all known {@link GroupFinder functional Group Finders} to identify {@link LegacyFunctionalGroup functional Groups} in the Molecule.</li>
          * </ul><p>This is the only safe way to declare a Molecule.</p>
-         * @return A new Molecule instance
+         * @return A new Molecule instance, or the existing one with the same structure for novel Molecules
          * @throws IllegalArgumentException If the Molecule's {@link LegacyMolecularStructure structure} was not {@link MoleculeBuilder#structure declared},
          * or it is not novel and the {@link LegacySpecies#nameSpace name space} was not declared.
          */
@@ -749,6 +814,10 @@ public class LegacySpecies implements INameableProduct {
                 if (equivalentMolecule != molecule) {
                     return equivalentMolecule;
                 };
+                LegacySpecies existingNovelMolecule = NOVEL_MOLECULES.getIfPresent(molecule.getFullID());
+                if (existingNovelMolecule != null) {
+                    return existingNovelMolecule;
+                };
             };
 
             double charge = 0d;
@@ -781,7 +850,16 @@ public class LegacySpecies implements INameableProduct {
                     throw e("Molecule's ID has not been declared.");
                 } else {
                     MOLECULES.put(molecule.nameSpace+":"+molecule.id, molecule);
+                    molecule.getIndex();
+                    try {
+                        MOLECULES_BY_STRUCTURE.putIfAbsent(molecule.structure.serialize(), molecule);
+                    } catch (FormulaSerializationException e) {
+                        Destroy.LOGGER.warn("Could not serialize the structure of Molecule '" + molecule.getFullID() + "', so novel Molecules with the same structure will not be recognised as it.", e);
+                    };
                 };
+            } else {
+                LegacySpecies existingNovelMolecule = NOVEL_MOLECULES.asMap().putIfAbsent(molecule.getFullID(), molecule); // Another thread may have built the same Molecule in the meantime
+                if (existingNovelMolecule != null) return existingNovelMolecule;
             };
 
             return molecule;
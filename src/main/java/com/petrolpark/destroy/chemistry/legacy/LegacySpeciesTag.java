@@ -1,9 +1,9 @@
 package com.petrolpark.destroy.chemistry.legacy;
 
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.chat.Style;
@@ -19,7 +19,10 @@ public class LegacySpeciesTag {
     private int color;
 
     public static final Map<String, LegacySpeciesTag> MOLECULE_TAGS = new HashMap<>();
-    public static final Map<LegacySpeciesTag, Set<LegacySpecies>> MOLECULES_WITH_TAGS = new HashMap<>();
+    /**
+     * Every Molecule with each Tag. Novel Molecules may be tagged when they are built during a Reaction on another thread, so this is safe to add to from any thread.
+     */
+    public static final Map<LegacySpeciesTag, Set<LegacySpecies>> MOLECULES_WITH_TAGS = new ConcurrentHashMap<>();
 
     public LegacySpeciesTag(String nameSpace, String id) { //TODO replace with proper registry
         this.nameSpace = nameSpace;
@@ -34,8 +37,7 @@ public class LegacySpeciesTag {
     };
 
     public static void registerMoleculeToTag(LegacySpecies molecule, LegacySpeciesTag moleculeTag) {
-        MOLECULES_WITH_TAGS.putIfAbsent(moleculeTag, new HashSet<>());
-        MOLECULES_WITH_TAGS.get(moleculeTag).add(molecule);
+        MOLECULES_WITH_TAGS.computeIfAbsent(moleculeTag, t -> ConcurrentHashMap.newKeySet()).add(molecule);
     };
 
     public String getId() {
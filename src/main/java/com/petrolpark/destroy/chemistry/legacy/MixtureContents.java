@@ -0,0 +1,177 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * The {@link LegacySpecies Molecules} in a {@link ReadOnlyMixture}, along with their concentrations (in moles per Bucket) and the proportion of each which is gaseous.
+ * These are kept in arrays at the {@link LegacySpecies#getIndex index} of each Molecule, so reading and changing them never boxes anything.
+ * <p>To go through every Molecule without allocating anything:</p>
+ * <pre>{@code for (int i = contents.first(); i >= 0; i = contents.next(i)) { ... contents.speciesAt(i) ... }}</pre>
+ */
+public class MixtureContents {
+
+    private LegacySpecies[] species;
+    private float[] concentrations;
+    private float[] states;
+    /**
+     * Which {@link LegacySpecies#getIndex indices} hold a Molecule.
+     */
+    private final BitSet occupied;
+    private int size;
+
+    public MixtureContents() {
+        species = new LegacySpecies[0];
+        concentrations = new float[0];
+        states = new float[0];
+        occupied = new BitSet();
+        size = 0;
+    };
+
+    /**
+     * The number of Molecules held.
+     */
+    public int size() {
+        return size;
+    };
+
+    public boolean isEmpty() {
+        return size == 0;
+    };
+
+    public boolean contains(LegacySpecies molecule) {
+        return molecule != null && occupied.get(molecule.getIndex());
+    };
+
+    /**
+     * @return {@code 0} if the Molecule is not held
+     */
+    public float getConcentration(LegacySpecies molecule) {
+        if (!contains(molecule)) return 0f;
+        return concentrations[molecule.getIndex()];
+    };
+
+    /**
+     * @return {@code 0} (entirely liquid) if the Molecule is not held
+     */
+    public float getState(LegacySpecies molecule) {
+        if (!contains(molecule)) return 0f;
+        return states[molecule.getIndex()];
+    };
+
+    /**
+     * Add a Molecule, or replace the concentration and state of one already held.
+     * @param molecule
+     * @param concentration In moles per Bucket
+     * @param state From {@code 0} (entirely liquid) to {@code 1} (entirely gaseous)
+     */
+    public void put(LegacySpecies molecule, float concentration, float state) {
+        int i = molecule.getIndex();
+        if (!occupied.get(i)) {
+            ensureCapacity(i + 1);
+            occupied.set(i);
+            species[i] = molecule;
+            size++;
+        };
+        concentrations[i] = concentration;
+        states[i] = state;
+    };
+
+    /**
+     * Change the concentration of a Molecule, if it is held.
+     */
+    public void setConcentration(LegacySpecies molecule, float concentration) {
+        if (contains(molecule)) concentrations[molecule.getIndex()] = concentration;
+    };
+
+    /**
+     * Change the proportion of a Molecule which is gaseous, if it is held.
+     */
+    public void setState(LegacySpecies molecule, float state) {
+        if (contains(molecule)) states[molecule.getIndex()] = state;
+    };
+
+    public void remove(LegacySpecies molecule) {
+        if (!contains(molecule)) return;
+        int i = molecule.getIndex();
+        occupied.clear(i);
+        species[i] = null;
+        concentrations[i] = 0f;
+        states[i] = 0f;
+        size--;
+    };
+
+    /**
+     * The index of the first Molecule held.
+     * @return {@code -1} if there are none
+     */
+    public int first() {
+        return occupied.nextSetBit(0);
+    };
+
+    /**
+     * The index of the next Molecule held after the one at the given index.
+     * @return {@code -1} if there are no more
+     */
+    public int next(int index) {
+        return occupied.nextSetBit(index + 1);
+    };
+
+    public LegacySpecies speciesAt(int index) {
+        return species[index];
+    };
+
+    public float concentrationAt(int index) {
+        return concentrations[index];
+    };
+
+    public float stateAt(int index) {
+        return states[index];
+    };
+
+    public void setConcentrationAt(int index, float concentration) {
+        concentrations[index] = concentration;
+    };
+
+    public void setStateAt(int index, float state) {
+        states[index] = state;
+    };
+
+    /**
+     * Get a new List of all Molecules held, in order of {@link LegacySpecies#getIndex index}.
+     */
+    public List<LegacySpecies> getSpecies() {
+        List<LegacySpecies> list = new ArrayList<>(size);
+        for (int i = first(); i >= 0; i = next(i)) list.add(species[i]);
+        return list;
+    };
+
+    /**
+     * Make the given contents an exact copy of these, reusing its arrays where they are already big enough.
+     * @param other Will be overwritten
+     */
+    public void copyInto(MixtureContents other) {
+        other.ensureCapacity(species.length);
+        System.arraycopy(species, 0, other.species, 0, species.length);
+        System.arraycopy(concentrations, 0, other.concentrations, 0, concentrations.length);
+        System.arraycopy(states, 0, other.states, 0, states.length);
+        if (other.species.length > species.length) {
+            Arrays.fill(other.species, species.length, other.species.length, null);
+            Arrays.fill(other.concentrations, concentrations.length, other.concentrations.length, 0f);
+            Arrays.fill(other.states, states.length, other.states.length, 0f);
+        };
+        other.occupied.clear();
+        other.occupied.or(occupied);
+        other.size = size;
+    };
+
+    private void ensureCapacity(int capacity) {
+        if (species.length >= capacity) return;
+        int newCapacity = Math.max(capacity, species.length + (species.length >> 1));
+        species = Arrays.copyOf(species, newCapacity);
+        concentrations = Arrays.copyOf(concentrations, newCapacity);
+        states = Arrays.copyOf(states, newCapacity);
+    };
+};
@@ -0,0 +1,71 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import net.minecraft.nbt.CompoundTag;
+
+/**
+ * A global store of {@link ReadOnlyMixture Mixtures} already parsed from {@code Mixture} Compound Tags, indexed by the contents of the Tag.
+ * Parsing a Mixture looks up every {@link LegacySpecies Molecule} (deserializing the FROWNS codes of novel ones), and for {@link LegacyMixture Mixtures}
+ * which can react also finds every possible {@link LegacyReaction Reaction}. The same Tag gets read by tanks, tooltips and machines over and over, so each
+ * distinct Tag is only parsed once.
+ * <p>The Mixtures held here are never given out to be modified. {@link LegacyMixture#readNBT Mutable Mixtures} are {@link LegacyMixture#copy copies},
+ * which are much cheaper than parsing, and {@link ReadOnlyMixture#readSharedNBT read-only Mixtures} are shared.</p>
+ */
+public class ParsedMixtureCache {
+
+    /**
+     * The maximum number of distinct Tags for which to hold each sort of parsed Mixture. The least recently used are forgotten first.
+     */
+    public static final int MAXIMUM_SIZE = 1024;
+
+    private static final Cache<CompoundTag, LegacyMixture> MIXTURES = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    private static final Cache<CompoundTag, ReadOnlyMixture> READ_ONLY_MIXTURES = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    /**
+     * Get the Mixture parsed from the given Tag, parsing it if it has not been already. This must not be modified.
+     * @param compound Not {@code null}
+     */
+    static LegacyMixture getMixture(CompoundTag compound) {
+        LegacyMixture mixture = MIXTURES.getIfPresent(compound);
+        if (mixture == null) {
+            mixture = LegacyMixture.parseNBT(compound);
+            MIXTURES.put(compound.copy(), mixture); // Copy the key as the original Tag might be modified later
+        };
+        return mixture;
+    };
+
+    /**
+     * Get the Read-Only Mixture parsed from the given Tag, parsing it if it has not been already. This must not be modified.
+     * @param compound Not {@code null}
+     */
+    static ReadOnlyMixture getReadOnlyMixture(CompoundTag compound) {
+        ReadOnlyMixture mixture = READ_ONLY_MIXTURES.getIfPresent(compound);
+        if (mixture == null) {
+            mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, compound);
+            READ_ONLY_MIXTURES.put(compound.copy(), mixture);
+        };
+        return mixture;
+    };
+
+    /**
+     * The number of parsed Mixtures currently held.
+     */
+    public static long getSize() {
+        return MIXTURES.size() + READ_ONLY_MIXTURES.size();
+    };
+
+    /**
+     * Forget every parsed Mixture.
+     */
+    public static void clear() {
+        MIXTURES.invalidateAll();
+        READ_ONLY_MIXTURES.invalidateAll();
+    };
+};
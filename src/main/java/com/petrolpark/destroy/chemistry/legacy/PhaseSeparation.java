@@ -0,0 +1,232 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import com.petrolpark.destroy.Destroy;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+
+/**
+ * Splits a {@link LegacyMixture} into a dense and a light Mixture of equal volume, as a Centrifuge does.
+ * <p>Each Molecule is split into its liquid and its gaseous part (a "phased Molecule"). The phased Molecules are held at fixed positions of primitive arrays -
+ * the liquid part of the {@code n}th Molecule of the Mixture at {@code 2n} and the gaseous part at {@code 2n + 1} - rather than in Maps keyed by Molecule and state.
+ * They fill the dense Mixture densest first until it is half the total volume, and ions are only ever moved along with enough counter-ions to balance their charge.</p>
+ */
+public class PhaseSeparation {
+
+    /**
+     * Amounts of an ion (in moles or buckets) at or below which it is taken to have been used up.
+     */
+    private static final float NEGLIGIBLE = 1 / 256f / 256f;
+
+    public static record Separation(LegacyMixture denseMixture, LegacyMixture lightMixture) {};
+
+    /**
+     * Split a Mixture into a dense and a light Mixture. This doesn't mutate the given Mixture.
+     * <p>Neither of the new Mixtures works out its possible {@link LegacyReaction Reactions} until it is next reacted.</p>
+     * @param mixture
+     * @param totalVolume The volume of the Mixture to split, in buckets
+     * @return Two new Mixtures, each of which has half the given volume
+     */
+    public static Separation centrifuge(LegacyMixture mixture, float totalVolume) {
+        MixtureContents contents = mixture.contents;
+        int speciesCount = contents.size();
+        LegacySpecies[] species = new LegacySpecies[speciesCount];
+        float[] concentrations = new float[speciesCount];
+        double[] liquidMoles = new double[speciesCount];
+        double[] gasMoles = new double[speciesCount];
+
+        // Separate the gas from the liquid, exactly as LegacyMixture#separatePhases would
+        double initialVolume = totalVolume;
+        double newLiquidVolume = 0d;
+        int k = 0;
+        for (int i = contents.first(); i >= 0; i = contents.next(i), k++) {
+            species[k] = contents.speciesAt(i);
+            concentrations[k] = contents.concentrationAt(i);
+            liquidMoles[k] = liquidMolesAt(contents, i, initialVolume);
+            gasMoles[k] = gasMolesAt(contents, i, initialVolume);
+            newLiquidVolume += liquidMoles[k] / species[k].getPureConcentration();
+        };
+        float liquidVolume = (float)newLiquidVolume;
+        float gasVolume = totalVolume - liquidVolume;
+
+        float totalGasConcentration = 0f;
+        for (k = 0; k < speciesCount; k++) {
+            if ((float)gasMoles[k] != 0f) totalGasConcentration += (float)gasMoles[k] / gasVolume;
+        };
+
+        int phasedCount = 2 * speciesCount;
+        float[] remainingMoles = new float[phasedCount];
+        float[] remainingVolumes = new float[phasedCount];
+        float[] densities = new float[phasedCount];
+        int[] order = new int[phasedCount];
+        int orderCount = 0;
+        for (k = 0; k < speciesCount; k++) {
+            LegacySpecies molecule = species[k];
+            if (liquidMoles[k] != 0d) {
+                float concentration = (float)(liquidMoles[k] / newLiquidVolume);
+                float moles = concentration * liquidVolume;
+                if (concentration > 0f && moles > 0f) {
+                    remainingMoles[2 * k] = moles;
+                    remainingVolumes[2 * k] = moles / molecule.getPureConcentration();
+                    order[orderCount++] = 2 * k;
+                };
+            };
+            if (gasMoles[k] != 0d) {
+                float concentration = (float)gasMoles[k] / gasVolume;
+                float moles = concentration * gasVolume;
+                if (concentration > 0f && moles > 0f) {
+                    remainingMoles[2 * k + 1] = moles;
+                    remainingVolumes[2 * k + 1] = moles / totalGasConcentration;
+                    order[orderCount++] = 2 * k + 1;
+                };
+            };
+        };
+
+        // Order the phased Molecules densest first
+        for (int o = 0; o < orderCount; o++) {
+            int p = order[o];
+            densities[p] = concentrations[p >> 1] * species[p >> 1].getMass() / remainingVolumes[p]; // This quantity is proportional to the density of this phased Molecule in the Mixture
+        };
+        IntArrays.mergeSort(order, 0, orderCount, (p1, p2) -> Float.compare(densities[p2], densities[p1]));
+
+        float[] molesInDenseMixture = new float[phasedCount];
+        float[] molesInLightMixture = new float[phasedCount];
+        float volumeOfDenseMixture = 0f;
+        // Counter-ions are always taken densest first, and once one has been passed over it can never be taken, so each sign of charge only needs looking through once
+        int cationCursor = 0;
+        int anionCursor = 0;
+
+        for (int o = 0; o < orderCount; o++) {
+            int p = order[o];
+            LegacySpecies molecule = species[p >> 1];
+            float moles = remainingMoles[p];
+            if (moles <= 0f) continue; // Don't try if this has already been used up as a counter-ion
+
+            if (molecule.getCharge() == 0) {
+
+                float volume = remainingVolumes[p];
+                float volumeInDenseMixture = Math.min(volume, (totalVolume / 2f) - volumeOfDenseMixture);
+                float proportionInDenseMixture = volumeInDenseMixture / volume;
+
+                molesInDenseMixture[p] = moles * proportionInDenseMixture;
+                molesInLightMixture[p] = moles * (1 - proportionInDenseMixture);
+                volumeOfDenseMixture += volumeInDenseMixture;
+                remainingVolumes[p] = 0f; // All of any given neutral Molecule will be used up at once
+                remainingMoles[p] = 0f;
+
+            } else {
+
+                boolean cation = molecule.getCharge() < 0; // Whether the counter-ions are cations
+                findCounterions: while (remainingVolumes[p] > 0f) {
+
+                    int counterionPosition;
+                    if (cation) {
+                        cationCursor = nextIon(order, orderCount, cationCursor, species, remainingVolumes, true);
+                        counterionPosition = cationCursor;
+                    } else {
+                        anionCursor = nextIon(order, orderCount, anionCursor, species, remainingVolumes, false);
+                        counterionPosition = anionCursor;
+                    };
+                    if (counterionPosition >= orderCount) {
+                        Destroy.LOGGER.error("Tried to centrifuge charge-imbalanced Mixture");
+                        break findCounterions;
+                    };
+                    int c = order[counterionPosition];
+                    LegacySpecies counterion = species[c >> 1];
+
+                    float counterionMolesRequired = -moles * (float)counterion.getCharge() / (float)molecule.getCharge();
+                    float proportionAvailable = remainingMoles[c] / counterionMolesRequired;
+                    if (proportionAvailable <= 0f) break findCounterions; // This should never happen
+
+                    float volumeOfMoleculeUsed;
+                    float molesOfMoleculeUsed;
+                    float volumeOfCounterionUsed;
+                    float molesOfCounterionUsed;
+
+                    if (proportionAvailable > 1f) { // If we have more than enough of this counter-ion to balance this ion, all of this Molecule gets used up
+                        volumeOfMoleculeUsed = remainingVolumes[p];
+                        molesOfMoleculeUsed = moles;
+                        volumeOfCounterionUsed = remainingVolumes[c] / proportionAvailable;
+                        molesOfCounterionUsed = remainingMoles[c] / proportionAvailable;
+                    } else { // If we have just the right amount, or need more
+                        volumeOfMoleculeUsed = remainingVolumes[p] * proportionAvailable;
+                        molesOfMoleculeUsed = moles * proportionAvailable;
+                        volumeOfCounterionUsed = remainingVolumes[c];
+                        molesOfCounterionUsed = remainingMoles[c];
+                    };
+
+                    float combinationVolume = volumeOfMoleculeUsed + volumeOfCounterionUsed;
+                    float combinedVolumeInDenseMixture = Math.min(combinationVolume, (totalVolume / 2f) - volumeOfDenseMixture);
+                    float proportionInDenseMixture = combinedVolumeInDenseMixture / combinationVolume;
+
+                    // Move this Molecule and the counter-ion to the result Mixtures
+                    molesInDenseMixture[p] = molesOfMoleculeUsed * proportionInDenseMixture;
+                    molesInDenseMixture[c] = molesOfCounterionUsed * proportionInDenseMixture;
+                    molesInLightMixture[p] = molesOfMoleculeUsed * (1 - proportionInDenseMixture);
+                    molesInLightMixture[c] = molesOfCounterionUsed * (1 - proportionInDenseMixture);
+
+                    // Decrement the remaining amounts of each
+                    remainingVolumes[p] = decrease(remainingVolumes[p], volumeOfMoleculeUsed);
+                    remainingVolumes[c] = decrease(remainingVolumes[c], volumeOfCounterionUsed);
+                    remainingMoles[p] = decrease(remainingMoles[p], molesOfMoleculeUsed);
+                    remainingMoles[c] = decrease(remainingMoles[c], molesOfCounterionUsed);
+
+                    volumeOfDenseMixture += combinedVolumeInDenseMixture;
+                };
+            };
+        };
+
+        return new Separation(
+            toMixture(mixture, species, molesInDenseMixture, totalVolume),
+            toMixture(mixture, species, molesInLightMixture, totalVolume)
+        );
+    };
+
+    /**
+     * The number of moles of the Molecule at the given position of some Mixture contents which are liquid.
+     * @param initialVolume The volume of the Mixture
+     */
+    static double liquidMolesAt(MixtureContents contents, int index, double initialVolume) {
+        return contents.concentrationAt(index) * (1f - contents.stateAt(index)) * initialVolume;
+    };
+
+    /**
+     * The number of moles of the Molecule at the given position of some Mixture contents which are gaseous.
+     * @param initialVolume The volume of the Mixture
+     */
+    static double gasMolesAt(MixtureContents contents, int index, double initialVolume) {
+        return contents.concentrationAt(index) * contents.stateAt(index) * initialVolume;
+    };
+
+    /**
+     * Get the position in the order of the first phased Molecule from the given position onward which is an ion of the given charge and has not yet been used up.
+     * @return {@code count} if there is no such ion
+     */
+    private static int nextIon(int[] order, int count, int from, LegacySpecies[] species, float[] remainingVolumes, boolean cation) {
+        for (int o = from; o < count; o++) {
+            int p = order[o];
+            int charge = species[p >> 1].getCharge();
+            if (charge != 0 && charge > 0 == cation && remainingVolumes[p] > 0f) return o;
+        };
+        return count;
+    };
+
+    private static float decrease(float amount, float change) {
+        float newAmount = amount - change;
+        return newAmount <= NEGLIGIBLE ? 0f : newAmount;
+    };
+
+    private static LegacyMixture toMixture(LegacyMixture originalMixture, LegacySpecies[] species, float[] phasedMoles, float totalVolume) {
+        LegacyMixture resultMixture = new LegacyMixture();
+        resultMixture.setTemperature(originalMixture.getTemperature());
+        for (int k = 0; k < species.length; k++) {
+            float liquidMoles = phasedMoles[2 * k];
+            float gasMoles = phasedMoles[2 * k + 1];
+            float totalMoles = gasMoles + liquidMoles;
+            if (totalMoles <= 0f) continue;
+            resultMixture.internalAddMolecule(species[k], 2f * totalMoles / totalVolume, false);
+            resultMixture.setState(species[k], gasMoles / totalMoles);
+        };
+        resultMixture.invalidatePossibleReactions();
+        return resultMixture;
+    };
+};
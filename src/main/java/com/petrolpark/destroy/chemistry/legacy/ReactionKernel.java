@@ -0,0 +1,119 @@
+package com.petrolpark.destroy.chemistry.legacy;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link LegacyReaction} flattened into arrays, so that a {@link LegacyMixture} can work out how fast it is and how much of it happens
+ * without going through any Maps, boxing any numbers or allocating anything.
+ * <p>Each Reaction {@link LegacyReaction#getKernel compiles} its own Kernel the first time one is needed. The arrays are in the same order
+ * as the Reaction's Maps, so everything is added up in the same order as it would be otherwise.</p>
+ */
+public class ReactionKernel {
+
+    /**
+     * The number of temperature buckets for which a {@link ReactionKernel#getRateConstant rate constant} is kept. This must be a power of two.
+     */
+    private static final int RATE_CONSTANT_BUCKETS = 16;
+
+    /**
+     * The Reaction of which this is a Kernel.
+     */
+    final LegacyReaction reaction;
+
+    /**
+     * The Molecules consumed in the {@link ReactionKernel#reaction Reaction}, and their molar ratios at the same positions.
+     */
+    final LegacySpecies[] reactants;
+    final int[] reactantRatios;
+
+    /**
+     * The Molecules created in the Reaction, and their molar ratios at the same positions.
+     */
+    final LegacySpecies[] products;
+    final int[] productRatios;
+
+    /**
+     * The Molecules which appear in the rate equation (both reactants and catalysts), and their orders at the same positions.
+     */
+    final LegacySpecies[] orderedMolecules;
+    final int[] orders;
+
+    /**
+     * For each temperature bucket (whole kelvins, modulo {@link ReactionKernel#RATE_CONSTANT_BUCKETS the number of buckets}), the last temperature in that bucket
+     * at which the {@link ReactionKernel#getRateConstant rate constant} was calculated (in the high 32 bits) and the rate constant at that temperature (in the low 32 bits).
+     * Every Mixture in which this Reaction can happen shares this Kernel, so Mixtures at different temperatures each keep their own entry rather than
+     * overwriting one another's. The temperature and rate constant are packed together so that no thread sees the temperature of one calculation alongside the rate constant of another.
+     */
+    private final AtomicLongArray cachedRateConstants;
+
+    ReactionKernel(LegacyReaction reaction, Map<LegacySpecies, Integer> reactants, Map<LegacySpecies, Integer> products, Map<LegacySpecies, Integer> orders) {
+        this.reaction = reaction;
+
+        this.reactants = new LegacySpecies[reactants.size()];
+        reactantRatios = new int[reactants.size()];
+        int i = 0;
+        for (Entry<LegacySpecies, Integer> entry : reactants.entrySet()) {
+            this.reactants[i] = entry.getKey();
+            reactantRatios[i] = entry.getValue();
+            i++;
+        };
+
+        this.products = new LegacySpecies[products.size()];
+        productRatios = new int[products.size()];
+        i = 0;
+        for (Entry<LegacySpecies, Integer> entry : products.entrySet()) {
+            this.products[i] = entry.getKey();
+            productRatios[i] = entry.getValue();
+            i++;
+        };
+
+        orderedMolecules = new LegacySpecies[orders.size()];
+        this.orders = new int[orders.size()];
+        i = 0;
+        for (Entry<LegacySpecies, Integer> entry : orders.entrySet()) {
+            orderedMolecules[i] = entry.getKey();
+            this.orders[i] = entry.getValue();
+            i++;
+        };
+
+        cachedRateConstants = new AtomicLongArray(RATE_CONSTANT_BUCKETS);
+        for (int bucket = 0; bucket < RATE_CONSTANT_BUCKETS; bucket++) cachedRateConstants.set(bucket, pack(Float.NaN, 0f)); // NaN never equals any temperature, so the first call in each bucket always calculates
+    };
+
+    /**
+     * The {@link LegacyReaction#getRateConstant rate constant} of the Reaction at the given temperature. Mixtures mostly stay at the same temperature for
+     * many ticks at a time, so the last result in each temperature bucket is kept rather than calling {@link Math#exp} every time.
+     * Only a result at exactly the same temperature is ever reused, so this always gives the same value as the Reaction would.
+     * @param temperature (in kelvins)
+     */
+    public float getRateConstant(float temperature) {
+        int bucket = getBucket(temperature);
+        long cached = cachedRateConstants.get(bucket);
+        if (Float.intBitsToFloat((int)(cached >>> 32)) == temperature) return Float.intBitsToFloat((int)cached);
+        float rateConstant = reaction.getRateConstant(temperature);
+        cachedRateConstants.set(bucket, pack(temperature, rateConstant));
+        return rateConstant;
+    };
+
+    /**
+     * Raise a concentration to the power of an order by multiplying, rather than with {@link Math#pow}. Orders are almost always small.
+     * @param concentration
+     * @param order
+     */
+    public static float power(float concentration, int order) {
+        if (order < 0) return (float)Math.pow(concentration, order);
+        double result = 1d;
+        for (int i = 0; i < order; i++) result *= concentration;
+        return (float)result;
+    };
+
+    private static int getBucket(float temperature) {
+        return (int)Math.floor(temperature) & (RATE_CONSTANT_BUCKETS - 1);
+    };
+
+    private static long pack(float temperature, float rateConstant) {
+        return ((long)Float.floatToRawIntBits(temperature) << 32) | (Float.floatToRawIntBits(rateConstant) & 0xFFFFFFFFL);
+    };
+};
@@ -3,10 +3,7 @@ package com.petrolpark.destroy.chemistry.legacy;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -16,7 +13,6 @@ import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.chemistry.api.util.Constants;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
 import com.petrolpark.destroy.util.DestroyLang;
-import com.simibubi.create.foundation.utility.NBTHelper;
 
 import net.minecraft.ChatFormatting;
 import net.minecraft.nbt.CompoundTag;
@@ -67,19 +63,14 @@ public class ReadOnlyMixture {
     protected float temperature;
 
     /**
-     * The {@link LegacySpecies Molecules} contained by this Mixture, mapped to their concentrations (in moles per Bucket).
+     * The {@link LegacySpecies Molecules} contained by this Mixture, with their concentrations (in moles per Bucket) and the proportion
+     * of each which is gaseous (their state). For example, a state of {@code 0} means this Molecule is entirely liquid or aqueous, {@code 0.5}
+     * means they are half liquid and half gaseous, and {@code 1} means the Molecule is entirely gaseous in this Mixture.
      */
-    protected Map<LegacySpecies, Float> contents;
+    protected MixtureContents contents;
 
     /**
-     * The {@link LegacySpecies Molecules} in this Mixture, mapped to the proportion of which are gaseous. For example, {@code 0}
-     * means this Molecule is entirely liquid or aqueous, {@code 0.5} means they are half liquid and half gaseous, and {@code 1}
-     * means the Molecule is entirely gaseous in this Mixture.
-     */
-    protected Map<LegacySpecies, Float> states;
-
-    /**
-     * Whether any {@link LegacySpecies Molecules} are currently boiling or condensing (their {@link ReadOnlyMixture#states state} is not a whole number)
+     * Whether any {@link LegacySpecies Molecules} are currently boiling or condensing (their {@link ReadOnlyMixture#contents state} is not a whole number)
      */
     protected boolean boiling;
 
@@ -89,10 +80,9 @@ public class ReadOnlyMixture {
 
     public ReadOnlyMixture(float temperature) {
         translationKey = "";
-        contents = new HashMap<>();
+        contents = new MixtureContents();
         if (temperature < 0f) throw new IllegalStateException("Mixtures cannot be below 0K");
         this.temperature = temperature;
-        states = new HashMap<>();
         boiling = false;
     };
 
@@ -105,14 +95,18 @@ public class ReadOnlyMixture {
             compound.putString("TranslationKey", translationKey);
         };
         compound.putFloat("Temperature", temperature);
-        compound.put("Contents", NBTHelper.writeCompoundList(contents.entrySet().stream().filter(e -> e.getValue() > 0f).toList(), (entry) -> {
+        ListTag contentsTag = new ListTag();
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            float concentration = contents.concentrationAt(i);
+            if (concentration <= 0f) continue;
             CompoundTag moleculeTag = new CompoundTag();
-            moleculeTag.putString("Molecule", entry.getKey().getFullID());
-            moleculeTag.putFloat("Concentration", entry.getValue());
-            float gaseous = states.get(entry.getKey());
-            if (gaseous != 1f && gaseous != 0f) moleculeTag.putFloat("Gaseous", states.get(entry.getKey())); // Only put the state if its not obvious from the temperature
-            return moleculeTag;
-        }));
+            moleculeTag.putString("Molecule", contents.speciesAt(i).getFullID());
+            moleculeTag.putFloat("Concentration", concentration);
+            float gaseous = contents.stateAt(i);
+            if (gaseous != 1f && gaseous != 0f) moleculeTag.putFloat("Gaseous", gaseous); // Only put the state if its not obvious from the temperature
+            contentsTag.add(moleculeTag);
+        };
+        compound.put("Contents", contentsTag);
         return compound;
     };
 
@@ -136,13 +130,37 @@ public class ReadOnlyMixture {
             mixture.addMolecule(molecule, moleculeTag.getFloat("Concentration"));
             float state = moleculeTag.getFloat("Gaseous");
             if (state != 0f && state != 1f) mixture.boiling = true;
-            mixture.states.put(molecule, state);
+            mixture.contents.setState(molecule, state);
         });
         mixture.updateName();
         mixture.updateColor();
         return mixture;
     };
 
+    /**
+     * Get the Read-Only Mixture described by the given Compound Tag, which is only {@link ReadOnlyMixture#readNBT parsed} the first time that Tag is seen.
+     * The Mixture returned may be shared, so it must not be modified.
+     * @param compound
+     * @see ParsedMixtureCache
+     */
+    public static ReadOnlyMixture readSharedNBT(CompoundTag compound) {
+        if (compound == null) return readNBT(ReadOnlyMixture::new, compound);
+        return ParsedMixtureCache.getReadOnlyMixture(compound);
+    };
+
+    /**
+     * Make the given Mixture hold exactly the same as this one.
+     * @param other Will be overwritten
+     */
+    protected void copyInto(ReadOnlyMixture other) {
+        other.name = name;
+        other.translationKey = translationKey;
+        other.color = color;
+        other.temperature = temperature;
+        contents.copyInto(other.contents);
+        other.boiling = boiling;
+    };
+
     /**
      * The display name of this Mixture. This may be a custom name (if this Mixture comes from a Recipe), or {@link ReadOnlyMixture#getName generated}
      * if this Mixture has been {@link LegacyMixture#react reacted}.
@@ -177,7 +195,7 @@ public class ReadOnlyMixture {
     };
 
     /**
-     * Whether any {@link LegacySpecies Molecules} are currently boiling or condensing (their {@link ReadOnlyMixture#states state} is not a whole number)
+     * Whether any {@link LegacySpecies Molecules} are currently boiling or condensing (their {@link ReadOnlyMixture#contents state} is not a whole number)
      */
     public boolean isBoiling() {
         return boiling;
@@ -196,11 +214,16 @@ public class ReadOnlyMixture {
      * @return 0 if the Mixture does not contain the given Molecule
      */
     public float getConcentrationOf(LegacySpecies molecule) {
-        if (contents.containsKey(molecule)) {
-            return contents.get(molecule);
-        } else {
-            return 0f;
-        }
+        return contents.getConcentration(molecule);
+    };
+
+    /**
+     * The proportion of the given {@link LegacySpecies} in this Mixture which is gaseous.
+     * @param molecule
+     * @return From {@code 0} (entirely liquid) to {@code 1} (entirely gaseous); {@code 0} if the Mixture does not contain the given Molecule
+     */
+    public float getStateOf(LegacySpecies molecule) {
+        return contents.getState(molecule);
     };
 
     /**
@@ -209,8 +232,8 @@ public class ReadOnlyMixture {
      */
     public float getTotalConcentration() {
         float total = 0f;
-        for (Float concentration : contents.values()) {
-            total += concentration;
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            total += contents.concentrationAt(i);
         };
         return total;
     };
@@ -236,14 +259,15 @@ public class ReadOnlyMixture {
     public boolean hasUsableMolecules(Predicate<LegacySpecies> molecules, float minConcentration, float maxConcentration, @Nullable Predicate<LegacySpecies> ignore) {
         if (ignore == null) ignore = (m) -> false;
         float combinedConcentration = 0f;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            if (ignore.test(entry.getKey())) continue; // If this Molecule is specified as ignoreable, ignore it.
-            if (molecules.test(entry.getKey())) {
-                combinedConcentration += entry.getValue(); // If this passes the test, add it to the total
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            LegacySpecies molecule = contents.speciesAt(i);
+            if (ignore.test(molecule)) continue; // If this Molecule is specified as ignoreable, ignore it.
+            if (molecules.test(molecule)) {
+                combinedConcentration += contents.concentrationAt(i); // If this passes the test, add it to the total
                 continue; // Then move on
             };
-            if (entry.getKey().hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
-            if (entry.getValue() > IMPURITY_THRESHOLD) return false; // If this illegal impurity is in high-enough concentration, this Mixture is unsuitable
+            if (molecule.hasTag(DestroyMolecules.Tags.SOLVENT)) continue; // If this is a solvent, ignore it
+            if (contents.concentrationAt(i) > IMPURITY_THRESHOLD) return false; // If this illegal impurity is in high-enough concentration, this Mixture is unsuitable
         };
         return (combinedConcentration < maxConcentration + 0.05f && combinedConcentration > minConcentration - 0.05f); // The  0.05 accounts for rounding errors
     };
@@ -266,8 +290,7 @@ public class ReadOnlyMixture {
             return this;
         };
 
-        contents.put(molecule, concentration);
-        states.put(molecule, molecule.getBoilingPoint() < temperature ? 1f : 0f);
+        contents.put(molecule, concentration, molecule.getBoilingPoint() < temperature ? 1f : 0f);
 
         return this;
     };
@@ -277,7 +300,7 @@ public class ReadOnlyMixture {
      * @param excludeNovel Whether to exclude novel Molecules
      */
     public List<LegacySpecies> getContents(boolean excludeNovel) {
-        return contents.keySet().stream().filter(molecule -> !molecule.isNovel() || !excludeNovel).toList();
+        return contents.getSpecies().stream().filter(molecule -> !molecule.isNovel() || !excludeNovel).toList();
     };
 
     /**
@@ -287,8 +310,8 @@ public class ReadOnlyMixture {
     public String getContentsString() {
         String string = "";
         if (contents.isEmpty()) return string;
-        for (Entry<LegacySpecies, Float> entry : contents.entrySet()) {
-            string += entry.getKey().getFullID() + " (" + entry.getValue() + "M), ";
+        for (int i = contents.first(); i >= 0; i = contents.next(i)) {
+            string += contents.speciesAt(i).getFullID() + " (" + contents.concentrationAt(i) + "M), ";
         };
         return string.substring(0, string.length() - 2);
     };
@@ -304,12 +327,12 @@ public class ReadOnlyMixture {
     public List<Component> getContentsTooltip(boolean iupac, boolean monospace, boolean useMoles, int amount, DecimalFormat concentrationFormatter) {
         int i = 0;
         List<Component> tooltip = new ArrayList<>();
-        List<LegacySpecies> molecules = new ArrayList<>(contents.keySet());
-        Collections.sort(molecules, (m1, m2) -> contents.get(m2).compareTo(contents.get(m1)));
+        List<LegacySpecies> molecules = contents.getSpecies();
+        Collections.sort(molecules, (m1, m2) -> Float.compare(contents.getConcentration(m2), contents.getConcentration(m1)));
         
         int quantityLabelLength = DestroyLang.quantity(0f, useMoles, concentrationFormatter).string().length() + 2;
         for (LegacySpecies molecule : molecules) {
-            float quantity = contents.get(molecule) * (useMoles ? amount / Constants.MILLIBUCKETS_PER_LITER: 1);
+            float quantity = contents.getConcentration(molecule) * (useMoles ? amount / Constants.MILLIBUCKETS_PER_LITER: 1);
             tooltip.add(i, DestroyLang.builder()
                 .space().space()
                 .add(Component.literal(monospace ? String.format("%1$"+quantityLabelLength+"s", DestroyLang.quantity(quantity, useMoles, concentrationFormatter).string()) : DestroyLang.quantity(quantity, useMoles, concentrationFormatter).string())) // Show concentration
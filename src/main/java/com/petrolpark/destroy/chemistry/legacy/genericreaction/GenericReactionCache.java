@@ -0,0 +1,122 @@
+package com.petrolpark.destroy.chemistry.legacy.genericreaction;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.legacy.LegacyFunctionalGroup;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * A global store of the {@link LegacyReaction Reactions} {@link GenericReaction Generic Reactions} generate for specific {@link GenericReactant Reactants}.
+ * Generating a Reaction involves copying structures and building new {@link LegacySpecies Molecules}, but the result only depends on the Generic Reaction
+ * and the Reactants, so there is no need to do it again every time a {@link com.petrolpark.destroy.chemistry.legacy.LegacyMixture Mixture} finds the same Reactants.
+ * <p>Generic Reactions which return {@code null} or throw a {@link ChemistryException} are remembered too.</p>
+ */
+public class GenericReactionCache {
+
+    /**
+     * The maximum number of specified Reactions to hold at once. The least recently used are forgotten first.
+     */
+    public static final int MAXIMUM_SIZE = 8192;
+
+    private static final Cache<Key, Outcome> CACHE = CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_SIZE)
+        .build();
+
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param genericReactionId The {@link GenericReaction#id ID} of the Generic Reaction
+     * @param firstReactantId The {@link LegacySpecies#getFullID ID or FROWNS code} of the Molecule with the first (or only) Group
+     * @param firstGroupIndex The position of the Group in the first Molecule's {@link LegacySpecies#getFunctionalGroups list of Groups}, as Molecules can have more than one Group of a Type
+     * @param secondReactantId The ID or FROWNS code of the Molecule with the second Group, or {@code null} for {@link SingleGroupGenericReaction single-Group Generic Reactions}
+     * @param secondGroupIndex The position of the Group in the second Molecule's list of Groups, or {@code -1}
+     */
+    protected static record Key(ResourceLocation genericReactionId, String firstReactantId, int firstGroupIndex, @Nullable String secondReactantId, int secondGroupIndex) {};
+
+    /**
+     * What a Generic Reaction generated. The Reactant Molecules are kept so that a cached Reaction is never given to a different Molecule object with the same structure,
+     * which a {@link com.petrolpark.destroy.chemistry.legacy.LegacyMixture Mixture} would not recognise.
+     */
+    protected static record Outcome(LegacySpecies firstReactant, @Nullable LegacySpecies secondReactant, @Nullable LegacyReaction reaction, @Nullable ChemistryException exception) {};
+
+    /**
+     * Get the Reaction the given Generic Reaction generates for the given Reactant, generating it only if it has not been already.
+     * @return {@code null} if the Reaction is impossible
+     * @throws ChemistryException If the Generic Reaction threw one when generating the Reaction
+     */
+    public static <G extends LegacyFunctionalGroup<G>> LegacyReaction getOrGenerate(SingleGroupGenericReaction<G> genericReaction, GenericReactant<G> reactant) {
+        Key key = new Key(genericReaction.id, reactant.getMolecule().getFullID(), groupIndex(reactant), null, -1);
+        return getOrGenerate(key, reactant.getMolecule(), null, () -> genericReaction.generateReaction(reactant));
+    };
+
+    /**
+     * Get the Reaction the given Generic Reaction generates for the given pair of Reactants, generating it only if it has not been already.
+     * @return {@code null} if the Reaction is impossible
+     * @throws ChemistryException If the Generic Reaction threw one when generating the Reaction
+     */
+    public static <G1 extends LegacyFunctionalGroup<G1>, G2 extends LegacyFunctionalGroup<G2>> LegacyReaction getOrGenerate(DoubleGroupGenericReaction<G1, G2> genericReaction, GenericReactant<G1> firstReactant, GenericReactant<G2> secondReactant) {
+        Key key = new Key(genericReaction.id, firstReactant.getMolecule().getFullID(), groupIndex(firstReactant), secondReactant.getMolecule().getFullID(), groupIndex(secondReactant));
+        return getOrGenerate(key, firstReactant.getMolecule(), secondReactant.getMolecule(), () -> genericReaction.generateReaction(firstReactant, secondReactant));
+    };
+
+    private static LegacyReaction getOrGenerate(Key key, LegacySpecies firstReactant, @Nullable LegacySpecies secondReactant, Supplier<LegacyReaction> generator) {
+        Outcome outcome = CACHE.getIfPresent(key);
+        if (outcome != null && outcome.firstReactant() == firstReactant && outcome.secondReactant() == secondReactant) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+            try {
+                outcome = new Outcome(firstReactant, secondReactant, generator.get(), null);
+            } catch (ChemistryException e) {
+                outcome = new Outcome(firstReactant, secondReactant, null, e);
+            };
+            CACHE.put(key, outcome);
+        };
+        if (outcome.exception() != null) throw outcome.exception();
+        return outcome.reaction();
+    };
+
+    private static int groupIndex(GenericReactant<?> reactant) {
+        return reactant.getMolecule().getFunctionalGroups().indexOf(reactant.getGroup());
+    };
+
+    /**
+     * The number of times a Reaction was found without having to generate it.
+     */
+    public static long getHits() {
+        return hits.get();
+    };
+
+    /**
+     * The number of times a Reaction had to be generated.
+     */
+    public static long getMisses() {
+        return misses.get();
+    };
+
+    /**
+     * The number of specified Reactions currently held.
+     */
+    public static long getSize() {
+        return CACHE.size();
+    };
+
+    /**
+     * Forget every specified Reaction and reset the {@link GenericReactionCache#getHits hit} and {@link GenericReactionCache#getMisses miss} counters.
+     */
+    public static void clear() {
+        CACHE.invalidateAll();
+        hits.set(0l);
+        misses.set(0l);
+    };
+};
@@ -0,0 +1,200 @@
+package com.petrolpark.destroy.chemistry.serializer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyAtom;
+import com.petrolpark.destroy.chemistry.legacy.LegacyBond;
+import com.petrolpark.destroy.chemistry.legacy.LegacyBond.BondType;
+
+/**
+ * Finds the same maximum {@link Branch Branches} of an acyclic structure as {@link com.petrolpark.destroy.chemistry.legacy.LegacyMolecularStructure#serialize serialization}
+ * always has, and gives their <a href="https://github.com/petrolpark/Destroy/wiki/FROWNS">FROWNS</a> codes, without building any {@link Node Nodes} or copying the structure.
+ * <p>In a tree, the maximum Branch starting at an Atom and leading away from one of its neighbours never depends on where the search started, so each is
+ * {@link CanonicalBranchFinder#branches remembered} the first time it is found. This means finding the maximum Branch from every terminal Atom costs
+ * barely more than finding it from one.</p>
+ * <p>Where choosing between Branches of exactly the same mass used to depend on the order in which Atoms happened to be stored, this chooses by FROWNS code,
+ * so the result depends only on the structure.</p>
+ */
+public class CanonicalBranchFinder {
+
+    /**
+     * Orders Branches so the one which should be the main chain comes first.
+     */
+    private static final Comparator<ConnectedBranch> MAIN_CHAIN_FIRST = Comparator.<ConnectedBranch, Float>comparing(connectedBranch -> connectedBranch.branch().mass()).reversed().thenComparing(ConnectedBranch::code);
+
+    /**
+     * Orders Branches in the order they should appear as side Branches in FROWNS codes, which matches {@link Node#getOrderedSideBranches}.
+     */
+    private static final Comparator<ConnectedBranch> SIDE_BRANCH_ORDER = Comparator.<ConnectedBranch, Float>comparing(connectedBranch -> connectedBranch.branch().massOfLongestChain()).thenComparing(ConnectedBranch::code);
+
+    /**
+     * The stripped structure of which to find Branches.
+     */
+    private final Map<LegacyAtom, List<LegacyBond>> structure;
+
+    /**
+     * The maximum Branch starting from each Atom, indexed by the Atom it leads away from ({@code null} if it can go in any direction).
+     */
+    private final Map<LegacyAtom, Map<LegacyAtom, CanonicalBranch>> branches;
+
+    private final boolean acyclic;
+
+    public CanonicalBranchFinder(Map<LegacyAtom, List<LegacyBond>> structure) {
+        this.structure = structure;
+        branches = new HashMap<>(structure.size());
+        acyclic = checkAcyclic();
+    };
+
+    /**
+     * A maximum Branch found by a {@link CanonicalBranchFinder}.
+     * @param atom The first Atom in this Branch
+     * @param next The rest of the main chain of this Branch, or {@code null} if this is the only Atom in the main chain
+     * @param sideBranches The side Branches off the first Atom
+     * @param code The FROWNS code of this Branch, without the Topology
+     * @param mass The same as {@link Branch#getMass}
+     * @param massOfLongestChain The same as {@link Branch#getMassOfLongestChain}
+     */
+    public static record CanonicalBranch(LegacyAtom atom, @Nullable CanonicalBranch next, List<CanonicalBranch> sideBranches, String code, float mass, float massOfLongestChain) {
+
+        /**
+         * Wrap a {@link Branch} which has already been found some other way.
+         */
+        public static CanonicalBranch of(Branch branch) {
+            return new CanonicalBranch(branch.getStartNode().getAtom(), null, List.of(), branch.serialize(), branch.getMass(), branch.getMassOfLongestChain());
+        };
+    };
+
+    private static record ConnectedBranch(CanonicalBranch branch, BondType bondType) {
+
+        /**
+         * The FROWNS code of the Branch, including the Bond which connects it.
+         */
+        public String code() {
+            return bondType.getFROWNSCode() + branch.code();
+        };
+    };
+
+    /**
+     * Whether the structure has no rings. If it does, none of the other methods of this Finder can be used.
+     */
+    public boolean isAcyclic() {
+        return acyclic;
+    };
+
+    /**
+     * Get the maximum Branch starting from the terminal Atom with the lowest mass, breaking ties with the mass of the longest chain and then the FROWNS code.
+     * If there are no terminal Atoms, the lightest Atom is used.
+     * @return {@code null} if the structure is empty
+     */
+    @Nullable
+    public CanonicalBranch getMaximumBranchWithHighestMass() {
+        List<LegacyAtom> startAtoms = new ArrayList<>();
+        for (LegacyAtom atom : structure.keySet()) {
+            if (structure.get(atom).size() == 1) startAtoms.add(atom);
+        };
+        if (startAtoms.isEmpty()) startAtoms.addAll(structure.keySet()); // Single Atoms
+
+        CanonicalBranch best = null;
+        for (LegacyAtom atom : startAtoms) {
+            CanonicalBranch branch = getMaximumBranch(atom);
+            if (best == null) {
+                best = branch;
+                continue;
+            };
+            int comparison = Float.compare(Branch.getMassForComparisonInSerialization(branch.atom()), Branch.getMassForComparisonInSerialization(best.atom()));
+            if (comparison == 0) comparison = Float.compare(best.massOfLongestChain(), branch.massOfLongestChain());
+            if (comparison == 0) comparison = branch.code().compareTo(best.code());
+            if (comparison < 0) best = branch;
+        };
+        return best;
+    };
+
+    /**
+     * Get the biggest directed Branch starting from the given Atom.
+     * @param startAtom
+     */
+    public CanonicalBranch getMaximumBranch(LegacyAtom startAtom) {
+        return getMaximumBranch(startAtom, null);
+    };
+
+    private CanonicalBranch getMaximumBranch(LegacyAtom atom, @Nullable LegacyAtom previousAtom) {
+        Map<LegacyAtom, CanonicalBranch> branchesFromAtom = branches.computeIfAbsent(atom, a -> new HashMap<>(4));
+        CanonicalBranch branch = branchesFromAtom.get(previousAtom);
+        if (branch != null) return branch;
+
+        List<ConnectedBranch> connectedBranches = new ArrayList<>();
+        for (LegacyBond bond : structure.get(atom)) {
+            LegacyAtom connectedAtom = bond.getDestinationAtom();
+            if (connectedAtom == previousAtom || !structure.containsKey(connectedAtom)) continue;
+            connectedBranches.add(new ConnectedBranch(getMaximumBranch(connectedAtom, atom), bond.getType()));
+        };
+
+        ConnectedBranch next = null;
+        if (!connectedBranches.isEmpty()) {
+            connectedBranches.sort(MAIN_CHAIN_FIRST);
+            next = connectedBranches.remove(0); // The biggest Branch continues the main chain
+            connectedBranches.sort(SIDE_BRANCH_ORDER);
+        };
+
+        // Build the FROWNS code the same way Node#serialize does
+        StringBuilder code = new StringBuilder(Node.serializeAtom(atom));
+        if (next != null) code.append(next.bondType().getFROWNSCode()); // The Bond to the next Atom comes before the side Branches
+        for (ConnectedBranch sideBranch : connectedBranches) code.append("(").append(sideBranch.code()).append(")");
+        if (next != null) code.append(next.branch().code());
+
+        // Add up the masses in the same order as Branch#getMass, so that ties are broken the same way
+        List<CanonicalBranch> sideBranchList = connectedBranches.stream().map(ConnectedBranch::branch).toList();
+        float mass = Branch.getMassForComparisonInSerialization(atom);
+        float massOfLongestChain = mass;
+        for (CanonicalBranch sideBranch : sideBranchList) mass += sideBranch.mass();
+        for (CanonicalBranch nextBranch = next == null ? null : next.branch(); nextBranch != null; nextBranch = nextBranch.next()) {
+            float atomMass = Branch.getMassForComparisonInSerialization(nextBranch.atom());
+            mass += atomMass;
+            for (CanonicalBranch sideBranch : nextBranch.sideBranches()) mass += sideBranch.mass();
+            massOfLongestChain += atomMass;
+        };
+
+        branch = new CanonicalBranch(atom, next == null ? null : next.branch(), sideBranchList, code.toString(), mass, massOfLongestChain);
+        branchesFromAtom.put(previousAtom, branch);
+        return branch;
+    };
+
+    /**
+     * A forest has exactly one fewer Bond than Atoms in each connected component.
+     */
+    private boolean checkAcyclic() {
+        int bondEnds = 0;
+        for (List<LegacyBond> bonds : structure.values()) {
+            for (LegacyBond bond : bonds) {
+                if (structure.containsKey(bond.getDestinationAtom())) bondEnds++;
+            };
+        };
+        if (bondEnds % 2 != 0) return false;
+
+        int components = 0;
+        Set<LegacyAtom> visited = new HashSet<>(structure.size());
+        Deque<LegacyAtom> toVisit = new ArrayDeque<>();
+        for (LegacyAtom atom : structure.keySet()) {
+            if (!visited.add(atom)) continue;
+            components++;
+            toVisit.push(atom);
+            while (!toVisit.isEmpty()) {
+                for (LegacyBond bond : structure.get(toVisit.pop())) {
+                    LegacyAtom connectedAtom = bond.getDestinationAtom();
+                    if (structure.containsKey(connectedAtom) && visited.add(connectedAtom)) toVisit.push(connectedAtom);
+                };
+            };
+        };
+        return bondEnds / 2 == structure.size() - components;
+    };
+};
@@ -26,7 +26,7 @@ public class Node {
     };
 
     public String serialize() {
-        String string = getAtom().getElement().getSymbol();
+        String string = serializeAtom(getAtom());
         Boolean isTerminal = true;
         Edge nextEdge = null;
         for (Edge edge : edges) {
@@ -36,12 +36,6 @@ public class Node {
                 break;
             };
         };
-        if (atom.rGroupNumber != 0 && atom.getElement() == LegacyElement.R_GROUP) {
-            string += atom.rGroupNumber;
-        };
-        if (atom.formalCharge != 0) {
-            string += "^"+((atom.formalCharge % 1.0 != 0) ? String.format("%s", atom.formalCharge) :String.format("%.0f", atom.formalCharge));
-        };
         if (!isTerminal && nextEdge != null) { // Also checking if the next edge is null is sort of redundant, but at least it gets rid of that nasty yellow squiggly line
             string += nextEdge.bondType.getFROWNSCode(); // It thinks 'nextEdge' can be null
         };
@@ -54,6 +48,20 @@ public class Node {
         return string;
     };
 
+    /**
+     * The symbol, R-Group number and charge of the given Atom, as it appears in a FROWNS code.
+     */
+    public static String serializeAtom(LegacyAtom atom) {
+        String string = atom.getElement().getSymbol();
+        if (atom.rGroupNumber != 0 && atom.getElement() == LegacyElement.R_GROUP) {
+            string += atom.rGroupNumber;
+        };
+        if (atom.formalCharge != 0) {
+            string += "^"+((atom.formalCharge % 1.0 != 0) ? String.format("%s", atom.formalCharge) :String.format("%.0f", atom.formalCharge));
+        };
+        return string;
+    };
+
     public LegacyAtom getAtom() {
         return this.atom;
     };
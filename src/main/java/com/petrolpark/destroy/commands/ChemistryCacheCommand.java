@@ -0,0 +1,49 @@
+package com.petrolpark.destroy.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.ParsedMixtureCache;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactionCache;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+public class ChemistryCacheCommand {
+
+    public ChemistryCacheCommand(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("chemistrycache")
+            .requires(cs -> cs.hasPermission(2))
+            .then(Commands.literal("query")
+                .executes(ChemistryCacheCommand::queryCaches)
+            ).then(Commands.literal("clear")
+                .executes(ChemistryCacheCommand::clearCaches)
+            )
+        );
+    };
+
+    private static int queryCaches(CommandContext<CommandSourceStack> context) {
+        CommandSourceStack source = context.getSource();
+        long hits = GenericReactionCache.getHits();
+        long misses = GenericReactionCache.getMisses();
+        long size = GenericReactionCache.getSize();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycache.generic_reactions", hits, misses, size), false);
+        long novelMolecules = LegacySpecies.getNovelMoleculeCount();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycache.novel_molecules", novelMolecules), false);
+        long mixtures = ParsedMixtureCache.getSize();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycache.mixtures", mixtures), false);
+        long basinReactions = ReactionInBasinRecipe.getCachedOutcomeCount();
+        source.sendSuccess(() -> Component.translatable("commands.destroy.chemistrycache.basin_reactions", basinReactions), false);
+        return (int)size;
+    };
+
+    private static int clearCaches(CommandContext<CommandSourceStack> context) {
+        GenericReactionCache.clear();
+        ParsedMixtureCache.clear();
+        ReactionInBasinRecipe.clearCachedOutcomes();
+        context.getSource().sendSuccess(() -> Component.translatable("commands.destroy.chemistrycache.clear"), true);
+        return 1;
+    };
+};
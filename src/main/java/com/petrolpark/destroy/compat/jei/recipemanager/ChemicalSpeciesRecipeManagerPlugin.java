@@ -71,7 +71,7 @@ public class ChemicalSpeciesRecipeManagerPlugin implements IRecipeManagerPlugin
             if (ingredientType != null) { // Mixture ingredients
                 molecules = ingredientType.getContainedMolecules(fluidStack.getOrCreateTag());
             } else if (fluidStack.getOrCreateTag().contains("Mixture")) { // Mixture outputs
-                molecules = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidStack.getOrCreateChildTag("Mixture")).getContents(true);
+                molecules = ReadOnlyMixture.readSharedNBT(fluidStack.getOrCreateChildTag("Mixture")).getContents(true);
             };
 
             molecules.forEach(molecule -> {
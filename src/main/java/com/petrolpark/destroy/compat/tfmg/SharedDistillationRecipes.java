@@ -30,11 +30,26 @@ public class SharedDistillationRecipes {
     private static final Map<Level, List<DistillationRecipe>> TFMG_TO_DESTROY_RECIPES = new HashMap<>();
     private static final Map<Level, List<ProcessingRecipe<?>>> DESTROY_TO_TFMG_RECIPES = new HashMap<>();
 
+    /**
+     * Whether TFMG Distillation Recipes can be used in Destroy Distillation Towers.
+     */
+    public static final boolean isTFMGToDestroyEnabled() {
+        return CompatMods.TFMG.isLoaded() && DestroyAllConfigs.SERVER.compat.TFMGDistillationInDestroy.get();
+    };
+
     public static final List<DistillationRecipe> getTFMGToDestroyRecipes(Level level) {
-        if (!CompatMods.TFMG.isLoaded() || !DestroyAllConfigs.SERVER.compat.TFMGDistillationInDestroy.get()) return Collections.emptyList();
+        if (!isTFMGToDestroyEnabled()) return Collections.emptyList();
         return TFMG_TO_DESTROY_RECIPES.computeIfAbsent(level, SharedDistillationRecipes::convertTFMGToDestroyRecipes);
     };
 
+    /**
+     * Forget all converted Recipes, so they are converted again from the new Recipes the next time they are needed.
+     */
+    public static final void clearConvertedRecipes() {
+        TFMG_TO_DESTROY_RECIPES.clear();
+        DESTROY_TO_TFMG_RECIPES.clear();
+    };
+
     public static final List<ProcessingRecipe<?>> getDestroyToTFMGRecipes(Level level) {
         if (!CompatMods.TFMG.isLoaded() || !DestroyAllConfigs.SERVER.compat.destroyDistillationInTFMG.get()) return Collections.emptyList();
         return DESTROY_TO_TFMG_RECIPES.computeIfAbsent(level, SharedDistillationRecipes::convertDestroyToTFMGRecipes);
@@ -1,5 +1,7 @@
 package com.petrolpark.destroy.config;
 
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.IntegrationMode;
+
 public class DestroyBlocksConfigs extends DestroyConfigBase {
 
     public final ConfigInt customExplosiveMixSize = i(5, 0, 16, "customExplosiveMixSize", "Inventory size of Mixed Explosives");
@@ -9,6 +11,9 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigInt measuringCylinderCapacity = i(300, "measuringCylinderCapacity", "The capacity (in mB) of Beakers");
     public final ConfigInt balloonPoppingCapacity = i(300, "balloonPoppingCapacity", "The volume of gas (in mB) Balloons can hold before popping");
 
+    public final ConfigGroup basin = group(0, "basin", "Basin");
+    public final ConfigBool asyncBasinReactions = b(false, "asyncBasinReactions", "Whether Reactions in Basins are worked out on separate threads rather than holding up the server.", "[Mechanical Mixers will take slightly longer to notice that a Reaction is possible]");
+
     public final ConfigGroup bubbleCap = group(0, "bubbleCap", "Bubble Cap");
     public final ConfigInt bubbleCapCapacity = i(1000, 1, "bubbleCapCapacity", "[in mB]", "Fluid capacity of Bubble Caps", "[setting this too low may make some recpies impossible]");
     public final ConfigInt bubbleCapRecipeFrequency = i(100, 1, "bubbleCapRecipeFrequency", "[in ticks]", "How often distillation towers try and distill");
@@ -27,7 +32,12 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigGroup dynamite = group(0, "dynamite", "Dynamite");
     public final ConfigInt dynamiteMaxRadius = i(10, 1, 128, "dynamiteMaxRadius", "[in blocks]", "The maximum distance to which a side of a Dyanmite explosive can extend");
     public final ConfigBool dynamiteExplodesResistant = b(false, "dynamiteExplodesResistant", "Whether Dynamite explosions can explode unbreakable blocks like Obsidian");
+    public final ConfigInt dynamiteBlocksCheckedPerTick = i(32768, 1, "dynamiteBlocksCheckedPerTick", "The number of blocks a Dynamite explosion checks each tick to find out what it should destroy", "[larger explosions will wait until later ticks to go off]");
     
+    public final ConfigGroup explosions = group(0, "explosions", "Explosions");
+    public final ConfigBool parallelExplosionRays = b(false, "parallelExplosionRays", "Whether large Destroy explosions work out which blocks they destroy on several threads at once");
+    public final ConfigFloat parallelExplosionMinimumRadius = f(6f, 0f, "parallelExplosionMinimumRadius", "[in blocks]", "The smallest explosion which is worked out on several threads", "[smaller explosions are quicker to work out on one thread]");
+
     public final ConfigGroup dynamo = group(0, "dynamo", "Dynamo");
     public final ConfigBool dynamoBulkCharging = b(true, "dynamoBulkCharging", "Whether Dynamos can charge multiple Item Stacks at once.");
     public final ConfigFloat arcFurnaceStressMultiplier = f(5f, 0f, Float.MAX_VALUE, "arcFurnaceStressMultiplier", "The factor by which the stress impact of a Dynamo is multiplied when it is an Arc Furnace");
@@ -52,6 +62,12 @@ public class DestroyBlocksConfigs extends DestroyConfigBase {
     public final ConfigGroup vat = group(0, "vat", "Vat");
     public final ConfigBool vatExplodesAtHighPressure = b(true, "vatExplodesAtHighPressure", "Whether Vats explode if the pressure exceeds the maximum of the weakest block.");
     public final ConfigInt simulationLevel = i(10, "simulationLevel", "How many times per tick reactions and thermodynamics are simulated.", "Increasing this may cause lag. Decreasing it can cause flickering in Vats.");
+    public final ConfigEnum<IntegrationMode> vatIntegrationMode = e(IntegrationMode.FIXED_CYCLES, "vatIntegrationMode", "How Vats simulate reactions each tick.", "FIXED_CYCLES - React simulationLevel times per tick", "ADAPTIVE - Integrate the whole tick at once with an adaptive stiff solver, which takes only as many steps as the reactions need");
+    public final ConfigInt vatSyncInterval = i(2, 1, "vatSyncInterval", "[in ticks]", "The shortest time between Vats telling players about changes in their pressure, temperature and fluid level.", "Increasing this reduces network usage but makes Vat gauges less smooth.");
+    public final ConfigFloat vatSyncPressureThreshold = f(100f, 0f, "vatSyncPressureThreshold", "[in Pa]", "How much the pressure of a Vat must change before players are told about it.");
+    public final ConfigFloat vatSyncTemperatureThreshold = f(0.1f, 0f, "vatSyncTemperatureThreshold", "[in K]", "How much the temperature of a Vat must change before players are told about it.");
+    public final ConfigFloat vatSyncFluidLevelThreshold = f(0.001f, 0f, "vatSyncFluidLevelThreshold", "How much the fluid level of a Vat (as a proportion of its capacity) must change before players are told about it.");
+    public final ConfigFloat vatSyncConcentrationThreshold = f(0.01f, 0f, "vatSyncConcentrationThreshold", "[in mol/L]", "How much the concentration of any molecule in a Vat must change before players are sent the Vat's whole contents again.", "Decreasing this keeps Vat colors and contents more up to date but increases network usage.");
     public final ConfigFloat blazeBurnerHeatingPower = f(15000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerHeatingPower", "The power supplied by kindled Blaze Burners to Vats and Basins");
     public final ConfigFloat blazeBurnerSuperHeatingPower = f(50000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "blazeBurnerSuperHeatingPower", "The power supplied by superheating Blaze Burners to Vats and Basins");
     public final ConfigFloat coolerHeatingPower = f(-30000000f, -Float.MAX_VALUE, Float.MAX_VALUE, "coolerHeatingPower", "The power supplied by cooling Refrigerstraytors to Vats and Basins");
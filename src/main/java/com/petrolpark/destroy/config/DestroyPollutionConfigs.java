@@ -9,8 +9,11 @@ import com.petrolpark.destroy.util.DestroyLang;
 public class DestroyPollutionConfigs extends DestroyConfigBase {
 
     public final ConfigBool enablePollution = b(true, "enablePollution", Comments.enablePollution);
+    public final ConfigInt pollutionSyncInterval = i(10, 1, "pollutionSyncInterval", "[in ticks]", "The time between players being told about changes to the Pollution levels of the world and of the chunks they can see.", "Changes in between are sent all together.");
+    public final ConfigInt pollutionSyncThreshold = i(16, 0, "pollutionSyncThreshold", "How much the Pollution level of a chunk must change by spreading and decreasing before players are told about it.");
+    public final ConfigInt pollutionDiffusionInterval = i(20, 1, "pollutionDiffusionInterval", "[in ticks]", "The time between each chunk's Pollution spreading and decreasing.", "Chunks are spread out over this time so they are not all worked out on the same tick.");
 
-    public final EnumMap<PollutionType, ConfigFloat> pollutionDecreaseRates = enumFloatMap(PollutionType.class, PollutionType.values(), v -> "pollution" + DestroyLang.pascal(v.name()) + "Decrease", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of the world will decrease"}, 0f, 1f, 0.002f);
+    public final EnumMap<PollutionType, ConfigFloat> pollutionDecreaseRates = enumFloatMap(PollutionType.class, PollutionType.values(), v -> "pollution" + DestroyLang.pascal(v.name()) + "Decrease", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of the world will decrease", "[For chunk Pollution, this is the average decrease per tick]"}, 0f, 1f, 0.002f);
     public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingRates = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingRate", v -> new String[]{"The chance per tick that the "+DestroyLang.pascal(v.name()) + " level of two adjacent chunks will transfer"}, 0f, 1f, 0.002f);
     public final EnumMap<PollutionType, ConfigFloat> pollutionSpreadingAmounts = enumFloatMap(PollutionType.class, Stream.of(PollutionType.values()).filter(p -> p.local).toArray(i -> new PollutionType[i]), v -> "pollution" + DestroyLang.pascal(v.name()) + "SpreadingAmount", v -> new String[]{"The "+DestroyLang.pascal(v.name()) + " level transferred between two adjacent chunks", "[If set to 1.0, the two chunks will immediately equalize]"}, 0f, 1f, 0.005f);
     
@@ -8,6 +8,7 @@ import com.mojang.datafixers.util.Either;
 import com.petrolpark.destroy.DestroyClient;
 import com.petrolpark.destroy.block.renderer.BlockEntityBehaviourRenderer;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer;
 import com.petrolpark.destroy.client.gui.button.OpenDestroyMenuButton;
 import com.petrolpark.destroy.client.gui.screen.CustomExplosiveScreen;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
@@ -64,6 +65,7 @@ public class DestroyClientEvents {
             SwissArmyKnifeItem.clientPlayerTick();
             DestroyClient.FOG_HANDLER.tick();
             DestroyClient.EXTENDED_INVENTORY_HANDLER.tick(event);
+            SmogRerenderer.tick();
         } else {
             BlockEntityBehaviourRenderer.tick();
         };
@@ -10,6 +10,7 @@ import com.petrolpark.destroy.block.DestroyBlocks;
 import com.petrolpark.destroy.block.color.DyeableCustomExplosiveMixBlockColor;
 import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
 import com.petrolpark.destroy.block.color.TankPeriodicTableBlockColor;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.chemistry.naming.SaltNameOverrides;
 import com.petrolpark.destroy.client.model.CircuitPatternItemModel;
 import com.petrolpark.destroy.client.model.UniversalArmorTrimModel;
@@ -45,6 +46,7 @@ public class DestroyClientModEvents {
     public static void registerClientReloadListeners(RegisterClientReloadListenersEvent event) {
         event.registerReloadListener(SaltNameOverrides.RELOAD_LISTENER);
         event.registerReloadListener(NameLists.RELOAD_LISTENER);
+        event.registerReloadListener(ClientMixtureCache.RELOAD_LISTENER);
     };
 
     @SubscribeEvent
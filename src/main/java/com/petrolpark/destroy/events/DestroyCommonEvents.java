@@ -18,6 +18,8 @@ import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
 import com.petrolpark.destroy.capability.chunk.ChunkCrudeOil;
 import com.petrolpark.destroy.capability.entity.EntityChemicalPoison;
+import com.petrolpark.destroy.capability.level.pollution.LocalPollutionSolver;
+import com.petrolpark.destroy.capability.level.pollution.PollutionSyncer;
 import com.petrolpark.destroy.capability.player.PlayerCrouching;
 import com.petrolpark.destroy.capability.player.PlayerNovelCompoundsSynthesized;
 import com.petrolpark.destroy.capability.player.babyblue.PlayerBabyBlueAddiction;
@@ -26,6 +28,7 @@ import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousP
 import com.petrolpark.destroy.capability.player.previousposition.PlayerPreviousPositionsProvider;
 import com.petrolpark.destroy.commands.AttachedCheckCommand;
 import com.petrolpark.destroy.commands.BabyBlueAddictionCommand;
+import com.petrolpark.destroy.commands.ChemistryCacheCommand;
 import com.petrolpark.destroy.commands.CrudeOilCommand;
 import com.petrolpark.destroy.commands.PollutionCommand;
 import com.petrolpark.destroy.commands.RegenerateCircuitPatternCommand;
@@ -56,6 +59,8 @@ import com.petrolpark.destroy.network.packet.SyncVatMaterialsS2CPacket;
 import com.petrolpark.destroy.recipe.CircuitDeployerApplicationRecipe;
 import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.DiscStampingRecipe;
+import com.petrolpark.destroy.recipe.DistillationRecipeIndex;
+import com.petrolpark.destroy.recipe.ReactionInBasinRecipe;
 import com.petrolpark.destroy.recipe.ingredient.CircuitPatternIngredient;
 import com.petrolpark.destroy.sound.DestroySoundEvents;
 import com.petrolpark.destroy.util.ChemistryDamageHelper;
@@ -69,6 +74,7 @@ import com.petrolpark.destroy.util.vat.VatMaterial;
 import com.petrolpark.destroy.util.vat.VatMaterialResourceListener;
 import com.petrolpark.destroy.world.damage.DestroyDamageSources;
 import com.petrolpark.destroy.world.entity.goal.BuildSandCastleGoal;
+import com.petrolpark.destroy.world.explosion.ExcavationExplosion;
 import com.petrolpark.destroy.world.explosion.ExplosiveProperties;
 import com.petrolpark.destroy.world.village.DestroyTrades;
 import com.petrolpark.destroy.world.village.DestroyVillageAddition;
@@ -169,6 +175,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent.CropGrowEvent;
 import net.minecraftforge.event.level.BlockEvent.EntityPlaceEvent;
+import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.ChunkWatchEvent;
 import net.minecraftforge.event.level.ExplosionEvent;
 import net.minecraftforge.event.level.LevelEvent;
@@ -337,6 +344,7 @@ public class DestroyCommonEvents {
         new PollutionCommand(event.getDispatcher());
         new RegenerateCircuitPatternCommand(event.getDispatcher());
         new AttachedCheckCommand(event.getDispatcher());
+        new ChemistryCacheCommand(event.getDispatcher());
     };
 
     @SubscribeEvent
@@ -891,7 +899,7 @@ public class DestroyCommonEvents {
     };
 
     /**
-     * Remove dead Redstone Programmer items, naturally decrease Pollution over time, and tick decaying Items.
+     * Remove dead Redstone Programmer items, naturally decrease Pollution over time, send Pollution changes to clients, carry on with large Dynamite explosions, and tick decaying Items.
      */
     @SubscribeEvent
     public static void onTick(TickEvent.LevelTickEvent event) {
@@ -906,6 +914,15 @@ public class DestroyCommonEvents {
             if (PollutionHelper.pollutionEnabled() && !pollutionType.local && level.random.nextFloat() <= DestroyAllConfigs.SERVER.pollution.pollutionDecreaseRates.get(pollutionType).getF()) PollutionHelper.changePollutionGlobal(event.level, pollutionType, -1);
         };
 
+        // Local Pollution and Pollution syncing
+        if (event.phase == TickEvent.Phase.END && level instanceof ServerLevel serverLevel) {
+            LocalPollutionSolver.get(serverLevel).tick();
+            PollutionSyncer.tick(serverLevel);
+        };
+
+        // Dynamite
+        if (event.phase == TickEvent.Phase.END && level instanceof ServerLevel serverLevel) ExcavationExplosion.tick(serverLevel);
+
     };
 
     @SubscribeEvent
@@ -966,6 +983,8 @@ public class DestroyCommonEvents {
         event.addListener(new ExplosiveProperties.Listener(event.getConditionContext()));
         VatMaterialResourceListener vatMaterialListener = new VatMaterialResourceListener(event.getConditionContext());
         event.addListener(vatMaterialListener);
+        event.addListener(ReactionInBasinRecipe.RELOAD_LISTENER);
+        event.addListener(DistillationRecipeIndex.RELOAD_LISTENER);
     };
 
     @SubscribeEvent
@@ -979,8 +998,21 @@ public class DestroyCommonEvents {
 	public static void onUnloadWorld(LevelEvent.Unload event) {
 		Destroy.CIRCUIT_PUNCHER_HANDLER.onUnloadWorld(event.getLevel());
         Destroy.CIRCUIT_PATTERN_HANDLER.onLevelUnloaded(event.getLevel());
+        PollutionSyncer.onLevelUnloaded(event.getLevel());
+        LocalPollutionSolver.onLevelUnloaded(event.getLevel());
+        ExcavationExplosion.onLevelUnloaded(event.getLevel());
 	};
 
+    @SubscribeEvent
+    public static void onChunkLoaded(ChunkEvent.Load event) {
+        if (event.getChunk() instanceof LevelChunk chunk) LocalPollutionSolver.onChunkLoaded(event.getLevel(), chunk);
+    };
+
+    @SubscribeEvent
+    public static void onChunkUnloaded(ChunkEvent.Unload event) {
+        if (event.getChunk() instanceof LevelChunk chunk) LocalPollutionSolver.onChunkUnloaded(event.getLevel(), chunk);
+    };
+
     @EventBusSubscriber(bus = EventBusSubscriber.Bus.MOD)
 	public static class ModBusEvents {
         @SubscribeEvent
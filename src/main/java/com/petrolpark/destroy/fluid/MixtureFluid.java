@@ -3,6 +3,7 @@ package com.petrolpark.destroy.fluid;
 import javax.annotation.Nullable;
 
 import com.petrolpark.destroy.chemistry.legacy.ClientMixture;
+import com.petrolpark.destroy.chemistry.legacy.ClientMixtureCache;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
@@ -10,6 +11,7 @@ import com.simibubi.create.AllFluids.TintedFluidType;
 import com.simibubi.create.content.fluids.VirtualFluid;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
@@ -45,7 +47,7 @@ public class MixtureFluid extends VirtualFluid {
 
     public static FluidStack gasOf(FluidStack stack) {
         if (!DestroyFluids.isMixture(stack)) return FluidStack.EMPTY;
-        ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, stack.getOrCreateChildTag("Mixture"));
+        ReadOnlyMixture mixture = ReadOnlyMixture.readSharedNBT(stack.getOrCreateChildTag("Mixture"));
         FluidStack gasStack = new FluidStack(DestroyFluids.GAS_MIXTURE.get(), stack.getAmount());
         addMixtureToFluidStack(gasStack, mixture);
         return gasStack;
@@ -93,7 +95,9 @@ public class MixtureFluid extends VirtualFluid {
 
         @Override
         public Component getDescription(FluidStack stack) {
-            return ReadOnlyMixture.readNBT(ClientMixture::new, stack.getChildTag("Mixture")).getName();
+            CompoundTag mixtureTag = stack.getChildTag("Mixture");
+            if (mixtureTag == null) return ReadOnlyMixture.readNBT(ClientMixture::new, mixtureTag).getName();
+            return ClientMixtureCache.getName(mixtureTag);
         };
 
     };
@@ -101,7 +105,7 @@ public class MixtureFluid extends VirtualFluid {
     public static int getTintColor(FluidStack stack) {
         if (stack.isEmpty()) return 0x00FFFFFF; // Transparent
         if (!stack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) return -1;
-        return ReadOnlyMixture.readNBT(ClientMixture::new, stack.getChildTag("Mixture")).getColor();
+        return ClientMixtureCache.getColor(stack.getChildTag("Mixture"));
     };
 
     
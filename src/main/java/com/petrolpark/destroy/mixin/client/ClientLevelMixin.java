@@ -3,12 +3,12 @@ package com.petrolpark.destroy.mixin.client;
 import java.util.function.Supplier;
 
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 import com.petrolpark.destroy.block.color.SmogAffectedBlockColor;
+import com.petrolpark.destroy.mixin.accessor.ClientLevelAccessor;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import net.minecraft.client.color.block.BlockTintCache;
@@ -63,7 +63,8 @@ public abstract class ClientLevelMixin extends Level {
         return (ClientLevel)(Object)this;
     };
 
-    @Accessor("tintCaches")
-    public abstract Object2ObjectArrayMap<ColorResolver, BlockTintCache> getTintCaches();
+    private Object2ObjectArrayMap<ColorResolver, BlockTintCache> getTintCaches() {
+        return ((ClientLevelAccessor)(Object)this).getTintCaches();
+    };
     
 };
@@ -6,11 +6,13 @@ import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.network.packet.C2SPacket;
 import com.petrolpark.destroy.network.packet.ChangeKeypunchPositionC2SPacket;
 import com.petrolpark.destroy.network.packet.ChemicalPoisonS2CPacket;
+import com.petrolpark.destroy.network.packet.ChunkPollutionChangesS2CPacket;
 import com.petrolpark.destroy.network.packet.CircuitPatternsS2CPacket;
 import com.petrolpark.destroy.network.packet.ConfettiBurstPacket;
 import com.petrolpark.destroy.network.packet.ConfigureColorimeterC2SPacket;
 import com.petrolpark.destroy.network.packet.CryingS2CPacket;
 import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
+import com.petrolpark.destroy.network.packet.ExplosionKnockbackS2CPacket;
 import com.petrolpark.destroy.network.packet.ExtraInventorySizeChangeS2CPacket;
 import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
 import com.petrolpark.destroy.network.packet.MarkSeismographC2SPacket;
@@ -29,6 +31,7 @@ import com.petrolpark.destroy.network.packet.SwissArmyKnifeToolC2SPacket;
 import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 import com.petrolpark.destroy.network.packet.SyncVatMaterialsS2CPacket;
 import com.petrolpark.destroy.network.packet.TransferFluidC2SPacket;
+import com.petrolpark.destroy.network.packet.VatStateS2CPacket;
 import com.petrolpark.destroy.network.packet.RedstoneQuantityMonitorThresholdChangeC2SPacket;
 
 import net.minecraft.core.BlockSource;
@@ -77,6 +80,9 @@ public class DestroyMessages {
         addS2CPacket(net, ExtraInventorySizeChangeS2CPacket.class, ExtraInventorySizeChangeS2CPacket::new);
         addS2CPacket(net, SmartExplosionS2CPacket.class, SmartExplosionS2CPacket::read);
         addS2CPacket(net, ConfettiBurstPacket.class, ConfettiBurstPacket::new);
+        addS2CPacket(net, VatStateS2CPacket.class, VatStateS2CPacket::new);
+        addS2CPacket(net, ChunkPollutionChangesS2CPacket.class, ChunkPollutionChangesS2CPacket::new);
+        addS2CPacket(net, ExplosionKnockbackS2CPacket.class, ExplosionKnockbackS2CPacket::new);
 
         addC2SPacket(net, SwissArmyKnifeToolC2SPacket.class, SwissArmyKnifeToolC2SPacket::new);
         addC2SPacket(net, RedstoneProgramSyncC2SPacket.class, RedstoneProgramSyncC2SPacket::new);
@@ -0,0 +1,103 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraftforge.network.NetworkEvent.Context;
+
+/**
+ * Tells a client about the {@link PollutionType Pollution} levels which have changed in any number of Chunks it can see.
+ * Only the changed Pollution Types of each Chunk are included, each as a var int.
+ * @see SyncChunkPollutionS2CPacket Sending every Pollution level of one Chunk
+ */
+public class ChunkPollutionChangesS2CPacket extends S2CPacket {
+
+    private static final PollutionType[] TYPES = PollutionType.values();
+
+    private final LongArrayList chunkPositions;
+    /**
+     * For each Chunk, a bit mask of the ordinals of the {@link PollutionType Pollution Types} which have changed.
+     */
+    private final IntArrayList changedTypes;
+    /**
+     * The new value of every changed Pollution Type, in the order of the Chunks and then of the ordinals.
+     */
+    private final IntArrayList values;
+
+    public ChunkPollutionChangesS2CPacket() {
+        chunkPositions = new LongArrayList();
+        changedTypes = new IntArrayList();
+        values = new IntArrayList();
+    };
+
+    public ChunkPollutionChangesS2CPacket(FriendlyByteBuf buffer) {
+        int chunks = buffer.readVarInt();
+        chunkPositions = new LongArrayList(chunks);
+        changedTypes = new IntArrayList(chunks);
+        values = new IntArrayList(chunks);
+        for (int i = 0; i < chunks; i++) {
+            chunkPositions.add(buffer.readLong());
+            int changes = buffer.readByte();
+            changedTypes.add(changes);
+            for (PollutionType pollutionType : TYPES) if ((changes & 1 << pollutionType.ordinal()) != 0) values.add(buffer.readVarInt());
+        };
+    };
+
+    /**
+     * Include the changes to a Chunk in this packet.
+     * @param pos
+     * @param changes Bit mask of the ordinals of the {@link PollutionType Pollution Types} to include
+     * @param pollution
+     */
+    public void add(ChunkPos pos, int changes, Pollution pollution) {
+        chunkPositions.add(pos.toLong());
+        changedTypes.add(changes);
+        for (PollutionType pollutionType : TYPES) if ((changes & 1 << pollutionType.ordinal()) != 0) values.add(pollution.get(pollutionType));
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(chunkPositions.size());
+        int valueIndex = 0;
+        for (int i = 0; i < chunkPositions.size(); i++) {
+            buffer.writeLong(chunkPositions.getLong(i));
+            int changes = changedTypes.getInt(i);
+            buffer.writeByte(changes);
+            for (PollutionType pollutionType : TYPES) if ((changes & 1 << pollutionType.ordinal()) != 0) buffer.writeVarInt(values.getInt(valueIndex++));
+        };
+    };
+
+    @Override
+    @SuppressWarnings("resource")
+    public boolean handle(Supplier<Context> supplier) {
+        supplier.get().enqueueWork(() -> {
+            ClientLevel level = Minecraft.getInstance().level;
+            if (level == null) return;
+            int valueIndex = 0;
+            for (int i = 0; i < chunkPositions.size(); i++) {
+                ChunkPos pos = new ChunkPos(chunkPositions.getLong(i));
+                int changes = changedTypes.getInt(i);
+                int firstValueIndex = valueIndex;
+                valueIndex += Integer.bitCount(changes);
+                LevelChunk chunk = level.getChunkSource().getChunk(pos.x, pos.z, false);
+                if (chunk != null) chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
+                    int index = firstValueIndex;
+                    for (PollutionType pollutionType : TYPES) if ((changes & 1 << pollutionType.ordinal()) != 0) pollution.set(pollutionType, values.getInt(index++));
+                    if (pollution instanceof Pollution.Chunk chunkPollution && chunkPollution.checkRerender()) SmogRerenderer.queue(pos);
+                });
+            };
+        });
+        return true;
+    };
+
+};
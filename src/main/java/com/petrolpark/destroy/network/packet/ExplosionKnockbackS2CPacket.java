@@ -0,0 +1,42 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.function.Supplier;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.network.NetworkEvent.Context;
+
+/**
+ * Knocks back a Player hit by a {@link com.petrolpark.destroy.world.explosion.SmartExplosion SmartExplosion}.
+ */
+public class ExplosionKnockbackS2CPacket extends S2CPacket {
+
+    private final Vec3 knockback;
+
+    public ExplosionKnockbackS2CPacket(Vec3 knockback) {
+        this.knockback = knockback;
+    };
+
+    public ExplosionKnockbackS2CPacket(FriendlyByteBuf buffer) {
+        knockback = new Vec3(buffer.readFloat(), buffer.readFloat(), buffer.readFloat());
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeFloat((float)knockback.x());
+        buffer.writeFloat((float)knockback.y());
+        buffer.writeFloat((float)knockback.z());
+    };
+
+    @SuppressWarnings("resource")
+    @Override
+    public boolean handle(Supplier<Context> supplier) {
+        supplier.get().enqueueWork(() -> {
+            Minecraft mc = Minecraft.getInstance();
+            if (mc.player != null) mc.player.setDeltaMovement(knockback);
+        });
+        return true;
+    };
+    
+};
@@ -1,51 +1,50 @@
 package com.petrolpark.destroy.network.packet;
 
-import java.util.Optional;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.network.DestroyMessages;
 import com.petrolpark.destroy.world.explosion.SmartExplosion;
 
-import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.network.NetworkEvent.Context;
 
+/**
+ * Tells every client which can see a {@link SmartExplosion} about it. This is the same for every client, so it is only written once however many there are;
+ * the knockback of each Player hit is {@link ExplosionKnockbackS2CPacket sent separately}.
+ */
 public class SmartExplosionS2CPacket extends S2CPacket {
 
     public final SmartExplosion explosion;
-    public final Vec3 recipientKnockback;
 
-    protected SmartExplosionS2CPacket(SmartExplosion explosion, Vec3 recipientKnockback) {
+    protected SmartExplosionS2CPacket(SmartExplosion explosion) {
         this.explosion = explosion;
-        this.recipientKnockback = recipientKnockback;
     };
 
     public static final SmartExplosionS2CPacket read(FriendlyByteBuf buffer) {
         SmartExplosion.Serializer<?> serializer = SmartExplosion.getType(buffer.readResourceLocation());
-        return new SmartExplosionS2CPacket(serializer.read(buffer), new Vec3(buffer.readDouble(), buffer.readDouble(), buffer.readDouble()));
+        return new SmartExplosionS2CPacket(serializer.read(buffer));
     };
 
-    public static void send(ServerPlayer player, SmartExplosion explosion) {
-        DestroyMessages.sendToClient(new SmartExplosionS2CPacket(explosion, Optional.ofNullable(explosion.getHitPlayers().get(player)).orElse(Vec3.ZERO)), player);
+    public static void send(ServerLevel level, SmartExplosion explosion) {
+        DestroyMessages.sendToClientsTrackingChunk(new SmartExplosionS2CPacket(explosion), level.getChunkAt(BlockPos.containing(explosion.getPosition())));
+        explosion.getHitPlayers().forEach((player, knockback) -> {
+            if (player instanceof ServerPlayer serverPlayer) DestroyMessages.sendToClient(new ExplosionKnockbackS2CPacket(knockback), serverPlayer);
+        });
     };
 
     @Override
     public void toBytes(FriendlyByteBuf buffer) {
         buffer.writeResourceLocation(explosion.getSerializer().id);
         explosion.write(buffer);
-        buffer.writeDouble(recipientKnockback.x());
-        buffer.writeDouble(recipientKnockback.y());
-        buffer.writeDouble(recipientKnockback.z());
     };
 
     @Override
     public boolean handle(Supplier<Context> supplier) {
         supplier.get().enqueueWork(() -> {
-            Minecraft mc = Minecraft.getInstance();
             explosion.finalizeExplosion(true);
-            mc.player.setDeltaMovement(recipientKnockback);
         });
         return true;
     };
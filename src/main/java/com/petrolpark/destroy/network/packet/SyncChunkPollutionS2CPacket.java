@@ -3,9 +3,9 @@ package com.petrolpark.destroy.network.packet;
 import java.util.function.Supplier;
 
 import com.petrolpark.destroy.capability.Pollution;
+import com.petrolpark.destroy.capability.level.pollution.SmogRerenderer;
 
 import net.minecraft.client.Minecraft;
-import net.minecraft.client.renderer.chunk.ChunkRenderDispatcher.RenderChunk;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.world.level.ChunkPos;
@@ -41,10 +41,7 @@ public class SyncChunkPollutionS2CPacket extends S2CPacket {
             LevelChunk chunk = mc.level.getChunkSource().getChunk(pos.x, pos.z, false);
             if (chunk != null) chunk.getCapability(Pollution.CAPABILITY).ifPresent(pollution -> {
                 pollution.loadNBTData(chunkPollutionTag);
-                if (((Pollution.Chunk)pollution).checkRerender()) {
-                    for (RenderChunk renderChunk : mc.levelRenderer.viewArea.chunks) renderChunk.setDirty(true);
-                    mc.level.clearTintCaches();
-                };
+                if (((Pollution.Chunk)pollution).checkRerender()) SmogRerenderer.queue(pos);
             });
         });
         return true;
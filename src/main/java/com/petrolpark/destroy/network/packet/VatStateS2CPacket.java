@@ -0,0 +1,100 @@
+package com.petrolpark.destroy.network.packet;
+
+import java.util.function.Supplier;
+
+import com.petrolpark.destroy.block.entity.VatControllerBlockEntity;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent.Context;
+
+/**
+ * Tells clients about those parts of the state of a {@link VatControllerBlockEntity Vat} which change often - its pressure, temperature,
+ * fluid level and whether it is boiling or reacting - without sending the whole Block Entity. Only the fields which have changed are included.
+ */
+public class VatStateS2CPacket extends S2CPacket {
+
+    public static final byte PRESSURE = 1;
+    public static final byte TEMPERATURE = 1 << 1;
+    public static final byte FLUID_LEVEL = 1 << 2;
+    public static final byte FLAGS = 1 << 3;
+
+    private static final byte BOILING = 1 << 4;
+    private static final byte REACTING = 1 << 5;
+
+    private final BlockPos pos;
+    /**
+     * Which of {@link VatStateS2CPacket#PRESSURE}, {@link VatStateS2CPacket#TEMPERATURE}, {@link VatStateS2CPacket#FLUID_LEVEL} and {@link VatStateS2CPacket#FLAGS} this contains.
+     */
+    private final byte changes;
+    private final float pressure;
+    private final float temperature;
+    private final float fluidLevel;
+    private final boolean boiling;
+    private final boolean reacting;
+
+    /**
+     * @param pos The position of the Vat Controller
+     * @param changes Which of the following values should be sent
+     * @param pressure (in Pa above air pressure)
+     * @param temperature (in kelvins)
+     * @param fluidLevel The proportion of the Vat filled with liquid
+     * @param boiling
+     * @param reacting
+     */
+    public VatStateS2CPacket(BlockPos pos, byte changes, float pressure, float temperature, float fluidLevel, boolean boiling, boolean reacting) {
+        this.pos = pos;
+        this.changes = changes;
+        this.pressure = pressure;
+        this.temperature = temperature;
+        this.fluidLevel = fluidLevel;
+        this.boiling = boiling;
+        this.reacting = reacting;
+    };
+
+    public VatStateS2CPacket(FriendlyByteBuf buffer) {
+        pos = buffer.readBlockPos();
+        byte header = buffer.readByte();
+        changes = (byte)(header & (PRESSURE | TEMPERATURE | FLUID_LEVEL | FLAGS));
+        pressure = has(PRESSURE) ? buffer.readFloat() : 0f;
+        temperature = has(TEMPERATURE) ? buffer.readFloat() : 0f;
+        fluidLevel = has(FLUID_LEVEL) ? buffer.readFloat() : 0f;
+        boiling = (header & BOILING) != 0;
+        reacting = (header & REACTING) != 0;
+    };
+
+    @Override
+    public void toBytes(FriendlyByteBuf buffer) {
+        buffer.writeBlockPos(pos);
+        byte header = changes;
+        if (boiling) header |= BOILING;
+        if (reacting) header |= REACTING;
+        buffer.writeByte(header); // The flags fit in the same byte as the list of what's changed
+        if (has(PRESSURE)) buffer.writeFloat(pressure);
+        if (has(TEMPERATURE)) buffer.writeFloat(temperature);
+        if (has(FLUID_LEVEL)) buffer.writeFloat(fluidLevel);
+    };
+
+    private boolean has(byte change) {
+        return (changes & change) != 0;
+    };
+
+    @Override
+    @SuppressWarnings("resource")
+    public boolean handle(Supplier<Context> supplier) {
+        Context context = supplier.get();
+        context.enqueueWork(() -> {
+            ClientLevel level = Minecraft.getInstance().level;
+            if (level == null || !level.isLoaded(pos)) return;
+            if (!(level.getBlockEntity(pos) instanceof VatControllerBlockEntity vatController)) return;
+            if (has(PRESSURE)) vatController.chasePressure(pressure);
+            if (has(TEMPERATURE)) vatController.chaseTemperature(temperature);
+            if (has(FLUID_LEVEL)) vatController.chaseFluidLevel(fluidLevel);
+            if (has(FLAGS)) vatController.setClientFlags(boiling, reacting);
+        });
+        return true;
+    };
+
+};
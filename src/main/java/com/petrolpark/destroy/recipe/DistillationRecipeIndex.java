@@ -0,0 +1,121 @@
+package com.petrolpark.destroy.recipe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.petrolpark.destroy.compat.tfmg.SharedDistillationRecipes;
+import com.simibubi.create.foundation.recipe.RecipeFinder;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
+import net.minecraft.world.item.crafting.Recipe;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+/**
+ * The {@link DistillationRecipe Distillation Recipes} (including those {@link SharedDistillationRecipes converted from TFMG}) indexed by the Fluids they take,
+ * so Distillation Towers only have to test the Recipes which could possibly use what they contain.
+ * <p>Every Level on a server shares the same Recipes, so there is one index, built the first time it is needed and {@link DistillationRecipeIndex#RELOAD_LISTENER dropped}
+ * whenever Recipes are reloaded.</p>
+ */
+public class DistillationRecipeIndex {
+
+    private static final Object distillationRecipeKey = new Object();
+
+    public static final Listener RELOAD_LISTENER = new Listener();
+
+    private static boolean built = false;
+    /**
+     * Whether the index includes Recipes converted from TFMG, so it can be rebuilt if that is turned on or off.
+     */
+    private static boolean builtWithTFMGRecipes;
+
+    private static final Map<Fluid, List<DistillationRecipe>> RECIPES_BY_FLUID = new HashMap<>();
+    /**
+     * Recipes whose Fluid Ingredient doesn't list what it matches, which must be tested against every Fluid.
+     */
+    private static final List<DistillationRecipe> UNINDEXED_RECIPES = new ArrayList<>();
+
+    /**
+     * Find the first Distillation Recipe which can use the given Fluid, in a Distillation Tower at the given position with the given number of fractions.
+     * @param level
+     * @param pos The position of the controller Bubble Cap
+     * @param fluid The Fluid in the controller Bubble Cap
+     * @param maxFractions The number of Bubble Caps above the controller
+     * @return {@code null} if there is no such Recipe
+     */
+    @Nullable
+    public static DistillationRecipe find(Level level, BlockPos pos, FluidStack fluid, int maxFractions) {
+        if (fluid.isEmpty()) return null;
+        refresh(level);
+        for (DistillationRecipe recipe : RECIPES_BY_FLUID.getOrDefault(fluid.getFluid(), Collections.emptyList())) {
+            if (matches(recipe, level, pos, fluid, maxFractions)) return recipe;
+        };
+        for (DistillationRecipe recipe : UNINDEXED_RECIPES) {
+            if (matches(recipe, level, pos, fluid, maxFractions)) return recipe;
+        };
+        return null;
+    };
+
+    /**
+     * Whether the given Recipe can be used by a Distillation Tower at the given position with the given number of fractions, containing the given Fluid.
+     */
+    public static boolean matches(DistillationRecipe recipe, Level level, BlockPos pos, FluidStack fluid, int maxFractions) {
+        return recipe.getFractions() <= maxFractions && recipe.getRequiredFluid().test(fluid) && recipe.isValidAt(level, pos);
+    };
+
+    /**
+     * Build the index if it hasn't been built since Recipes were last reloaded.
+     */
+    private static void refresh(Level level) {
+        boolean includeTFMGRecipes = SharedDistillationRecipes.isTFMGToDestroyEnabled();
+        if (built && builtWithTFMGRecipes == includeTFMGRecipes) return;
+
+        RECIPES_BY_FLUID.clear();
+        UNINDEXED_RECIPES.clear();
+        for (Recipe<?> recipe : RecipeFinder.get(distillationRecipeKey, level, r -> r.getType() == DestroyRecipeTypes.DISTILLATION.getType())) {
+            if (recipe instanceof DistillationRecipe distillationRecipe) index(distillationRecipe);
+        };
+        for (DistillationRecipe recipe : SharedDistillationRecipes.getTFMGToDestroyRecipes(level)) index(recipe); // TFMG Recipes come after Destroy ones
+        built = true;
+        builtWithTFMGRecipes = includeTFMGRecipes;
+    };
+
+    /**
+     * Forget the index, so it is built again from the new Recipes the next time it is needed.
+     */
+    public static void clear() {
+        built = false;
+        RECIPES_BY_FLUID.clear();
+        UNINDEXED_RECIPES.clear();
+    };
+
+    private static void index(DistillationRecipe recipe) {
+        List<FluidStack> matchingFluids = recipe.getRequiredFluid().getMatchingFluidStacks();
+        if (matchingFluids.isEmpty()) {
+            UNINDEXED_RECIPES.add(recipe);
+            return;
+        };
+        matchingFluids.stream().map(FluidStack::getFluid).distinct().forEach(fluid -> RECIPES_BY_FLUID.computeIfAbsent(fluid, f -> new ArrayList<>()).add(recipe));
+    };
+
+    /**
+     * Drops the index, and the Recipes converted from TFMG, whenever data packs (and so Recipes) are reloaded.
+     */
+    public static class Listener implements ResourceManagerReloadListener {
+
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            SharedDistillationRecipes.clearConvertedRecipes();
+            clear();
+        };
+
+    };
+};
@@ -1,12 +1,24 @@
 package com.petrolpark.destroy.recipe;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.block.entity.behaviour.ExtendedBasinBehaviour;
 import com.petrolpark.destroy.capability.Pollution;
@@ -16,6 +28,8 @@ import com.petrolpark.destroy.chemistry.legacy.ReactionResult;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.CombinedReactionResult;
 import com.petrolpark.destroy.chemistry.legacy.reactionresult.PrecipitateReactionResult;
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.config.DestroyBlocksConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
 import com.petrolpark.destroy.util.ItemHelper;
@@ -29,10 +43,15 @@ import com.simibubi.create.foundation.recipe.RecipeFinder;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.ResourceManagerReloadListener;
 import net.minecraft.util.Mth;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
 public class ReactionInBasinRecipe extends BasinRecipe {
@@ -40,6 +59,38 @@ public class ReactionInBasinRecipe extends BasinRecipe {
     private static final Object recipeCacheKey = new Object();
     private static final int BASIN_MAX_OUTPUT = 1000;
 
+    /**
+     * Heating powers (in W) are rounded to the nearest multiple of this when looking for {@link BasinReactionOutcome Outcomes}.
+     */
+    private static final float HEATING_POWER_PRECISION = 1000f;
+
+    /**
+     * Mechanical Mixers look for Recipes every time their Basin changes, and working out whether there is one means simulating the whole Reaction,
+     * so the {@link BasinReactionOutcome Outcome} for each distinct {@link BasinContents set of contents} is remembered.
+     */
+    private static final Cache<BasinContents, BasinReactionOutcome> OUTCOMES = CacheBuilder.newBuilder()
+        .maximumSize(256)
+        .build();
+
+    /**
+     * How many times the remembered {@link ReactionInBasinRecipe#OUTCOMES Outcomes} have been {@link ReactionInBasinRecipe#clearCachedOutcomes forgotten}.
+     * {@link PendingBasinReaction Reactions} started before then are not used, as they may have been worked out with the old Recipes.
+     */
+    private static volatile int outcomeGeneration = 0;
+
+    public static final Listener RELOAD_LISTENER = new Listener();
+
+    /**
+     * The number of threads {@link PendingBasinReaction Basin Reactions} are worked out on, if they are {@link DestroyBlocksConfigs#asyncBasinReactions not worked out on the main thread}.
+     */
+    private static final int REACTION_THREADS = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() / 2));
+    /**
+     * The number of Basin Reactions which can be waiting for a thread before any more are worked out on the main thread instead.
+     */
+    private static final int MAXIMUM_QUEUED_REACTIONS = 64;
+
+    private static ExecutorService reactionExecutor;
+
     public ReactionInBasinRecipe(ProcessingRecipeParams params) {
         super(params);
     };
@@ -47,22 +98,94 @@ public class ReactionInBasinRecipe extends BasinRecipe {
     //TODO replace with apply()
     @Nullable
     public static ReactionInBasinRecipe create(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, BasinBlockEntity basin) {
+        Level level = basin.getLevel();
+        BlockPos pos = basin.getBlockPos();
+        // Round the conditions so tiny fluctuations don't stop Outcomes being reused
+        float heatingPower = Math.round(IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP) / HEATING_POWER_PRECISION) * HEATING_POWER_PRECISION;
+        float outsideTemperature = Math.round(Pollution.getLocalTemperature(level, pos));
+
+        ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
+
+        // Only simulate the Reaction if these exact contents have not been simulated before
+        BasinContents contents = BasinContents.of(availableFluids, availableItems, heatingPower, outsideTemperature);
+        BasinReactionOutcome outcome = OUTCOMES.getIfPresent(contents);
+        PendingBasinReaction pendingReaction = behaviour.getPendingReaction();
+        if (pendingReaction != null && (outcome != null || !pendingReaction.isFor(contents))) { // If whatever was being worked out for this Basin is no longer needed
+            behaviour.setPendingReaction(null);
+            pendingReaction = null;
+        };
+        if (outcome == null) {
+            if (pendingReaction != null) { // If these contents are already being reacted on another thread
+                if (!pendingReaction.isDone()) return null; // Don't match any Recipe until we know what happens
+                outcome = pendingReaction.getOutcome();
+                behaviour.setPendingReaction(null);
+            } else {
+                BasinSnapshot snapshot = snapshot(availableFluids, availableItems, level, heatingPower, outsideTemperature);
+                if (snapshot == null) {
+                    outcome = BasinReactionOutcome.NONE;
+                } else if (DestroyAllConfigs.SERVER.blocks.asyncBasinReactions.get()) {
+                    pendingReaction = PendingBasinReaction.submit(contents, snapshot);
+                    if (pendingReaction != null) {
+                        behaviour.setPendingReaction(pendingReaction);
+                        return null;
+                    };
+                    outcome = react(snapshot); // If there are too many Reactions waiting to be worked out already, just do it now
+                } else {
+                    outcome = react(snapshot);
+                };
+            };
+            OUTCOMES.put(contents, outcome);
+        };
+
+        boolean shouldUpdateBasin = false;
+
+        if (outcome.reacted()) {
+            behaviour.setReactionResults(new HashMap<>(outcome.reactionResults())); // Schedule the Reaction Results to occur once the Mixing has finished
+            behaviour.evaporatedFluid = outcome.evaporatedFluid().copy();
+            shouldUpdateBasin = true;
+        };
+
+        if (behaviour.tooFullToReact != outcome.tooFullToReact()) {
+            behaviour.tooFullToReact = outcome.tooFullToReact();
+            shouldUpdateBasin = true;
+        };
+        if (shouldUpdateBasin) basin.sendData();
+
+        if (!outcome.reacted() || outcome.tooFullToReact()) return null;
+
         ProcessingRecipeBuilder<ReactionInBasinRecipe> builder = new ProcessingRecipeBuilder<>(ReactionInBasinRecipe::new, Destroy.asResource("reaction_in_basin_"));
 
+        // Add the resultant Mixture and Item Stacks to the results for this Recipe
+        builder.output(outcome.outputMixture().copy());
+        outcome.itemOutputs().stream().map(ItemStack::copy).forEach(builder::output);
+
+        // Set the duration of the Recipe to the time it took to React
+        builder.duration(outcome.duration());
+
+        // Add all the given Fluid Stacks as "required ingredients"
+        availableFluids.stream().map(FluidIngredient::fromFluidStack).forEach(builder::require);
+        // Add all the given Item Stacks as "required ingredients"
+        availableItems.stream().forEach(stack -> {
+            if (stack.isEmpty()) return;
+            for (int i = 0; i < stack.getCount(); i++) builder.require(Ingredient.of(stack.getItem()));
+        });
+
+        return builder.build();
+    };
+
+    /**
+     * Copy everything needed to {@link ReactionInBasinRecipe#react react} the contents of a Basin, converting non-Mixture Fluids into Mixtures.
+     * This looks up Recipes, so must be done on the main thread.
+     * @param heatingPower (in W)
+     * @param outsideTemperature (in kelvins)
+     * @return {@code null} if the contents of the Basin cannot react
+     */
+    @Nullable
+    private static BasinSnapshot snapshot(Collection<FluidStack> availableFluids, Collection<ItemStack> availableItems, Level level, float heatingPower, float outsideTemperature) {
         List<ItemStack> availableItemsCopy = availableItems.stream().map(ItemStack::copy).filter(stack -> !stack.isEmpty()).toList();
 
-        boolean canReact = true; // Start by assuming we will be able to React
         boolean containsRawMixtures = false; // If the ONLY thing we have are non-Mixtures, even if they can be converted to Mixtures we don't want to react
 
-        boolean isBasinTooFullToReact = false;
-        
-        Level level = basin.getLevel();
-        BlockPos pos = basin.getBlockPos();
-        float heatingPower = IVatHeaterBlock.getHeatingPower(level, pos.below(), Direction.UP);
-        float outsideTemperature = Pollution.getLocalTemperature(level, pos);
-        ExtendedBasinBehaviour behaviour = basin.getBehaviour(ExtendedBasinBehaviour.TYPE);
-        boolean shouldUpdateBasin = false;
-
         Map<LegacyMixture, Double> mixtures = new HashMap<>(availableFluids.size()); // A Map of all available Mixtures to the volume of them available (in Buckets)
         int totalAmount = 0; // How much Mixture there is
 
@@ -76,18 +199,14 @@ public class ReactionInBasinRecipe extends BasinRecipe {
                 containsRawMixtures = true;
             } else {
                 // Non-Mixture -> Mixture conversions
-                MixtureConversionRecipe recipe = RecipeFinder.get(recipeCacheKey, basin.getLevel(), r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
+                MixtureConversionRecipe recipe = RecipeFinder.get(recipeCacheKey, level, r -> r.getType() == DestroyRecipeTypes.MIXTURE_CONVERSION.getType())
                     .stream()
                     .map(r -> (MixtureConversionRecipe)r)
                     .filter(r -> r.getFluidIngredients().get(0).test(fluidStack))
                     .findFirst()
                     .orElse(null);
-                if (recipe == null) {
-                    canReact = false;
-                    break;
-                } else {
-                    mixture = LegacyMixture.readNBT(recipe.getFluidResults().get(0).getOrCreateTag().getCompound("Mixture"));
-                };
+                if (recipe == null) return null;
+                mixture = LegacyMixture.readNBT(recipe.getFluidResults().get(0).getOrCreateTag().getCompound("Mixture"));
             };
 
             int amount = fluidStack.getAmount();
@@ -95,87 +214,168 @@ public class ReactionInBasinRecipe extends BasinRecipe {
             mixtures.put(mixture, (double)amount / Constants.MILLIBUCKETS_PER_LITER);
         };
 
-        if (!containsRawMixtures && mixtures.size() == 1) canReact = false; // Don't react without Mixtures, even if there are fluids which could be converted into Mixtures 
+        if (!containsRawMixtures && mixtures.size() == 1) return null; // Don't react without Mixtures, even if there are fluids which could be converted into Mixtures 
 
-        tryReact: if (canReact) {
-            // TODO modify temp according to Heat Level
-            LegacyMixture mixture = LegacyMixture.mix(mixtures);
-            ReactionInBasinResult result = mixture.reactInBasin(totalAmount, availableItemsCopy, heatingPower, outsideTemperature); // Mutably react the Mixture and change the Item Stacks
-
-            // If equilibrium was not disturbed, don't do anything else
-            if (result.ticks() == 0) {
-                canReact = false;
-                break tryReact;
-            };
-
-            Phases phases = mixture.separatePhases(result.amount());
+        return new BasinSnapshot(mixtures, totalAmount, availableItemsCopy, heatingPower, outsideTemperature);
+    };
 
-            // Add the resultant Mixture to the results for this Recipe
-            FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
-            builder.output(outputMixtureStack);
+    /**
+     * Work out what happens when the contents of a Basin are left to react. This is expensive, as it can mean simulating
+     * hundreds of ticks of Reactions, so is only done once for any given {@link BasinContents contents}. It only touches the
+     * copies in the snapshot, so can be done {@link PendingBasinReaction on another thread}.
+     */
+    private static BasinReactionOutcome react(BasinSnapshot snapshot) {
+        List<ItemStack> availableItemsCopy = snapshot.items();
 
-            // Let the Player know if the Reaction cannot occur because the output Fluid will not fit
-            if (outputMixtureStack.getAmount() > BASIN_MAX_OUTPUT) {
-                isBasinTooFullToReact = true;
-                canReact = false;
-            };
+        // TODO modify temp according to Heat Level
+        LegacyMixture mixture = LegacyMixture.mix(snapshot.mixtures());
+        ReactionInBasinResult result = mixture.reactInBasin(snapshot.totalAmount(), availableItemsCopy, snapshot.heatingPower(), snapshot.outsideTemperature()); // Mutably react the Mixture and change the Item Stacks
 
-            int duration = Mth.clamp(result.ticks(), 40, 600); // Ensure this takes at least 2 seconds and less than 30 seconds
+        // If equilibrium was not disturbed, don't do anything else
+        if (result.ticks() == 0) return BasinReactionOutcome.NONE;
 
-            // Set the duration of the Recipe to the time it took to React
-            builder.duration(duration);
+        Phases phases = mixture.separatePhases(result.amount());
 
-            // Add the resultant Item Stacks to the results for this Recipe
-            availableItemsCopy.stream().forEach(stack -> {
-                if (stack.isEmpty()) return;
-                builder.output(stack);
-            });
+        // The resultant Mixture
+        FluidStack outputMixtureStack = MixtureFluid.of((int)Math.round(phases.liquidVolume()), phases.liquidMixture());
 
-            // Add all the given Fluid Stacks as "required ingredients"
-            availableFluids.stream().map(FluidIngredient::fromFluidStack).forEach(builder::require);
-            // Add all the given Item Stacks as "required ingredients"
-            availableItems.stream().forEach(stack -> {
-                if (stack.isEmpty()) return;
-                for (int i = 0; i < stack.getCount(); i++) builder.require(Ingredient.of(stack.getItem()));
-            });
+        // Let the Player know if the Reaction cannot occur because the output Fluid will not fit
+        boolean isBasinTooFullToReact = outputMixtureStack.getAmount() > BASIN_MAX_OUTPUT;
 
-            Map<ReactionResult, Integer> reactionResults = new HashMap<>();
+        int duration = Mth.clamp(result.ticks(), 40, 600); // Ensure this takes at least 2 seconds and less than 30 seconds
 
-            gatherReactionResults(result.reactionResults(), reactionResults, builder); // Gather all 
+        // The resultant Item Stacks
+        List<ItemStack> itemOutputs = new ArrayList<>();
+        availableItemsCopy.stream().forEach(stack -> {
+            if (stack.isEmpty()) return;
+            itemOutputs.add(stack);
+        });
 
-            behaviour.setReactionResults(reactionResults); // Schedule the Reaction Results to occur once the Mixing has finished
-            behaviour.evaporatedFluid = MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture());
-            shouldUpdateBasin = true;
-        };
+        Map<ReactionResult, Integer> reactionResults = new HashMap<>();
 
-        if (behaviour.tooFullToReact != isBasinTooFullToReact) {
-            behaviour.tooFullToReact = isBasinTooFullToReact;
-            shouldUpdateBasin = true;
-        };
-        if (shouldUpdateBasin) basin.sendData();
+        gatherReactionResults(result.reactionResults(), reactionResults, itemOutputs); // Gather all 
 
-        if (!canReact) return null;
-        
-        return builder.build();
+        return new BasinReactionOutcome(true, isBasinTooFullToReact, outputMixtureStack, duration, itemOutputs, reactionResults, MixtureFluid.of((int)Math.round(phases.gasVolume()), phases.gasMixture()));
     };
 
-    private static void gatherReactionResults(Map<ReactionResult, Integer> resultsOfReaction, Map<ReactionResult, Integer> resultsToEnact, ProcessingRecipeBuilder<ReactionInBasinRecipe> builder) {
+    private static void gatherReactionResults(Map<ReactionResult, Integer> resultsOfReaction, Map<ReactionResult, Integer> resultsToEnact, List<ItemStack> itemOutputs) {
         for (ReactionResult reactionresult : resultsOfReaction.keySet()) {
             if (reactionresult instanceof CombinedReactionResult combinedResult) {
                 Map<ReactionResult, Integer> childMap = new HashMap<>();
                 for (ReactionResult childResult : combinedResult.getChildren()) {
                     childMap.put(childResult, resultsOfReaction.get(combinedResult));
                 };
-                gatherReactionResults(childMap, resultsToEnact, builder);
+                gatherReactionResults(childMap, resultsToEnact, itemOutputs);
             } else if (reactionresult instanceof PrecipitateReactionResult precipitationResult) {
                 ItemStack precipitate = precipitationResult.getPrecipitate();
-                ItemHelper.withCount(precipitate, resultsOfReaction.get(reactionresult) * precipitate.getCount()).forEach(builder::output);
+                itemOutputs.addAll(ItemHelper.withCount(precipitate, resultsOfReaction.get(reactionresult) * precipitate.getCount()));
             } else { // Don't deal with precipitations in the normal way
                 resultsToEnact.put(reactionresult, resultsOfReaction.get(reactionresult));
             };
         };
     };
 
+    /**
+     * The number of Basin {@link BasinReactionOutcome Outcomes} currently remembered.
+     */
+    public static long getCachedOutcomeCount() {
+        return OUTCOMES.size();
+    };
+
+    /**
+     * Forget every remembered Basin {@link BasinReactionOutcome Outcome}, for example if the Mixture conversion Recipes have changed.
+     */
+    public static void clearCachedOutcomes() {
+        outcomeGeneration++;
+        OUTCOMES.invalidateAll();
+    };
+
+    /**
+     * Forgets every remembered Basin {@link BasinReactionOutcome Outcome} whenever data packs (and so Recipes) are reloaded.
+     */
+    public static class Listener implements ResourceManagerReloadListener {
+
+        @Override
+        public void onResourceManagerReload(ResourceManager resourceManager) {
+            clearCachedOutcomes();
+        };
+
+    };
+
+    private static synchronized ExecutorService getReactionExecutor() {
+        if (reactionExecutor == null) reactionExecutor = new ThreadPoolExecutor(REACTION_THREADS, REACTION_THREADS, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAXIMUM_QUEUED_REACTIONS),
+            new ThreadFactoryBuilder().setNameFormat("Destroy Basin Reactions %d").setDaemon(true).build()
+        );
+        return reactionExecutor;
+    };
+
+    /**
+     * A Reaction in a Basin being worked out on another thread. The {@link ExtendedBasinBehaviour} of the Basin holds on to this until it is done,
+     * and it is cancelled if the contents of the Basin change in the meantime.
+     */
+    public static class PendingBasinReaction {
+
+        private final BasinContents contents;
+        private final CompletableFuture<BasinReactionOutcome> future;
+        /**
+         * The {@link ReactionInBasinRecipe#outcomeGeneration generation} of Outcomes when this Reaction was started.
+         */
+        private final int generation;
+
+        private PendingBasinReaction(BasinContents contents, CompletableFuture<BasinReactionOutcome> future) {
+            this.contents = contents;
+            this.future = future;
+            generation = outcomeGeneration;
+        };
+
+        /**
+         * Start working out the Outcome of reacting the contents of a Basin on another thread.
+         * @return {@code null} if there are already too many Reactions waiting to be worked out
+         */
+        @Nullable
+        private static PendingBasinReaction submit(BasinContents contents, BasinSnapshot snapshot) {
+            try {
+                return new PendingBasinReaction(contents, CompletableFuture.supplyAsync(() -> react(snapshot), getReactionExecutor()));
+            } catch (RejectedExecutionException e) {
+                return null;
+            };
+        };
+
+        /**
+         * Whether this is working out the Outcome of the given contents, with the current Recipes.
+         */
+        private boolean isFor(BasinContents basinContents) {
+            return generation == outcomeGeneration && contents.equals(basinContents);
+        };
+
+        public boolean isDone() {
+            return future.isDone();
+        };
+
+        public void cancel() {
+            future.cancel(false);
+        };
+
+        /**
+         * Remember the Outcome of this Reaction, so that the next time the Basin looks for Recipes it finds it straight away.
+         * This should be called on the main thread once this {@link PendingBasinReaction#isDone is done}.
+         */
+        public void complete() {
+            BasinReactionOutcome outcome = getOutcome();
+            if (generation == outcomeGeneration) OUTCOMES.put(contents, outcome);
+        };
+
+        private BasinReactionOutcome getOutcome() {
+            try {
+                return future.join();
+            } catch (CompletionException | CancellationException e) {
+                Destroy.LOGGER.error("Failed to react Mixture in Basin", e);
+                return BasinReactionOutcome.NONE;
+            };
+        };
+    };
+
     @Override
     protected int getMaxFluidInputCount() {
         return 4;
@@ -188,5 +388,50 @@ public class ReactionInBasinRecipe extends BasinRecipe {
      * @param amount The amount (in mB) of resultant Mixture
      */
     public static record ReactionInBasinResult(int ticks, Map<ReactionResult, Integer> reactionResults, int amount) {};
+
+    /**
+     * Everything which could affect the {@link BasinReactionOutcome Outcome} of reacting the contents of a Basin.
+     * Mixtures are compared by their Mixture tags, and the conditions have already been rounded.
+     */
+    private static record BasinContents(List<FluidKey> fluids, List<ItemKey> items, float heatingPower, float outsideTemperature) {
+
+        public static BasinContents of(Collection<FluidStack> fluids, Collection<ItemStack> items, float heatingPower, float outsideTemperature) {
+            return new BasinContents(
+                fluids.stream().map(stack -> new FluidKey(stack.getFluid(), stack.getAmount(), stack.hasTag() ? stack.getTag().copy() : null)).toList(),
+                items.stream().filter(stack -> !stack.isEmpty()).map(stack -> new ItemKey(stack.getItem(), stack.getCount(), stack.hasTag() ? stack.getTag().copy() : null)).toList(),
+                heatingPower,
+                outsideTemperature
+            );
+        };
+    };
+
+    /**
+     * Copies of everything needed to {@link ReactionInBasinRecipe#react react} the contents of a Basin, which nothing else holds on to.
+     * @param mixtures The Mixtures in the Basin mapped to their volumes (in Buckets)
+     * @param totalAmount The total volume (in mB)
+     * @param items
+     * @param heatingPower (in W)
+     * @param outsideTemperature (in kelvins)
+     */
+    private static record BasinSnapshot(Map<LegacyMixture, Double> mixtures, int totalAmount, List<ItemStack> items, float heatingPower, float outsideTemperature) {};
+
+    private static record FluidKey(Fluid fluid, int amount, @Nullable CompoundTag tag) {};
+
+    private static record ItemKey(Item item, int count, @Nullable CompoundTag tag) {};
+
+    /**
+     * What happens when the contents of a Basin are left to react. These are shared, so must not be modified.
+     * @param reacted Whether anything happened at all
+     * @param tooFullToReact Whether the resultant Mixture would be too much for the Basin to hold
+     * @param outputMixture The resultant liquid Mixture
+     * @param duration How long (in ticks) mixing should take
+     * @param itemOutputs The Item Stacks left over or precipitated
+     * @param reactionResults The {@link ReactionResult Reaction Results} to enact once mixing has finished
+     * @param evaporatedFluid The resultant gaseous Mixture
+     */
+    private static record BasinReactionOutcome(boolean reacted, boolean tooFullToReact, FluidStack outputMixture, int duration, List<ItemStack> itemOutputs, Map<ReactionResult, Integer> reactionResults, FluidStack evaporatedFluid) {
+
+        public static final BasinReactionOutcome NONE = new BasinReactionOutcome(false, false, FluidStack.EMPTY, 0, List.of(), Map.of(), FluidStack.EMPTY);
+    };
     
 };
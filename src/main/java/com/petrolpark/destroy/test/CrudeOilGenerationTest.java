@@ -7,6 +7,9 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 
+import com.petrolpark.destroy.capability.chunk.ChunkCrudeOil;
+import com.petrolpark.destroy.item.SeismographItem;
+
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.levelgen.synth.PerlinNoise;
 
@@ -29,9 +32,51 @@ public class CrudeOilGenerationTest {
         } catch (IOException ie) {
 
         }; 
+
+        compareWithUncached(0l);
+        compareWithUncached(5252525252l);
+        compareWithUncached(-8046243618239452376l);
         
     };
 
+    /**
+     * Check that the cached noise and seismograph maps in {@link ChunkCrudeOil} give exactly what working everything out afresh for every chunk gives.
+     */
+    private static void compareWithUncached(long seed) {
+        int differences = 0;
+        for (int chunkX = -40; chunkX < 40; chunkX++) {
+            for (int chunkZ = -40; chunkZ < 40; chunkZ++) {
+                if (ChunkCrudeOil.getTheoreticalOil(seed, chunkX, chunkZ) != getUncachedOil(seed, chunkX, chunkZ)) differences++;
+                if (ChunkCrudeOil.getSignals(seed, chunkX, chunkZ, true) != getUncachedSignals(seed, chunkX, chunkZ, true)) differences++;
+                if (ChunkCrudeOil.getSignals(seed, chunkX, chunkZ, false) != getUncachedSignals(seed, chunkX, chunkZ, false)) differences++;
+            };
+        };
+        System.out.println("Seed " + seed + ": " + (differences == 0 ? "cached oil and signals match" : differences + " differences from uncached oil and signals"));
+    };
+
+    private static int getUncachedOil(long seed, int chunkX, int chunkZ) {
+        double value = PerlinNoise.create(RandomSource.create(seed ^ ChunkCrudeOil.SALT), -2, 1d).getValue(chunkX * 1.5d, chunkZ * 1.5d, 0);
+        return value < 0.3d ? 0 : (int)(value * 100000d);
+    };
+
+    private static byte getUncachedSignals(long seed, int chunkX, int chunkZ, boolean xNotZ) {
+        boolean[][] oil = new boolean[10][3];
+        boolean[][] redHerring = new boolean[10][3];
+        int widthAxis = xNotZ ? chunkZ : chunkX;
+        int lengthAxis = xNotZ ? chunkX : chunkZ;
+        for (int width = 0; width < 3; width++) {
+            for (int length = 0; length < 10; length++) {
+                int lengthCoordinate = SeismographItem.mapChunkLowerCorner(lengthAxis) - 1 + length;
+                int widthCoordinate = widthAxis - 1 + width;
+                int x = xNotZ ? lengthCoordinate : widthCoordinate;
+                int z = xNotZ ? widthCoordinate : lengthCoordinate;
+                oil[length][width] = getUncachedOil(seed, x, z) > 0;
+                redHerring[length][width] = ChunkCrudeOil.randomSeismicActivity(seed, x, z);
+            };
+        };
+        return ChunkCrudeOil.getSignals(oil, redHerring, xNotZ);
+    };
+
     private static float getNoise(PerlinNoise noise, int x, int y) {
         float value = (float)(noise.getValue(x * 2d, y * 2d, 0));
         return value < 0.3d ? 0f : value;
@@ -0,0 +1,264 @@
+package com.petrolpark.destroy.test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.Phases;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.PhaseSeparation;
+import com.petrolpark.destroy.chemistry.legacy.PhaseSeparation.Separation;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+import com.simibubi.create.foundation.utility.Couple;
+import com.simibubi.create.foundation.utility.Pair;
+
+/**
+ * Checks that {@link PhaseSeparation} splits {@link LegacyMixture Mixtures} exactly as Centrifuges did when they kept every phased Molecule in Maps,
+ * and that the split Mixtures find the same possible Reactions when they are eventually reacted.
+ */
+public class PhaseSeparationTest {
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        Map<String, LegacyMixture> mixtures = new HashMap<>();
+        mixtures.put("Water and ethanol", mixture(298f, DestroyMolecules.WATER, 40f, DestroyMolecules.ETHANOL, 5f));
+        mixtures.put("Brine", mixture(298f, DestroyMolecules.WATER, 55f, DestroyMolecules.SODIUM_ION, 2f, DestroyMolecules.CHLORIDE, 2f));
+        mixtures.put("Hydrochloric acid with carbon dioxide", mixture(298f, DestroyMolecules.WATER, 50f, DestroyMolecules.PROTON, 1.5f, DestroyMolecules.CHLORIDE, 1.5f, DestroyMolecules.CARBON_DIOXIDE, 0.5f));
+        mixtures.put("Calcium chloride under benzene", mixture(298f, DestroyMolecules.WATER, 30f, DestroyMolecules.BENZENE, 4f, DestroyMolecules.CALCIUM_ION, 1f, DestroyMolecules.CHLORIDE, 2f));
+        mixtures.put("Mixed salts", mixture(298f, DestroyMolecules.WATER, 45f, DestroyMolecules.SODIUM_ION, 1f, DestroyMolecules.CALCIUM_ION, 0.5f, DestroyMolecules.CHLORIDE, 1.25f, DestroyMolecules.HYDROXIDE, 0.75f));
+        mixtures.put("Hot ammonia solution", mixture(390f, DestroyMolecules.WATER, 20f, DestroyMolecules.AMMONIA, 3f, DestroyMolecules.METHANOL, 6f));
+        mixtures.put("Charge-imbalanced", mixture(298f, DestroyMolecules.WATER, 50f, DestroyMolecules.SODIUM_ION, 1f));
+
+        int failures = 0;
+        for (Entry<String, LegacyMixture> entry : mixtures.entrySet()) {
+            for (float volume : new float[]{0.25f, 1f, 3.5f}) {
+                String stage = entry.getKey() + " (" + volume + " B)";
+                LegacyMixture mixture = entry.getValue();
+
+                Phases expectedPhases = referenceSeparatePhases(mixture, volume);
+                Phases phases = mixture.separatePhases(volume);
+                if (!phases.liquidVolume().equals(expectedPhases.liquidVolume())) {
+                    System.out.println(stage + ": liquid volume was " + phases.liquidVolume() + " rather than " + expectedPhases.liquidVolume());
+                    failures++;
+                };
+                failures += compare(stage + ", liquid", phases.liquidMixture(), expectedPhases.liquidMixture());
+                failures += compare(stage + ", gas", phases.gasMixture(), expectedPhases.gasMixture());
+
+                Couple<LegacyMixture> expectedSeparation = referenceCentrifuge(mixture, volume);
+                Separation separation = PhaseSeparation.centrifuge(mixture, volume);
+                failures += compare(stage + ", dense", separation.denseMixture(), expectedSeparation.getFirst());
+                failures += compare(stage + ", light", separation.lightMixture(), expectedSeparation.getSecond());
+                failures += compareReactions(stage + ", dense", separation.denseMixture(), expectedSeparation.getFirst());
+            };
+        };
+
+        System.out.println(failures == 0 ? "Phase separation matched the reference for every Mixture." : failures + " mismatches.");
+    };
+
+    private static LegacyMixture mixture(float temperature, Object ...moleculesAndConcentrations) {
+        LegacyMixture mixture = new LegacyMixture();
+        mixture.setTemperature(temperature);
+        for (int i = 0; i < moleculesAndConcentrations.length; i += 2) {
+            mixture.addMolecule((LegacySpecies)moleculesAndConcentrations[i], (Float)moleculesAndConcentrations[i + 1]);
+        };
+        return mixture;
+    };
+
+    private static int compare(String stage, LegacyMixture mixture, LegacyMixture expected) {
+        Set<LegacySpecies> molecules = new HashSet<>(mixture.getContents(false));
+        molecules.addAll(expected.getContents(false));
+        int failures = 0;
+        for (LegacySpecies molecule : molecules) {
+            if (mixture.getConcentrationOf(molecule) != expected.getConcentrationOf(molecule) || mixture.getStateOf(molecule) != expected.getStateOf(molecule)) {
+                System.out.println(stage + ": '" + molecule.getFullID() + "' was " + mixture.getConcentrationOf(molecule) + "M (state " + mixture.getStateOf(molecule) + ") rather than " + expected.getConcentrationOf(molecule) + "M (state " + expected.getStateOf(molecule) + ")");
+                failures++;
+            };
+        };
+        return failures;
+    };
+
+    private static int compareReactions(String stage, LegacyMixture mixture, LegacyMixture expected) {
+        Set<LegacyReaction> reactions = new HashSet<>(mixture.getPossibleReactions());
+        Set<LegacyReaction> expectedReactions = new HashSet<>(expected.getPossibleReactions());
+        if (reactions.equals(expectedReactions)) return 0;
+        System.out.println(stage + ": found " + reactions.size() + " possible Reactions rather than " + expectedReactions.size());
+        return 1;
+    };
+
+    /**
+     * Split a Mixture into gas and liquid as {@link LegacyMixture#separatePhases} did when it kept the moles of each Molecule in Maps.
+     */
+    private static Phases referenceSeparatePhases(LegacyMixture mixture, double initialVolume) {
+        Map<LegacySpecies, Double> liquidMoles = new HashMap<>();
+        Map<LegacySpecies, Double> gasMoles = new HashMap<>();
+        double newLiquidVolume = 0d;
+        double newGasVolume = 1d;
+        LegacyMixture liquidMixture = new LegacyMixture();
+        LegacyMixture gasMixture = new LegacyMixture();
+
+        for (LegacySpecies molecule : mixture.getContents(false)) {
+            float concentration = mixture.getConcentrationOf(molecule);
+            float proportionGaseous = mixture.getStateOf(molecule);
+            double molesOfLiquidMolecule = concentration * (1f - proportionGaseous) * initialVolume;
+            liquidMoles.put(molecule, molesOfLiquidMolecule);
+            newLiquidVolume += molesOfLiquidMolecule / molecule.getPureConcentration();
+            gasMoles.put(molecule, concentration * proportionGaseous * initialVolume);
+        };
+
+        for (Entry<LegacySpecies, Double> entry : liquidMoles.entrySet()) {
+            if (entry.getValue() == 0d) continue;
+            liquidMixture.addMolecule(entry.getKey(), (float)(entry.getValue() / newLiquidVolume));
+            liquidMixture.setState(entry.getKey(), 0f);
+        };
+        for (Entry<LegacySpecies, Double> entry : gasMoles.entrySet()) {
+            if (entry.getValue() == 0d) continue;
+            gasMixture.addMolecule(entry.getKey(), (float)(entry.getValue() / newGasVolume));
+            gasMixture.setState(entry.getKey(), 1f);
+        };
+
+        return new Phases(gasMixture, newGasVolume, liquidMixture, newLiquidVolume);
+    };
+
+    /**
+     * Split a Mixture into a dense and a light Mixture as Centrifuges did when they kept every phased Molecule in Maps.
+     * @return The dense and then the light Mixture
+     */
+    private static Couple<LegacyMixture> referenceCentrifuge(LegacyMixture mixture, float totalVolume) {
+        Map<Pair<LegacySpecies, Boolean>, Float> remainingMoles = new HashMap<>();
+        Map<Pair<LegacySpecies, Boolean>, Float> remainingVolumes = new HashMap<>();
+        Map<Pair<LegacySpecies, Boolean>, Float> molesInLightMixture = new HashMap<>();
+        Map<Pair<LegacySpecies, Boolean>, Float> molesInDenseMixture = new HashMap<>();
+
+        Phases phases = referenceSeparatePhases(mixture, totalVolume);
+        float liquidVolume = (float)(double)phases.liquidVolume();
+        float gasVolume = totalVolume - liquidVolume;
+        LegacyMixture gasMixture = phases.gasMixture();
+        gasMixture.scale(gasVolume);
+        LegacyMixture liquidMixture = phases.liquidMixture();
+
+        for (LegacySpecies molecule : liquidMixture.getContents(false)) {
+            float moles = liquidMixture.getConcentrationOf(molecule) * liquidVolume;
+            remainingVolumes.put(Pair.of(molecule, false), moles / molecule.getPureConcentration());
+            remainingMoles.put(Pair.of(molecule, false), moles);
+        };
+        float totalGasConcentration = gasMixture.getTotalConcentration();
+        for (LegacySpecies molecule : gasMixture.getContents(false)) {
+            float moles = gasMixture.getConcentrationOf(molecule) * gasVolume;
+            remainingVolumes.put(Pair.of(molecule, true), moles / totalGasConcentration);
+            remainingMoles.put(Pair.of(molecule, true), moles);
+        };
+
+        List<Pair<LegacySpecies, Boolean>> ordered = new ArrayList<>(remainingVolumes.keySet());
+        Collections.sort(ordered, (p1, p2) -> Float.compare(
+            mixture.getConcentrationOf(p2.getFirst()) * p2.getFirst().getMass() / remainingVolumes.get(p2),
+            mixture.getConcentrationOf(p1.getFirst()) * p1.getFirst().getMass() / remainingVolumes.get(p1)
+        ));
+
+        float volumeOfDenseMixture = 0f;
+        for (Pair<LegacySpecies, Boolean> phasedMolecule : ordered) {
+            LegacySpecies molecule = phasedMolecule.getFirst();
+            if (!remainingMoles.containsKey(phasedMolecule)) continue;
+            float moles = remainingMoles.get(phasedMolecule);
+
+            if (molecule.getCharge() == 0) {
+                float volume = remainingVolumes.get(phasedMolecule);
+                float volumeInDenseMixture = Math.min(volume, (totalVolume / 2f) - volumeOfDenseMixture);
+                float proportionInDenseMixture = volumeInDenseMixture / volume;
+                molesInDenseMixture.put(phasedMolecule, moles * proportionInDenseMixture);
+                molesInLightMixture.put(phasedMolecule, moles * (1 - proportionInDenseMixture));
+                volumeOfDenseMixture += volumeInDenseMixture;
+                remainingVolumes.replace(phasedMolecule, 0f);
+                remainingMoles.replace(phasedMolecule, 0f);
+                continue;
+            };
+
+            findCounterions: while (Optional.ofNullable(remainingVolumes.get(phasedMolecule)).orElse(0f) > 0f) {
+                Pair<LegacySpecies, Boolean> phasedCounterion = null;
+                for (Pair<LegacySpecies, Boolean> pair : ordered) {
+                    int charge = pair.getFirst().getCharge();
+                    if (charge != 0 && charge > 0 == molecule.getCharge() < 0 && remainingVolumes.containsKey(pair) && remainingVolumes.get(pair) > 0f) {
+                        phasedCounterion = pair;
+                        break;
+                    };
+                };
+                if (phasedCounterion == null) break findCounterions;
+                LegacySpecies counterion = phasedCounterion.getFirst();
+
+                float counterionMolesRequired = -moles * (float)counterion.getCharge() / (float)molecule.getCharge();
+                float proportionAvailable = remainingMoles.get(phasedCounterion) / counterionMolesRequired;
+                if (proportionAvailable <= 0f) break findCounterions;
+
+                float volumeOfMoleculeUsed;
+                float molesOfMoleculeUsed;
+                float volumeOfCounterionUsed;
+                float molesOfCounterionUsed;
+                if (proportionAvailable > 1f) {
+                    volumeOfMoleculeUsed = remainingVolumes.get(phasedMolecule);
+                    molesOfMoleculeUsed = moles;
+                    volumeOfCounterionUsed = remainingVolumes.get(phasedCounterion) / proportionAvailable;
+                    molesOfCounterionUsed = remainingMoles.get(phasedCounterion) / proportionAvailable;
+                } else {
+                    volumeOfMoleculeUsed = remainingVolumes.get(phasedMolecule) * proportionAvailable;
+                    molesOfMoleculeUsed = moles * proportionAvailable;
+                    volumeOfCounterionUsed = remainingVolumes.get(phasedCounterion);
+                    molesOfCounterionUsed = remainingMoles.get(phasedCounterion);
+                };
+
+                float combinationVolume = volumeOfMoleculeUsed + volumeOfCounterionUsed;
+                float combinedVolumeInDenseMixture = Math.min(combinationVolume, (totalVolume / 2f) - volumeOfDenseMixture);
+                float proportionInDenseMixture = combinedVolumeInDenseMixture / combinationVolume;
+
+                molesInDenseMixture.put(phasedMolecule, molesOfMoleculeUsed * proportionInDenseMixture);
+                molesInDenseMixture.put(phasedCounterion, molesOfCounterionUsed * proportionInDenseMixture);
+                molesInLightMixture.put(phasedMolecule, molesOfMoleculeUsed * (1 - proportionInDenseMixture));
+                molesInLightMixture.put(phasedCounterion, molesOfCounterionUsed * (1 - proportionInDenseMixture));
+
+                remainingVolumes.compute(phasedMolecule, (pm, volume) -> volume - volumeOfMoleculeUsed <= 1 / 256f / 256f ? null : volume - volumeOfMoleculeUsed);
+                remainingVolumes.compute(phasedCounterion, (pm, volume) -> volume - volumeOfCounterionUsed <= 1 / 256f / 256f ? null : volume - volumeOfCounterionUsed);
+                remainingMoles.compute(phasedMolecule, (pm, mol) -> mol - molesOfMoleculeUsed <= 1 / 256f / 256f ? null : mol - molesOfMoleculeUsed);
+                remainingMoles.compute(phasedCounterion, (pm, mol) -> mol - molesOfCounterionUsed <= 1 / 256f / 256f ? null : mol - molesOfCounterionUsed);
+
+                volumeOfDenseMixture += combinedVolumeInDenseMixture;
+            };
+        };
+
+        return Couple.create(
+            referenceResultMixture(mixture, molesInDenseMixture, totalVolume),
+            referenceResultMixture(mixture, molesInLightMixture, totalVolume)
+        );
+    };
+
+    private static LegacyMixture referenceResultMixture(LegacyMixture mixture, Map<Pair<LegacySpecies, Boolean>, Float> phasedMoles, float totalVolume) {
+        LegacyMixture resultMixture = new LegacyMixture();
+        resultMixture.setTemperature(mixture.getTemperature());
+        Map<LegacySpecies, Couple<Float>> moleculeStates = new HashMap<>(); // Couple is of the form <gas moles, liquid moles>
+        for (Entry<Pair<LegacySpecies, Boolean>, Float> entry : phasedMoles.entrySet()) {
+            moleculeStates.computeIfAbsent(entry.getKey().getFirst(), m -> Couple.create(0f, 0f)).set(entry.getKey().getSecond(), entry.getValue());
+        };
+        for (Entry<LegacySpecies, Couple<Float>> entry : moleculeStates.entrySet()) {
+            float totalMoles = entry.getValue().getFirst() + entry.getValue().getSecond();
+            if (totalMoles <= 0f) continue;
+            resultMixture.addMolecule(entry.getKey(), 2f * totalMoles / totalVolume);
+            resultMixture.setState(entry.getKey(), entry.getValue().getFirst() / totalMoles);
+        };
+        return resultMixture;
+    };
+};
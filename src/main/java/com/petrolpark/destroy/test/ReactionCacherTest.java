@@ -0,0 +1,118 @@
+package com.petrolpark.destroy.test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.petrolpark.destroy.chemistry.api.error.ChemistryException;
+import com.petrolpark.destroy.chemistry.legacy.LegacyFunctionalGroup;
+import com.petrolpark.destroy.chemistry.legacy.LegacyFunctionalGroupType;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.DoubleGroupGenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReactant;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.GenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.genericreaction.SingleGroupGenericReaction;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+
+/**
+ * Checks that the incrementally-cached possible Reactions of a {@link LegacyMixture} match those found by regenerating every Generic Reaction from scratch,
+ * as Molecules are added, made and used up.
+ */
+public class ReactionCacherTest {
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        LegacyMixture mixture = new LegacyMixture();
+        List<LegacySpecies> molecules = List.of(DestroyMolecules.WATER, DestroyMolecules.ETHANOL, DestroyMolecules.METHANOL, DestroyMolecules.ACETIC_ACID, DestroyMolecules.GLYCEROL, DestroyMolecules.PROPENE, DestroyMolecules.CHLOROETHANE, DestroyMolecules.METHYLAMINE, DestroyMolecules.OLEUM, DestroyMolecules.HYDROCHLORIC_ACID, DestroyMolecules.DICHROMATE, DestroyMolecules.PROTON);
+        ReactionContext context = new ReactionContext(List.of(), 0f, false);
+
+        int failures = 0;
+        for (LegacySpecies molecule : molecules) {
+            mixture.addMolecule(molecule, 1f);
+            failures += check(mixture, "Added " + molecule.getFullID());
+        };
+        for (int tick = 0; tick < 200; tick++) {
+            mixture.reactForTick(context, 10);
+            failures += check(mixture, "Tick " + tick);
+        };
+
+        System.out.println(failures == 0 ? "Cached Reactions matched full regeneration." : failures + " mismatches.");
+    };
+
+    private static int check(LegacyMixture mixture, String stage) {
+        List<String> cached = new ArrayList<>(mixture.getPossibleReactions().stream().map(ReactionCacherTest::describe).toList());
+        List<String> regenerated = new ArrayList<>(regenerate(mixture).stream().map(ReactionCacherTest::describe).toList());
+        cached.sort(String::compareTo);
+        regenerated.sort(String::compareTo);
+        if (cached.equals(regenerated)) return 0;
+        System.out.println(stage + ": cached " + cached + " but regenerated " + regenerated);
+        return 1;
+    };
+
+    /**
+     * Find the possible Reactions in a Mixture by specifying every Generic Reaction for every Molecule, as Mixtures did before they cached Reactions.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static List<LegacyReaction> regenerate(LegacyMixture mixture) {
+        List<LegacySpecies> contents = mixture.getContents(false);
+        Map<LegacyFunctionalGroupType<?>, List<GenericReactant<?>>> groupIDsAndMolecules = new HashMap<>();
+        for (LegacySpecies molecule : contents) {
+            for (LegacyFunctionalGroup group : molecule.getFunctionalGroups()) {
+                groupIDsAndMolecules.computeIfAbsent(group.getType(), t -> new ArrayList<>()).add(new GenericReactant(molecule, group));
+            };
+        };
+
+        List<LegacyReaction> reactions = new ArrayList<>();
+        for (LegacyFunctionalGroupType<?> groupType : groupIDsAndMolecules.keySet()) {
+            for (GenericReaction genericReaction : LegacyFunctionalGroup.getReactionsOfGroupByID(groupType)) {
+                if (!genericReaction.isPossibleIn(mixture)) continue;
+                if (genericReaction instanceof SingleGroupGenericReaction sggr) {
+                    for (GenericReactant reactant : groupIDsAndMolecules.get(groupType)) {
+                        try {
+                            reactions.add(sggr.generateReaction(reactant));
+                        } catch (ChemistryException e) {};
+                    };
+                } else if (genericReaction instanceof DoubleGroupGenericReaction dggr && dggr.getFirstGroupType() == groupType) {
+                    for (GenericReactant firstReactant : groupIDsAndMolecules.get(groupType)) {
+                        for (GenericReactant secondReactant : groupIDsAndMolecules.getOrDefault(dggr.getSecondGroupType(), List.of())) {
+                            if (firstReactant.getMolecule() == secondReactant.getMolecule()) continue;
+                            try {
+                                reactions.add(dggr.generateReaction(firstReactant, secondReactant));
+                            } catch (ChemistryException e) {};
+                        };
+                    };
+                };
+            };
+        };
+        for (LegacySpecies molecule : contents) {
+            for (LegacyReaction reaction : molecule.getReactantReactions()) {
+                if (!reactions.contains(reaction)) reactions.add(reaction);
+            };
+        };
+        reactions.removeIf(reaction -> reaction == null || reaction.getOrders().keySet().stream().anyMatch(molecule -> mixture.getConcentrationOf(molecule) == 0f));
+        return reactions;
+    };
+
+    private static String describe(LegacyReaction reaction) {
+        if (!"novel".equals(reaction.getNameSpace())) return reaction.getFullId();
+        List<String> reactants = new ArrayList<>(reaction.getReactants().stream().map(m -> reaction.getReactantMolarRatio(m) + " " + m.getFullID()).toList());
+        List<String> products = new ArrayList<>(reaction.getProducts().stream().map(m -> reaction.getProductMolarRatio(m) + " " + m.getFullID()).toList());
+        reactants.sort(String::compareTo);
+        products.sort(String::compareTo);
+        return String.join(" + ", reactants) + " => " + String.join(" + ", products);
+    };
+};
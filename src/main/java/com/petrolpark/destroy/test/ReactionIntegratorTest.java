@@ -0,0 +1,89 @@
+package com.petrolpark.destroy.test;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.IntegrationMode;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+
+/**
+ * Checks that Mixtures reacted with the {@link IntegrationMode#ADAPTIVE adaptive} integrator reach the same equilibrium compositions as those reacted
+ * a {@link IntegrationMode#FIXED_CYCLES fixed number of times} per tick.
+ */
+public class ReactionIntegratorTest {
+
+    private static final int MAXIMUM_TICKS = 2000;
+    private static final int CYCLES = 10;
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        // Molecules are given in order, so they are always added to each Mixture in the same order
+        Map<String, Object[]> cases = new LinkedHashMap<>();
+        cases.put("Acetic acid in water", new Object[]{DestroyMolecules.WATER, 50f, DestroyMolecules.ACETIC_ACID, 1f});
+        cases.put("Hydrochloric acid and ammonia", new Object[]{DestroyMolecules.WATER, 50f, DestroyMolecules.HYDROCHLORIC_ACID, 1f, DestroyMolecules.AMMONIA, 0.5f});
+        cases.put("Nitric acid and hydroxide", new Object[]{DestroyMolecules.WATER, 50f, DestroyMolecules.NITRIC_ACID, 0.5f, DestroyMolecules.HYDROXIDE, 0.2f, DestroyMolecules.SODIUM_ION, 0.2f});
+        cases.put("Ethanol and acetic acid", new Object[]{DestroyMolecules.ETHANOL, 2f, DestroyMolecules.ACETIC_ACID, 2f, DestroyMolecules.PROTON, 0.1f, DestroyMolecules.CHLORIDE, 0.1f});
+        cases.put("Organic soup", new Object[]{DestroyMolecules.WATER, 10f, DestroyMolecules.METHANOL, 1f, DestroyMolecules.CHLOROETHANE, 1f, DestroyMolecules.METHYLAMINE, 1f, DestroyMolecules.PROPENE, 1f, DestroyMolecules.OLEUM, 0.5f});
+
+        ReactionContext context = new ReactionContext(List.of(), 0f, false);
+        int failures = 0;
+        for (Map.Entry<String, Object[]> testCase : cases.entrySet()) {
+            LegacyMixture fixed = mixture(testCase.getValue());
+            LegacyMixture adaptive = mixture(testCase.getValue());
+            int fixedTicks = react(fixed, context, IntegrationMode.FIXED_CYCLES);
+            int adaptiveTicks = react(adaptive, context, IntegrationMode.ADAPTIVE);
+
+            Set<LegacySpecies> molecules = new LinkedHashSet<>(fixed.getContents(false));
+            molecules.addAll(adaptive.getContents(false));
+            String mismatches = "";
+            for (LegacySpecies molecule : molecules) {
+                float expected = fixed.getConcentrationOf(molecule);
+                float actual = adaptive.getConcentrationOf(molecule);
+                if (Math.abs(expected - actual) > 1e-3f + 0.02f * Math.max(expected, actual)) mismatches += " " + molecule.getFullID() + " (" + expected + "M fixed, " + actual + "M adaptive)";
+            };
+            if (mismatches.isEmpty()) {
+                System.out.println(testCase.getKey() + ": matched, equilibrium after " + fixedTicks + " ticks fixed and " + adaptiveTicks + " ticks adaptive.");
+            } else {
+                System.out.println(testCase.getKey() + ": mismatched" + mismatches);
+                failures++;
+            };
+        };
+
+        System.out.println(failures == 0 ? "Adaptive integration matched fixed cycles." : failures + " mismatched Mixtures.");
+    };
+
+    private static LegacyMixture mixture(Object ...moleculesAndConcentrations) {
+        LegacyMixture mixture = new LegacyMixture();
+        for (int i = 0; i < moleculesAndConcentrations.length; i += 2) {
+            mixture.addMolecule((LegacySpecies)moleculesAndConcentrations[i], (Float)moleculesAndConcentrations[i + 1]);
+        };
+        return mixture;
+    };
+
+    /**
+     * @return The number of ticks taken to reach equilibrium, or {@link ReactionIntegratorTest#MAXIMUM_TICKS} if it never did
+     */
+    private static int react(LegacyMixture mixture, ReactionContext context, IntegrationMode mode) {
+        for (int tick = 0; tick < MAXIMUM_TICKS; tick++) {
+            if (mixture.isAtEquilibrium()) return tick;
+            mixture.reactForTick(context, CYCLES, mode);
+        };
+        return MAXIMUM_TICKS;
+    };
+};
@@ -0,0 +1,107 @@
+package com.petrolpark.destroy.test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
+import com.petrolpark.destroy.chemistry.legacy.LegacyMixture.ReactionContext;
+import com.petrolpark.destroy.chemistry.legacy.LegacyReaction;
+import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
+import com.petrolpark.destroy.chemistry.legacy.ReactionKernel;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGenericReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyGroupFinder;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyMolecules;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyReactions;
+import com.petrolpark.destroy.chemistry.legacy.index.DestroyTopologies;
+
+/**
+ * Checks that {@link ReactionKernel Kernels} give exactly the same rate constants as their {@link LegacyReaction Reactions} when Mixtures at different temperatures
+ * share them, and times the rate constants and the reacting of a 40-Molecule Mixture.
+ */
+public class ReactionKernelTest {
+
+    private static final float[] TEMPERATURES = new float[]{298f, 373f, 298.5f, 1000f, 273f, 373f, 298f};
+    private static final int SPECIES = 40;
+    private static final int WARMUP = 200;
+    private static final int REPEATS = 2000;
+
+    public static void main(String ...args) {
+
+        DestroyGroupFinder.register();
+        DestroyTopologies.register();
+        DestroyMolecules.register();
+        DestroyReactions.register();
+        DestroyGenericReactions.register();
+
+        List<LegacyReaction> reactions = new ArrayList<>(LegacyReaction.REACTIONS.values());
+        reactions.sort((r1, r2) -> r1.getFullId().compareTo(r2.getFullId()));
+
+        // Correctness
+        int failures = 0;
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (float temperature : TEMPERATURES) {
+                for (LegacyReaction reaction : reactions) {
+                    float expected = reaction.getRateConstant(temperature);
+                    float actual = reaction.getKernel().getRateConstant(temperature);
+                    if (Float.floatToIntBits(expected) != Float.floatToIntBits(actual)) {
+                        System.out.println(reaction.getFullId() + " at " + temperature + "K: expected " + expected + " but the Kernel gave " + actual);
+                        failures++;
+                    };
+                };
+            };
+        };
+
+        // Rate constants, as Mixtures at several temperatures would ask for them
+        float sink = 0f;
+        for (int i = 0; i < WARMUP; i++) sink += rateConstants(reactions, true) + rateConstants(reactions, false);
+        long start = System.nanoTime();
+        for (int i = 0; i < REPEATS; i++) sink += rateConstants(reactions, false);
+        long uncached = System.nanoTime() - start;
+        start = System.nanoTime();
+        for (int i = 0; i < REPEATS; i++) sink += rateConstants(reactions, true);
+        long cached = System.nanoTime() - start;
+        int calls = REPEATS * TEMPERATURES.length * reactions.size();
+        System.out.println("Rate constants: " + (uncached / (double)calls) + "ns per call from the Reaction, " + (cached / (double)calls) + "ns per call from the Kernel.");
+
+        // Two Mixtures at different temperatures, reacted in turn as two Vats would be
+        List<LegacySpecies> molecules = new ArrayList<>(LegacySpecies.MOLECULES.values().stream().filter(molecule -> molecule.getCharge() == 0).toList());
+        molecules.sort((m1, m2) -> m1.getFullID().compareTo(m2.getFullID()));
+        molecules = molecules.subList(0, Math.min(SPECIES, molecules.size()));
+        ReactionContext context = new ReactionContext(List.of(), 0f, false);
+        LegacyMixture coldMixture = mixture(molecules, 298f);
+        LegacyMixture hotMixture = mixture(molecules, 373f);
+        for (int tick = 0; tick < WARMUP; tick++) {
+            coldMixture.reactForTick(context, 10);
+            hotMixture.reactForTick(context, 10);
+        };
+        coldMixture = mixture(molecules, 298f);
+        hotMixture = mixture(molecules, 373f);
+        start = System.nanoTime();
+        for (int tick = 0; tick < REPEATS; tick++) {
+            coldMixture.reactForTick(context, 10);
+            hotMixture.reactForTick(context, 10);
+        };
+        long reacting = System.nanoTime() - start;
+        System.out.println(molecules.size() + "-Molecule Mixtures: " + (reacting / 2d / REPEATS / 1000d) + "us per Mixture per tick (" + coldMixture.getPossibleReactions().size() + " and " + hotMixture.getPossibleReactions().size() + " possible Reactions).");
+
+        if (sink == 0f) System.out.println("Every rate constant was 0."); // Use the sum so the timed calls can't be skipped
+        System.out.println(failures == 0 ? "Kernel rate constants matched their Reactions." : failures + " mismatched rate constants.");
+    };
+
+    private static float rateConstants(List<LegacyReaction> reactions, boolean kernel) {
+        float total = 0f;
+        for (float temperature : TEMPERATURES) {
+            for (LegacyReaction reaction : reactions) {
+                total += kernel ? reaction.getKernel().getRateConstant(temperature) : reaction.getRateConstant(temperature);
+            };
+        };
+        return total;
+    };
+
+    private static LegacyMixture mixture(List<LegacySpecies> molecules, float temperature) {
+        LegacyMixture mixture = new LegacyMixture();
+        for (LegacySpecies molecule : molecules) mixture.addMolecule(molecule, 0.5f);
+        mixture.setTemperature(temperature);
+        return mixture;
+    };
+};
@@ -2,31 +2,29 @@ package com.petrolpark.destroy.util;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.block.entity.BubbleCapBlockEntity;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.chemistry.legacy.LegacyMixture;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
-import com.petrolpark.destroy.compat.tfmg.SharedDistillationRecipes;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.fluid.MixtureFluid;
-import com.petrolpark.destroy.recipe.DestroyRecipeTypes;
 import com.petrolpark.destroy.recipe.DistillationRecipe;
+import com.petrolpark.destroy.recipe.DistillationRecipeIndex;
 import com.simibubi.create.content.processing.basin.BasinBlockEntity;
 import com.simibubi.create.content.processing.burner.BlazeBurnerBlock.HeatLevel;
 import com.simibubi.create.foundation.fluid.SmartFluidTank;
-import com.simibubi.create.foundation.recipe.RecipeFinder;
 import com.simibubi.create.foundation.utility.Iterate;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.world.item.crafting.Recipe;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraftforge.fluids.FluidStack;
@@ -34,7 +32,13 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
 public class DistillationTower {
 
-    private static final Object distillationRecipeKey = new Object();
+    /**
+     * Towers fed a steady stream of the same Mixture would otherwise split it up in exactly the same way every time, so the {@link DistillationTower#getFractionsOfMixture fractions}
+     * of each Mixture under each set of conditions are remembered.
+     */
+    private static final Cache<FractionsKey, List<FluidStack>> FRACTIONS = CacheBuilder.newBuilder()
+        .maximumSize(256)
+        .build();
 
     private BlockPos position; // The bottom of the Distillation Tower
     private List<BubbleCapBlockEntity> bubbleCaps;
@@ -126,18 +130,9 @@ public class DistillationTower {
 
     public void findRecipe(Level level) {
         if (getControllerBubbleCap() == null || level.isClientSide()) return;
-        SmartFluidTank inputTank = getControllerBubbleCap().getTank();
-        if (lastRecipe == null || !lastRecipe.getRequiredFluid().test(inputTank.getFluid()) || !lastRecipe.isValidAt(level, getControllerPos())) { // If the Recipe has changed
-            List<Recipe<?>> possibleRecipes = RecipeFinder.get(distillationRecipeKey, level, r -> r.getType() == DestroyRecipeTypes.DISTILLATION.getType()).stream().filter(r -> {
-                DistillationRecipe recipe = (DistillationRecipe) r;
-                return (recipe.getRequiredFluid().test(inputTank.getFluid())) && recipe.isValidAt(level, getControllerPos()); // If there is sufficient input Fluid and we're in the right biome
-            }).collect(Collectors.toList());
-            possibleRecipes.addAll(SharedDistillationRecipes.getTFMGToDestroyRecipes(level));
-            if (possibleRecipes.size() >= 1) {
-                lastRecipe = (DistillationRecipe)possibleRecipes.get(0);
-            } else {
-                lastRecipe = null;
-            };
+        FluidStack inputFluid = getControllerBubbleCap().getTank().getFluid();
+        if (lastRecipe == null || !DistillationRecipeIndex.matches(lastRecipe, level, getControllerPos(), inputFluid, getHeight() - 1)) { // If the Recipe has changed
+            lastRecipe = DistillationRecipeIndex.find(level, getControllerPos(), inputFluid, getHeight() - 1); // If there is sufficient input Fluid, we're in the right biome and the Tower is tall enough
         };
     };
 
@@ -156,8 +151,7 @@ public class DistillationTower {
         FluidStack fluidStack = getControllerBubbleCap().getTank().getFluid();
         if (fluidStack.isEmpty()) return false;
         if (DestroyFluids.isMixture(fluidStack.getFluid()) && fluidStack.getOrCreateTag().contains("Mixture", Tag.TAG_COMPOUND)) {
-            ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidStack.getOrCreateTag().getCompound("Mixture"));
-            List<FluidStack> fractions = getFractionsOfMixture(mixture, fluidStack.getAmount(), getHeight() - 1);
+            List<FluidStack> fractions = getFractionsOfMixture(fluidStack.getOrCreateTag().getCompound("Mixture"), fluidStack.getAmount(), getHeight() - 1);
             if (fractions.size() <= 1) return false; // If the only result is the residue, there is no point distilling
             for (boolean simulate : Iterate.trueAndFalse) {
 
@@ -226,19 +220,49 @@ public class DistillationTower {
         return true;
     };
 
+    /**
+     * The conditions which determine how a Mixture separates when distilled.
+     * @param mixture The {@code Mixture} Tag
+     * @param mixtureAmount In mB
+     * @param numberOfFractions
+     * @param roomTemperature In kelvins
+     * @param towerTemperature The {@link DistillationTower#getTemperatureForDistillationTower temperature} to which the Tower is heated, in kelvins
+     */
+    private static record FractionsKey(CompoundTag mixture, int mixtureAmount, int numberOfFractions, float roomTemperature, float towerTemperature) {};
+
+    /**
+     * Get the Fluid Stacks into which a Mixture Fluid Stack will separate when distilled, {@link DistillationTower#FRACTIONS remembering} the result.
+     * @param mixtureTag The {@code Mixture} Tag of the Mixture being distilled
+     * @param mixtureAmount The amount (in mB) of this Mixture
+     * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
+     * @return A list of Fluid Stacks of maximum size {@code numberOfFractions + 1}, with the first being the residue, and the rest being subsequent fractions
+     */
+    private List<FluidStack> getFractionsOfMixture(CompoundTag mixtureTag, int mixtureAmount, int numberOfFractions) {
+        Level level = getControllerBubbleCap().getLevel();
+        float roomTemperature = Pollution.getLocalTemperature(level, getControllerPos());
+        float towerTemperature = getTemperatureForDistillationTower(level, getControllerPos());
+        FractionsKey key = new FractionsKey(mixtureTag, mixtureAmount, numberOfFractions, roomTemperature, towerTemperature);
+        List<FluidStack> fractions = FRACTIONS.getIfPresent(key);
+        if (fractions == null) {
+            fractions = getFractionsOfMixture(ReadOnlyMixture.readSharedNBT(mixtureTag), mixtureAmount, numberOfFractions, roomTemperature, towerTemperature);
+            FRACTIONS.put(new FractionsKey(mixtureTag.copy(), mixtureAmount, numberOfFractions, roomTemperature, towerTemperature), fractions); // Copy the key as the original Tag might be modified later
+        };
+        return fractions.stream().map(FluidStack::copy).toList(); // Copy the Fluid Stacks so the remembered ones can't be modified
+    };
+
     /**
      * Get the Fluid Stacks into which a Mixture Fluid Stack will separate when distilled.
      * @param mixture The Mixture being distilled
      * @param mixtureAmount The amount (in mB) of this Mixture
      * @param numberOfFractions The maximum number of fractions this should be separated into, not including any possible residue
-     * @param heatLevel The Heat Level of the Blaze Burner (or lack thereof) which is heating the controller Bubble Cap
+     * @param roomTemperature The temperature (in kelvins) around the Distillation Tower
+     * @param towerTemperature The temperature (in kelvins) to which the Blaze Burner (or lack thereof) heats the controller Bubble Cap
      * @return A list of Fluid Stacks of maximum size {@code numberOfFractions + 1}, with the first being the residue, and the rest being subsequent fractions
      */
-    private List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions) {
+    private static List<FluidStack> getFractionsOfMixture(ReadOnlyMixture mixture, int mixtureAmount, int numberOfFractions, float roomTemperature, float towerTemperature) {
         List<FluidStack> fractions = new ArrayList<>(numberOfFractions);
 
-        float roomTemperature = Pollution.getLocalTemperature(getControllerBubbleCap().getLevel(), getControllerPos());
-        float maxTemperature = Math.max(getTemperatureForDistillationTower(getControllerBubbleCap().getLevel(), getControllerPos()), mixture.getTemperature());
+        float maxTemperature = Math.max(towerTemperature, mixture.getTemperature());
 
         if (numberOfFractions == 0) return fractions;
         if (numberOfFractions == 1) return List.of(MixtureFluid.of(mixtureAmount, mixture));
@@ -8,14 +8,13 @@ import org.joml.Vector3f;
 import com.petrolpark.destroy.Destroy;
 import com.petrolpark.destroy.capability.Pollution;
 import com.petrolpark.destroy.capability.Pollution.PollutionType;
+import com.petrolpark.destroy.capability.level.pollution.PollutionSyncer;
 import com.petrolpark.destroy.chemistry.legacy.LegacySpecies;
 import com.petrolpark.destroy.chemistry.legacy.ReadOnlyMixture;
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.petrolpark.destroy.fluid.DestroyFluids;
 import com.petrolpark.destroy.network.DestroyMessages;
 import com.petrolpark.destroy.network.packet.EvaporatingFluidS2CPacket;
-import com.petrolpark.destroy.network.packet.LevelPollutionS2CPacket;
-import com.petrolpark.destroy.network.packet.SyncChunkPollutionS2CPacket;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.DustParticleOptions;
@@ -26,8 +25,6 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkStatus;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import net.minecraftforge.fluids.FluidStack;
 
@@ -56,41 +53,41 @@ public class PollutionHelper {
 
     /**
      * Sets the level of pollution of the given Type in the given Level.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#set set()} method instead).
+     * The change is broadcast to all clients the next time {@link PollutionSyncer Pollution is synced} (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#set set()} method instead).
      * @param level
      * @param pollutionType
      * @param value Will be set within the {@link com.petrolpark.destroy.capability.Pollution.PollutionType bounds}.
      * @return The actual value to which the level of pollution was set (0 if there was no Capability)
      */
     public static int setPollution(Level level, BlockPos pos, PollutionType pollutionType, int value) {
-        return getCapOp(level, pos, pollutionType).map(pollution -> {
-            int oldValue = pollution.get(pollutionType);
-            int newValue = pollution.set(pollutionType, value); // Actually set the Pollution level
-
-            if (oldValue != newValue && level instanceof ServerLevel serverLevel) {
-                if (pollutionType.local) {
-                    ChunkPos chunkPos = new ChunkPos(pos);
-                    LevelChunk chunk = (LevelChunk)serverLevel.getChunk(chunkPos.x, chunkPos.z, ChunkStatus.FULL, false);
-                    if (chunk != null) DestroyMessages.sendToClientsTrackingChunk(new SyncChunkPollutionS2CPacket(chunkPos, pollution), chunk);
-                } else {
-                    DestroyMessages.sendToAllClientsInDimension(new LevelPollutionS2CPacket(pollution), serverLevel);
-                };
-            };
-
-            return newValue;
-        }).orElse(0);
+        return getCapOp(level, pos, pollutionType).map(pollution -> setAndSync(level, pos, pollution, pollutionType, value)).orElse(0);
     };
 
     /**
      * Changes the level of pollution of the given Type in the given Level by the given amount.
-     * The change is broadcast to all clients (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
+     * The change is broadcast to all clients the next time {@link PollutionSyncer Pollution is synced} (Avoid this by using the {@link com.petrolpark.destroy.capability.Pollution#change change()} method instead).
      * @param level
      * @param pollutionType
      * @param change Can be positive or negative; will be set within the {@link com.petrolpark.destroy.capability.Pollution.PollutionType bounds}.
      * @return The actual value to which the level of pollution was set (0 if there was no Capability)
      */
     public static int changePollution(Level level, BlockPos pos, PollutionType pollutionType, int change) {
-        return getCapOp(level, pos, pollutionType).map(pollution -> pollution.set(pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max))).orElse(0);
+        return getCapOp(level, pos, pollutionType).map(pollution -> setAndSync(level, pos, pollution, pollutionType, Mth.clamp(pollution.get(pollutionType) + change, 0, pollutionType.max))).orElse(0);
+    };
+
+    private static int setAndSync(Level level, BlockPos pos, Pollution pollution, PollutionType pollutionType, int value) {
+        int oldValue = pollution.get(pollutionType);
+        int newValue = pollution.set(pollutionType, value); // Actually set the Pollution level
+
+        if (oldValue != newValue && level instanceof ServerLevel serverLevel) {
+            if (pollutionType.local) {
+                PollutionSyncer.markChunkChanged(serverLevel, new ChunkPos(pos));
+            } else {
+                PollutionSyncer.markLevelChanged(serverLevel);
+            };
+        };
+
+        return newValue;
     };
 
     public static int changePollutionGlobal(Level level, PollutionType pollutionType, int change) {
@@ -126,7 +123,7 @@ public class PollutionHelper {
     };
 
     public static void polluteMixture(Level level, BlockPos pos, float multiplier, int amount, CompoundTag fluidTag) {
-        ReadOnlyMixture mixture = ReadOnlyMixture.readNBT(ReadOnlyMixture::new, fluidTag.getCompound("Mixture"));
+        ReadOnlyMixture mixture = ReadOnlyMixture.readSharedNBT(fluidTag.getCompound("Mixture"));
         for (LegacySpecies molecule : mixture.getContents(true)) {
             float pollutionAmount = multiplier * mixture.getConcentrationOf(molecule) * amount / 1000; // One mole of polluting Molecule = one point of Pollution
             for (PollutionType pollutionType : PollutionType.values()) {
@@ -1,67 +1,200 @@
 package com.petrolpark.destroy.world.explosion;
 
-import java.util.HashSet;
-import java.util.LinkedList;
-
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
 
 import com.petrolpark.destroy.config.DestroyAllConfigs;
 import com.simibubi.create.foundation.utility.VecHelper;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.Reference2FloatMap;
+import it.unimi.dsi.fastutil.objects.Reference2FloatOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.phys.AABB;
 
 public class ExcavationExplosion extends SmartExplosion {
 
+    /**
+     * Excavation Explosions in each Level which have not yet finished {@link ExcavationExplosion#fill finding} the Blocks they destroy.
+     */
+    private static final Map<ResourceKey<Level>, List<ExcavationExplosion>> PENDING = new HashMap<>();
+
+    /**
+     * Blocks at least this {@link net.minecraft.world.level.block.state.BlockState#getExplosionResistance resistant} are not destroyed, nor is anything they seal off.
+     */
+    private static final float MAXIMUM_RESISTANCE = 1000f;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     private final BlockPos center;
     private final AABB explosionArea;
 
+    // The inclusive bounds of the Blocks whose centers are in the explosion area
+    private final int minX, minY, minZ, maxX, maxY, maxZ;
+
+    private final LongArrayFIFOQueue blocksToTryExplode; // Blocks which need to be checked to see if they should explode
+    private final LongSet blocksTriedToExplode; // Blocks which have ever been marked for checking to see if they should explode
+    private final LongList blocksToExplode; // Blocks which will be exploded by the end of this
+    private final Reference2FloatMap<BlockState> resistances;
+    private boolean filled;
+
+    /**
+     * The last Chunk looked in. This is forgotten at the end of every {@link ExcavationExplosion#fill fill}, as the Chunk may be unloaded before the next one.
+     */
+    private LevelChunk cachedChunk;
+
     public ExcavationExplosion(Level level, Entity source, BlockPos position, AABB explosionArea) {
         super(level, source, null, null, VecHelper.getCenterOf(position), 0f, 0f);
         this.center = position;
         this.explosionArea = explosionArea;
+        minX = Mth.ceil(explosionArea.minX - 0.5d);
+        minY = Mth.ceil(explosionArea.minY - 0.5d);
+        minZ = Mth.ceil(explosionArea.minZ - 0.5d);
+        maxX = Mth.ceil(explosionArea.maxX - 0.5d) - 1;
+        maxY = Mth.ceil(explosionArea.maxY - 0.5d) - 1;
+        maxZ = Mth.ceil(explosionArea.maxZ - 0.5d) - 1;
+        blocksToTryExplode = new LongArrayFIFOQueue();
+        blocksTriedToExplode = new LongOpenHashSet();
+        blocksToExplode = new LongArrayList();
+        resistances = new Reference2FloatOpenHashMap<>();
+        filled = false;
+
+        blocksToTryExplode.enqueue(center.asLong());
+        blocksTriedToExplode.add(center.asLong());
     };
 
-    public ExplosionResult getExplosionResult() {
-        Set<BlockPos> blocksToExplode = new HashSet<>(); // Blocks which will be exploded by the end of this
-        Set<BlockPos> blocksTriedToExplode = new HashSet<>(); // Blocks which have ever been marked for checking to see if they should explode
-        Queue<BlockPos> blocksToTryExplode = new LinkedList<>(); // Blocks which need to be checked to see if they should explode
-        blocksToTryExplode.add(center);
+    /**
+     * Set off an Excavation Explosion. Large Explosions may take several ticks to {@link ExcavationExplosion#fill find} everything they destroy, and only go off once they have.
+     * The Dynamite stays in place until then, so setting it off again in the meantime does nothing.
+     */
+    public static void detonate(ServerLevel level, ExcavationExplosion explosion) {
+        List<ExcavationExplosion> pending = PENDING.get(level.dimension());
+        if (pending != null) {
+            for (ExcavationExplosion pendingExplosion : pending) {
+                if (pendingExplosion.center.equals(explosion.center)) return;
+            };
+        };
+        if (explosion.fill(DestroyAllConfigs.SERVER.blocks.dynamiteBlocksCheckedPerTick.get())) {
+            SmartExplosion.explode(level, explosion);
+        } else {
+            PENDING.computeIfAbsent(level.dimension(), d -> new ArrayList<>()).add(explosion);
+        };
+    };
+
+    /**
+     * Carry on finding the Blocks destroyed by {@link ExcavationExplosion#detonate pending} Explosions in this Level, setting off those which are done.
+     */
+    public static void tick(ServerLevel level) {
+        List<ExcavationExplosion> explosions = PENDING.get(level.dimension());
+        if (explosions == null || explosions.isEmpty()) return;
+        int budget = DestroyAllConfigs.SERVER.blocks.dynamiteBlocksCheckedPerTick.get();
+        ExcavationExplosion explosion = explosions.get(0); // Finish one Explosion at a time so that earlier ones go off first
+        if (explosion.fill(budget)) {
+            explosions.remove(0);
+            SmartExplosion.explode(level, explosion);
+        };
+    };
 
+    public static void onLevelUnloaded(LevelAccessor level) {
+        if (level instanceof ServerLevel serverLevel) PENDING.remove(serverLevel.dimension());
+    };
+
+    /**
+     * Flood fill the Explosion area (this ensures Blocks protected by unbreakable Blocks do not get destroyed), breadth-first from the center.
+     * @param budget The most Blocks to check before stopping
+     * @return Whether every Block this Explosion destroys has been found
+     */
+    protected boolean fill(int budget) {
+        if (filled) return true;
         if (DestroyAllConfigs.SERVER.blocks.dynamiteExplodesResistant.get()) {
-            blocksToExplode.addAll(BlockPos.betweenClosedStream(explosionArea).toList());
-        } else {
-            // Flood fill the Explosion area (this ensures Blocks protected by unbreakable Blocks do not get destroyed)
-            while (!blocksToTryExplode.isEmpty()) {
-                BlockPos pos = blocksToTryExplode.remove();
-                if (shouldExplode(pos)) {
-                    blocksToExplode.add(pos);
-                    tryExplodeMoreBlocks: for (Direction direction : Direction.values()) {
-                        BlockPos newPos = pos.relative(direction);
-                        if (blocksTriedToExplode.contains(newPos)) continue tryExplodeMoreBlocks;
-                        blocksTriedToExplode.add(newPos);
-                        blocksToTryExplode.add(newPos);
-                    };
-                };
+            BlockPos.betweenClosedStream(explosionArea).forEach(pos -> blocksToExplode.add(pos.asLong()));
+            blocksToTryExplode.clear();
+        };
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int checked = 0; checked < budget && !blocksToTryExplode.isEmpty(); checked++) {
+            long posLong = blocksToTryExplode.dequeueLong();
+            pos.set(posLong);
+            if (!shouldExplode(pos)) continue;
+            blocksToExplode.add(posLong);
+            for (Direction direction : DIRECTIONS) {
+                long newPosLong = BlockPos.offset(posLong, direction);
+                if (blocksTriedToExplode.add(newPosLong)) blocksToTryExplode.enqueue(newPosLong);
             };
         };
+        cachedChunk = null;
+        filled = blocksToTryExplode.isEmpty();
+        if (filled) blocksTriedToExplode.clear();
+        return filled;
+    };
 
-        return new ExplosionResult(blocksToExplode, Map.of());
+    @Override
+    public ExplosionResult getExplosionResult() {
+        fill(Integer.MAX_VALUE);
+        boolean explodesResistant = DestroyAllConfigs.SERVER.blocks.dynamiteExplodesResistant.get();
+        List<BlockPos> blocks = new ArrayList<>(blocksToExplode.size());
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        cachedChunk = null;
+        for (int i = 0; i < blocksToExplode.size(); i++) {
+            pos.set(blocksToExplode.getLong(i));
+            if (!explodesResistant && !isWeakEnough(pos)) continue; // The Block might have changed if this Explosion took several ticks to fill
+            blocks.add(pos.immutable());
+        };
+        cachedChunk = null;
+        return new ExplosionResult(blocks, Map.of());
     };
 
     private boolean shouldExplode(BlockPos pos) {
+        if (pos.getX() < minX || pos.getX() > maxX || pos.getY() < minY || pos.getY() > maxY || pos.getZ() < minZ || pos.getZ() > maxZ) return false;
         if (!level.isInWorldBounds(pos)) return false;
-        if (!explosionArea.contains(VecHelper.getCenterOf(pos))) return false;
-        return level.getBlockState(pos).getExplosionResistance(level, pos, this) < 1000f;
+        return isWeakEnough(pos);
+    };
+
+    /**
+     * Whether the Block at the given position is not too {@link ExcavationExplosion#MAXIMUM_RESISTANCE resistant} to destroy.
+     * The resistance of each Block State is only worked out once.
+     */
+    private boolean isWeakEnough(BlockPos pos) {
+        BlockState state = getBlockState(pos);
+        float resistance;
+        if (resistances.containsKey(state)) {
+            resistance = resistances.getFloat(state);
+        } else {
+            resistance = state.getExplosionResistance(level, pos, this);
+            resistances.put(state, resistance);
+        };
+        return resistance < MAXIMUM_RESISTANCE;
+    };
+
+    /**
+     * Get the Block State at the given position (which must be in the world), remembering the last Chunk looked in.
+     */
+    private BlockState getBlockState(BlockPos pos) {
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        if (cachedChunk == null || cachedChunk.getPos().x != chunkX || cachedChunk.getPos().z != chunkZ) cachedChunk = level.getChunk(chunkX, chunkZ);
+        LevelChunkSection section = cachedChunk.getSection(cachedChunk.getSectionIndex(pos.getY()));
+        if (section.hasOnlyAir()) return Blocks.AIR.defaultBlockState();
+        return section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
     };
 
     @Override
@@ -86,5 +219,5 @@ public class ExcavationExplosion extends SmartExplosion {
     public void explodeBlock(BlockPos pos) {
         // Do nothing (this type of explosion does not drop Block Items)
     };
-    
+
 };
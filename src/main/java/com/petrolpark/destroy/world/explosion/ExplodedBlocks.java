@@ -0,0 +1,102 @@
+package com.petrolpark.destroy.world.explosion;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortList;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.FriendlyByteBuf;
+
+/**
+ * Writes the positions of the Blocks an Explosion destroys in as few bytes as possible.
+ * <p>Positions are grouped by the Chunk Section they are in, and each Section is given relative to the Section containing the center of the Explosion.
+ * Within a Section, each Block is either given as a two-byte index or, if most of the Section is destroyed, as one bit of a mask covering the whole Section.
+ * Vanilla uses three bytes for every Block.</p>
+ */
+public class ExplodedBlocks {
+
+    /**
+     * The number of Blocks in a Section above which a mask of the whole Section takes fewer bytes than listing each Block.
+     */
+    private static final int DENSE_THRESHOLD = 4096 / 16;
+
+    public static void write(FriendlyByteBuf buffer, BlockPos origin, Collection<BlockPos> blocks) {
+        Long2ObjectMap<ShortList> sections = new Long2ObjectOpenHashMap<>();
+        for (BlockPos pos : blocks) {
+            sections.computeIfAbsent(SectionPos.asLong(pos), s -> new ShortArrayList()).add((short)localIndex(pos));
+        };
+        int originX = SectionPos.blockToSectionCoord(origin.getX());
+        int originY = SectionPos.blockToSectionCoord(origin.getY());
+        int originZ = SectionPos.blockToSectionCoord(origin.getZ());
+
+        buffer.writeVarInt(sections.size());
+        for (Long2ObjectMap.Entry<ShortList> entry : sections.long2ObjectEntrySet()) {
+            long section = entry.getLongKey();
+            writeSignedVarInt(buffer, SectionPos.x(section) - originX);
+            writeSignedVarInt(buffer, SectionPos.y(section) - originY);
+            writeSignedVarInt(buffer, SectionPos.z(section) - originZ);
+            ShortList indices = entry.getValue();
+            buffer.writeVarInt(indices.size());
+            if (indices.size() > DENSE_THRESHOLD) {
+                long[] mask = new long[4096 / 64];
+                for (int i = 0; i < indices.size(); i++) {
+                    int index = indices.getShort(i);
+                    mask[index >> 6] |= 1L << (index & 63);
+                };
+                for (long word : mask) buffer.writeLong(word);
+            } else {
+                for (int i = 0; i < indices.size(); i++) buffer.writeShort(indices.getShort(i));
+            };
+        };
+    };
+
+    public static List<BlockPos> read(FriendlyByteBuf buffer, BlockPos origin) {
+        int originX = SectionPos.blockToSectionCoord(origin.getX());
+        int originY = SectionPos.blockToSectionCoord(origin.getY());
+        int originZ = SectionPos.blockToSectionCoord(origin.getZ());
+        List<BlockPos> blocks = new ArrayList<>();
+
+        int sectionCount = buffer.readVarInt();
+        for (int s = 0; s < sectionCount; s++) {
+            int minX = SectionPos.sectionToBlockCoord(originX + readSignedVarInt(buffer));
+            int minY = SectionPos.sectionToBlockCoord(originY + readSignedVarInt(buffer));
+            int minZ = SectionPos.sectionToBlockCoord(originZ + readSignedVarInt(buffer));
+            int count = buffer.readVarInt();
+            if (count > DENSE_THRESHOLD) {
+                for (int word = 0; word < 4096 / 64; word++) {
+                    long bits = buffer.readLong();
+                    while (bits != 0L) {
+                        int index = word << 6 | Long.numberOfTrailingZeros(bits);
+                        blocks.add(fromLocalIndex(minX, minY, minZ, index));
+                        bits &= bits - 1L;
+                    };
+                };
+            } else {
+                for (int i = 0; i < count; i++) blocks.add(fromLocalIndex(minX, minY, minZ, buffer.readShort()));
+            };
+        };
+        return blocks;
+    };
+
+    private static int localIndex(BlockPos pos) {
+        return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+    };
+
+    private static BlockPos fromLocalIndex(int minX, int minY, int minZ, int index) {
+        return new BlockPos(minX + (index & 15), minY + (index >> 8 & 15), minZ + (index >> 4 & 15));
+    };
+
+    private static void writeSignedVarInt(FriendlyByteBuf buffer, int value) {
+        buffer.writeVarInt(value << 1 ^ value >> 31); // Zig-zag encode so that small negative offsets are also one byte
+    };
+
+    private static int readSignedVarInt(FriendlyByteBuf buffer) {
+        int value = buffer.readVarInt();
+        return value >>> 1 ^ -(value & 1);
+    };
+};
@@ -0,0 +1,87 @@
+package com.petrolpark.destroy.world.explosion;
+
+import javax.annotation.Nullable;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * A copy of the Block States in every Chunk Section around a point, which can be read from any thread.
+ * <p>Block Entities are not copied, so {@link ExplosionBlockSnapshot#getBlockEntity} always gives {@code null}.</p>
+ */
+public class ExplosionBlockSnapshot implements BlockGetter {
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    protected final int minBuildHeight;
+    protected final int height;
+
+    /**
+     * The copied Block States of each Chunk Section, indexed by {@link SectionPos#asLong Section position}. Sections which are only air are left out.
+     */
+    protected final Long2ObjectMap<PalettedContainer<BlockState>> sections;
+
+    /**
+     * Copy the Block States of every Chunk Section within the given distance of the given point. This must be called on the thread which owns the Level.
+     * @param level
+     * @param center
+     * @param reach In blocks
+     */
+    public ExplosionBlockSnapshot(Level level, Vec3 center, double reach) {
+        minBuildHeight = level.getMinBuildHeight();
+        height = level.getHeight();
+        sections = new Long2ObjectOpenHashMap<>();
+        int minSectionY = Math.max(level.getMinSection(), SectionPos.posToSectionCoord(center.y - reach));
+        int maxSectionY = Math.min(level.getMaxSection() - 1, SectionPos.posToSectionCoord(center.y + reach));
+        for (int chunkX = SectionPos.posToSectionCoord(center.x - reach); chunkX <= SectionPos.posToSectionCoord(center.x + reach); chunkX++) {
+            for (int chunkZ = SectionPos.posToSectionCoord(center.z - reach); chunkZ <= SectionPos.posToSectionCoord(center.z + reach); chunkZ++) {
+                LevelChunk chunk = level.getChunk(chunkX, chunkZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+                    if (section.hasOnlyAir()) continue;
+                    sections.put(SectionPos.asLong(chunkX, sectionY, chunkZ), section.getStates().copy());
+                };
+            };
+        };
+    };
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        PalettedContainer<BlockState> states = sections.get(SectionPos.asLong(pos));
+        if (states == null) return AIR;
+        return states.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    };
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    };
+
+    @Override
+    @Nullable
+    public BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    };
+
+    @Override
+    public int getHeight() {
+        return height;
+    };
+
+    @Override
+    public int getMinBuildHeight() {
+        return minBuildHeight;
+    };
+};
@@ -0,0 +1,368 @@
+package com.petrolpark.destroy.world.explosion;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.petrolpark.destroy.world.explosion.SmartExplosion.ExplosionResult;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.item.enchantment.EnchantmentHelper;
+import net.minecraft.world.item.enchantment.Enchantments;
+import net.minecraft.world.item.enchantment.ProtectionEnchantment;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Works out which Blocks and Entities a {@link SmartExplosion} affects by casting rays out from its center, as in {@link SmartExplosion#getExplosionResult}.
+ * <p>Each ray loses momentum every {@link ExplosionRayMarcher#STEP} blocks it travels and for each Block and Entity it passes through, exactly as vanilla rays do,
+ * but rather than looking up the Block and searching for Entities at every step:</p><ul>
+ * <li>The Entities which any ray could reach are gathered once, and each ray works out analytically which of them it reaches first.</li>
+ * <li>Each ray walks through the Blocks it crosses in order (a voxel DDA), looking each one up once (through the Chunk Section it is in) however many steps land in it.</li>
+ * </ul>
+ * <p>Everything each ray needs to know about an Entity is also worked out up front, so that a {@link ParallelExplosionRayMarcher subclass} can cast rays on other threads.</p>
+ */
+public class ExplosionRayMarcher {
+
+    /**
+     * The distance (in blocks) each ray moves between losing momentum.
+     */
+    public static final double STEP = 0.3f;
+    /**
+     * The momentum each ray loses every {@link ExplosionRayMarcher#STEP step}.
+     */
+    public static final float MOMENTUM_LOSS_PER_STEP = 0.225f;
+
+    protected final SmartExplosion explosion;
+    protected final Level level;
+    /**
+     * What the {@link ExplosionRayMarcher#damageCalculator} is given to look at Blocks.
+     */
+    protected final BlockGetter blockGetter;
+    protected final ExplosionDamageCalculator damageCalculator;
+    protected final Vec3 center;
+
+    /**
+     * The greatest momentum any ray could start with.
+     */
+    protected final float maxMomentum;
+
+    /**
+     * Every Entity any ray could reach, with the box a ray must enter to reach it.
+     */
+    protected final List<EntityTarget> entityTargets;
+
+    private LevelChunk cachedChunk;
+
+    /**
+     * @param explosion
+     * @param level
+     * @param damageCalculator
+     * @param maxMomentum The greatest momentum any ray could start with
+     */
+    public ExplosionRayMarcher(SmartExplosion explosion, Level level, ExplosionDamageCalculator damageCalculator, float maxMomentum) {
+        this(explosion, level, level, damageCalculator, maxMomentum);
+    };
+
+    protected ExplosionRayMarcher(SmartExplosion explosion, Level level, BlockGetter blockGetter, ExplosionDamageCalculator damageCalculator, float maxMomentum) {
+        this.explosion = explosion;
+        this.level = level;
+        this.blockGetter = blockGetter;
+        this.damageCalculator = damageCalculator;
+        this.center = explosion.getPosition();
+        this.maxMomentum = maxMomentum;
+        entityTargets = level.getEntities((Entity)null, new AABB(center, center).inflate(getReach(maxMomentum)), entity -> !entity.ignoreExplosion()).stream()
+            .map(EntityTarget::of)
+            .toList();
+    };
+
+    /**
+     * The furthest (in blocks) any ray starting with the given momentum could travel.
+     */
+    public static double getReach(float maxMomentum) {
+        return maxMomentum / MOMENTUM_LOSS_PER_STEP * STEP + 1d;
+    };
+
+    /**
+     * @param entity
+     * @param boundingBox The bounding box of the Entity, which the box around the ray so far must overlap for the ray to reach it
+     * @param box The box a ray must enter to reach the Entity, which is the bounding box inflated as by {@link net.minecraft.world.entity.projectile.ProjectileUtil#getEntityHitResult}
+     * @param living Whether the Entity is a Living Entity, whose resistances affect how much momentum a ray loses passing through it
+     * @param blastProtection The level of Blast Protection the Entity has
+     * @param knockbackResistance
+     */
+    protected static record EntityTarget(Entity entity, AABB boundingBox, AABB box, boolean living, int blastProtection, double knockbackResistance) {
+
+        public static EntityTarget of(Entity entity) {
+            AABB boundingBox = entity.getBoundingBox();
+            AABB box = boundingBox.inflate(0.3d);
+            if (entity instanceof LivingEntity livingEntity) return new EntityTarget(entity, boundingBox, box, true, EnchantmentHelper.getEnchantmentLevel(Enchantments.BLAST_PROTECTION, livingEntity), livingEntity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE));
+            return new EntityTarget(entity, boundingBox, box, false, 0, 0d);
+        };
+    };
+
+    /**
+     * The same as {@link ProtectionEnchantment#getExplosionKnockbackAfterDampener}, for an Entity with the given level of Blast Protection.
+     * This doesn't look at the Entity, so can be used off the main thread.
+     */
+    protected static double getKnockbackAfterDampener(int blastProtection, double knockback) {
+        if (blastProtection > 0) knockback -= Mth.floor(knockback * (double)((float)blastProtection * 0.15f));
+        return knockback;
+    };
+
+    /**
+     * Cast rays from the center of the Explosion towards the center of every square of a grid on each face of a cube.
+     * @param resolution Half the number of squares along each edge of the cube
+     * @param irregularity See {@link SmartExplosion#irregularity}
+     * @param radius The radius of the Explosion
+     * @param random Used to pick the momentum of each ray
+     */
+    public ExplosionResult castRays(int resolution, float irregularity, float radius, RandomSource random) {
+        int rayCount = (2 * resolution + 1) * (2 * resolution + 1) * (2 * resolution + 1) - (2 * resolution - 1) * (2 * resolution - 1) * (2 * resolution - 1);
+        Vec3[] directions = new Vec3[rayCount];
+        float[] momenta = new float[rayCount];
+        int ray = 0;
+        for (int i = -resolution; i <= resolution; i++) {
+            for (int j = -resolution; j <= resolution; j++) {
+                for (int k = -resolution; k <= resolution; k++) {
+                    if (i == -resolution || i == resolution || j == -resolution || j == resolution || k == -resolution || k == resolution) {
+                        directions[ray] = new Vec3(i, j, k).normalize();
+                        // We pick a (slightly randomised) 'momentum' in this direction, based on the radius and smoothness of this Explosion
+                        momenta[ray] = radius * ((1f - irregularity / 2f) + random.nextFloat() * irregularity);
+                        ray++;
+                    };
+                };
+            };
+        };
+        return castRays(directions, momenta);
+    };
+
+    /**
+     * Cast the given rays.
+     * @param directions Normalized
+     * @param momenta The momentum with which each ray starts
+     */
+    protected ExplosionResult castRays(Vec3[] directions, float[] momenta) {
+        Set<BlockPos> blocks = new HashSet<>();
+        Map<Entity, Float> entities = new HashMap<>();
+        for (int ray = 0; ray < directions.length; ray++) castRay(directions[ray], momenta[ray], blocks, entities);
+        return new ExplosionResult(blocks, entities);
+    };
+
+    /**
+     * Follow one ray out from the center of the Explosion until it runs out of momentum.
+     * @param direction Normalized
+     * @param momentum The momentum with which the ray starts
+     * @param blocks Blocks the ray should destroy are added to this
+     * @param entities Entities the ray reaches are added to this, mapped to the greatest strength with which any ray has reached them
+     */
+    public void castRay(Vec3 direction, float momentum, Set<BlockPos> blocks, Map<Entity, Float> entities) {
+
+        // Only the nearest Entity on the ray is ever hit, but it is hit again at every step after the ray reaches it
+        EntityTarget hitEntity = null;
+        double hitDistance = Double.POSITIVE_INFINITY;
+        for (EntityTarget target : entityTargets) {
+            double distance = entryDistance(target, direction);
+            if (distance < hitDistance) {
+                hitDistance = distance;
+                hitEntity = target;
+            };
+        };
+
+        // Set up the walk through the Blocks
+        int blockX = Mth.floor(center.x);
+        int blockY = Mth.floor(center.y);
+        int blockZ = Mth.floor(center.z);
+        int stepX = direction.x > 0d ? 1 : -1;
+        int stepY = direction.y > 0d ? 1 : -1;
+        int stepZ = direction.z > 0d ? 1 : -1;
+        double deltaX = direction.x == 0d ? Double.POSITIVE_INFINITY : Math.abs(1d / direction.x); // Distance along the ray between crossing X boundaries
+        double deltaY = direction.y == 0d ? Double.POSITIVE_INFINITY : Math.abs(1d / direction.y);
+        double deltaZ = direction.z == 0d ? Double.POSITIVE_INFINITY : Math.abs(1d / direction.z);
+        double nextX = direction.x == 0d ? Double.POSITIVE_INFINITY : (direction.x > 0d ? blockX + 1 - center.x : center.x - blockX) * deltaX; // Distance along the ray to the next X boundary
+        double nextY = direction.y == 0d ? Double.POSITIVE_INFINITY : (direction.y > 0d ? blockY + 1 - center.y : center.y - blockY) * deltaY;
+        double nextZ = direction.z == 0d ? Double.POSITIVE_INFINITY : (direction.z > 0d ? blockZ + 1 - center.z : center.z - blockZ) * deltaZ;
+
+        int step = 0;
+        while (momentum > 0f) {
+            double exitDistance = Math.min(nextX, Math.min(nextY, nextZ)); // Where the ray leaves the current Block
+
+            if (step * STEP < exitDistance) { // If any steps land in this Block
+                BlockPos pos = new BlockPos(blockX, blockY, blockZ);
+                boolean inWorld = level.isInWorldBounds(pos);
+                Optional<Float> resistance = Optional.empty();
+                BlockState blockState = null;
+                if (inWorld) {
+                    blockState = getBlockState(pos);
+                    FluidState fluidState = getFluidState(pos);
+                    resistance = damageCalculator.getBlockExplosionResistance(explosion, blockGetter, pos, blockState, fluidState);
+                };
+                boolean exploded = false;
+
+                while (momentum > 0f && step * STEP < exitDistance) {
+
+                    // If there's an Entity in the way...
+                    if (hitEntity != null && step * STEP > hitDistance) {
+                        // ...update the Entity to experience the maximum strength it could experience from this Explosion...
+                        entities.merge(hitEntity.entity(), momentum / maxMomentum, (existingStrength, strength) -> Math.max(existingStrength, strength));
+                        // ...and decrease the momentum of the explosion in this direction
+                        if (hitEntity.living()) {
+                            momentum -= 0.1f + (0.125f
+                                * (1d - getKnockbackAfterDampener(hitEntity.blastProtection(), momentum)) // Increase the momentum loss if the Entity has Blast Resistance
+                                * (hitEntity.knockbackResistance())); // Increase the momentum loss if the Entity has knockback resistance
+                        } else {
+                            momentum -= 0.1f;
+                        };
+                    };
+
+                    // Don't continue if we've moved outside the world
+                    if (!inWorld) return;
+
+                    // Determine the decrease in momentum due to the Block or Fluid State
+                    if (resistance.isPresent()) { // If it's not just air...
+                        momentum -= (resistance.get() + 0.3f) * 0.3f; //... decrease the momentum in this direction
+                    };
+
+                    // Determine whether the Block should be removed
+                    if (!exploded && momentum > 0f && damageCalculator.shouldBlockExplode(explosion, blockGetter, pos, blockState, momentum)) {
+                        blocks.add(pos); // If so, add it to the list of Blocks to remove
+                        exploded = true;
+                    };
+
+                    // Move along the ray, decreasing the momentum due to the extra distance moved
+                    step++;
+                    momentum -= MOMENTUM_LOSS_PER_STEP;
+                };
+            };
+
+            // Move into the next Block
+            if (nextX <= nextY && nextX <= nextZ) {
+                blockX += stepX;
+                nextX += deltaX;
+            } else if (nextY <= nextZ) {
+                blockY += stepY;
+                nextY += deltaY;
+            } else {
+                blockZ += stepZ;
+                nextZ += deltaZ;
+            };
+        };
+    };
+
+    /**
+     * How far along a ray from the center of the Explosion it reaches the given Entity, as {@link net.minecraft.world.entity.projectile.ProjectileUtil#getEntityHitResult} would find it.
+     * The ray must have entered the {@link EntityTarget#box inflated box} of the Entity (which never happens if it starts inside it), and the box around the ray so far
+     * must overlap the bounding box of the Entity.
+     * @param target
+     * @param direction Normalized
+     * @return The ray reaches the Entity at every step strictly further than this, or never if this is {@link Double#POSITIVE_INFINITY}
+     */
+    protected double entryDistance(EntityTarget target, Vec3 direction) {
+        double clipDistance = clipDistance(target.box(), direction);
+        if (clipDistance == Double.POSITIVE_INFINITY) return clipDistance;
+        return Math.max(clipDistance, overlapDistance(target.boundingBox(), direction));
+    };
+
+    /**
+     * How far along a ray from the center of the Explosion it enters the given box through one of its faces, as {@link AABB#clip} would find it.
+     * @param box
+     * @param direction Normalized
+     * @return {@link Double#POSITIVE_INFINITY} if the ray never enters the box, including if it starts inside it
+     */
+    protected double clipDistance(AABB box, Vec3 direction) {
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int axis = 0; axis < 3; axis++) {
+            double component = component(direction, axis);
+            if (Math.abs(component) <= 1e-7d) continue; // The ray can't go through faces it's parallel to
+            double distance = ((component > 0d ? min(box, axis) : max(box, axis)) - component(center, axis)) / component;
+            if (distance <= 0d || distance >= nearest) continue;
+            boolean onFace = true;
+            for (int otherAxis = 0; otherAxis < 3; otherAxis++) {
+                if (otherAxis == axis) continue;
+                double position = component(center, otherAxis) + distance * component(direction, otherAxis);
+                if (!(min(box, otherAxis) - 1e-7d < position && position < max(box, otherAxis) + 1e-7d)) onFace = false;
+            };
+            if (onFace) nearest = distance;
+        };
+        return nearest;
+    };
+
+    /**
+     * How far along a ray from the center of the Explosion the box around the ray so far starts to overlap the given box, as {@link AABB#intersects} would find it.
+     * @param box
+     * @param direction Normalized
+     * @return The boxes overlap at every distance strictly further than this, or never if this is {@link Double#POSITIVE_INFINITY}
+     */
+    protected double overlapDistance(AABB box, Vec3 direction) {
+        double distance = Double.NEGATIVE_INFINITY;
+        for (int axis = 0; axis < 3; axis++) {
+            double origin = component(center, axis);
+            double component = component(direction, axis);
+            if (component > 0d) {
+                if (origin >= max(box, axis)) return Double.POSITIVE_INFINITY;
+                distance = Math.max(distance, (min(box, axis) - origin) / component);
+            } else if (component < 0d) {
+                if (origin <= min(box, axis)) return Double.POSITIVE_INFINITY;
+                distance = Math.max(distance, (max(box, axis) - origin) / component);
+            } else if (origin <= min(box, axis) || origin >= max(box, axis)) {
+                return Double.POSITIVE_INFINITY;
+            };
+        };
+        return distance;
+    };
+
+    private static double component(Vec3 vec, int axis) {
+        return axis == 0 ? vec.x : axis == 1 ? vec.y : vec.z;
+    };
+
+    private static double min(AABB box, int axis) {
+        return axis == 0 ? box.minX : axis == 1 ? box.minY : box.minZ;
+    };
+
+    private static double max(AABB box, int axis) {
+        return axis == 0 ? box.maxX : axis == 1 ? box.maxY : box.maxZ;
+    };
+
+    /**
+     * Get the Block State at the given position (which must be in the world), remembering the last Chunk looked in.
+     */
+    protected BlockState getBlockState(BlockPos pos) {
+        LevelChunkSection section = getSection(pos);
+        return section == null ? Blocks.AIR.defaultBlockState() : section.getBlockState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    };
+
+    /**
+     * Get the Fluid State at the given position (which must be in the world), remembering the last Chunk looked in.
+     */
+    protected FluidState getFluidState(BlockPos pos) {
+        LevelChunkSection section = getSection(pos);
+        return section == null ? Fluids.EMPTY.defaultFluidState() : section.getFluidState(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+    };
+
+    private LevelChunkSection getSection(BlockPos pos) {
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        if (cachedChunk == null || cachedChunk.getPos().x != chunkX || cachedChunk.getPos().z != chunkZ) cachedChunk = level.getChunk(chunkX, chunkZ);
+        int sectionIndex = cachedChunk.getSectionIndex(pos.getY());
+        if (sectionIndex < 0 || sectionIndex >= cachedChunk.getSectionsCount()) return null;
+        LevelChunkSection section = cachedChunk.getSection(sectionIndex);
+        return section.hasOnlyAir() ? null : section;
+    };
+};
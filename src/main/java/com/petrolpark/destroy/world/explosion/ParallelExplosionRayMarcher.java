@@ -0,0 +1,125 @@
+package com.petrolpark.destroy.world.explosion;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+import com.petrolpark.destroy.config.DestroyAllConfigs;
+import com.petrolpark.destroy.config.DestroyBlocksConfigs;
+import com.petrolpark.destroy.world.explosion.SmartExplosion.ExplosionResult;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ExplosionDamageCalculator;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * An {@link ExplosionRayMarcher} which casts its rays on several threads at once, for {@link DestroyBlocksConfigs#parallelExplosionRays large Explosions}.
+ * <p>Rays only ever read the world, so the Blocks around the Explosion are {@link ExplosionBlockSnapshot copied} first and each thread reads the copy.
+ * The momentum of every ray is still picked on the main thread in the same order as ever, so an Explosion destroys the same Blocks however its rays are shared out.
+ * Each group of rays collects its own results, which are merged keeping the greatest strength with which each Entity was reached.</p>
+ */
+public class ParallelExplosionRayMarcher extends ExplosionRayMarcher {
+
+    /**
+     * The number of rays below which a group of rays is cast on one thread rather than split further.
+     */
+    private static final int RAYS_PER_TASK = 64;
+
+    private static final int RAY_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+    private static ForkJoinPool rayPool;
+
+    protected final ExplosionBlockSnapshot snapshot;
+
+    public ParallelExplosionRayMarcher(SmartExplosion explosion, Level level, ExplosionDamageCalculator damageCalculator, float maxMomentum) {
+        this(explosion, level, new ExplosionBlockSnapshot(level, explosion.getPosition(), getReach(maxMomentum)), damageCalculator, maxMomentum);
+    };
+
+    protected ParallelExplosionRayMarcher(SmartExplosion explosion, Level level, ExplosionBlockSnapshot snapshot, ExplosionDamageCalculator damageCalculator, float maxMomentum) {
+        super(explosion, level, snapshot, damageCalculator, maxMomentum);
+        this.snapshot = snapshot;
+    };
+
+    /**
+     * Whether an Explosion of the given radius in the given Level should cast its rays on several threads.
+     */
+    public static boolean shouldCastInParallel(Level level, float radius) {
+        return level instanceof ServerLevel && RAY_THREADS > 1 && DestroyAllConfigs.SERVER.blocks.parallelExplosionRays.get() && radius >= DestroyAllConfigs.SERVER.blocks.parallelExplosionMinimumRadius.getF();
+    };
+
+    @Override
+    protected ExplosionResult castRays(Vec3[] directions, float[] momenta) {
+        RayResults results = getRayPool().invoke(new RayTask(directions, momenta, 0, directions.length));
+        return new ExplosionResult(results.blocks(), results.entities());
+    };
+
+    @Override
+    protected BlockState getBlockState(BlockPos pos) {
+        return snapshot.getBlockState(pos);
+    };
+
+    @Override
+    protected FluidState getFluidState(BlockPos pos) {
+        return snapshot.getFluidState(pos);
+    };
+
+    private static ForkJoinPool getRayPool() {
+        if (rayPool == null) rayPool = new ForkJoinPool(RAY_THREADS, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Destroy Explosion Rays " + thread.getPoolIndex());
+            thread.setContextClassLoader(ParallelExplosionRayMarcher.class.getClassLoader());
+            return thread;
+        }, null, false);
+        return rayPool;
+    };
+
+    protected static record RayResults(Set<BlockPos> blocks, Map<Entity, Float> entities) {
+
+        /**
+         * Add the results of some other rays to these.
+         */
+        public RayResults merge(RayResults other) {
+            blocks.addAll(other.blocks());
+            other.entities().forEach((entity, strength) -> entities.merge(entity, strength, (existingStrength, newStrength) -> Math.max(existingStrength, newStrength)));
+            return this;
+        };
+    };
+
+    protected class RayTask extends RecursiveTask<RayResults> {
+
+        private final Vec3[] directions;
+        private final float[] momenta;
+        private final int start;
+        private final int end;
+
+        protected RayTask(Vec3[] directions, float[] momenta, int start, int end) {
+            this.directions = directions;
+            this.momenta = momenta;
+            this.start = start;
+            this.end = end;
+        };
+
+        @Override
+        protected RayResults compute() {
+            if (end - start <= RAYS_PER_TASK) {
+                RayResults results = new RayResults(new HashSet<>(), new HashMap<>());
+                for (int ray = start; ray < end; ray++) castRay(directions[ray], momenta[ray], results.blocks(), results.entities());
+                return results;
+            };
+            int middle = (start + end) >>> 1;
+            RayTask firstHalf = new RayTask(directions, momenta, start, middle);
+            firstHalf.fork();
+            RayResults secondHalfResults = new RayTask(directions, momenta, middle, end).compute();
+            return firstHalf.join().merge(secondHalfResults);
+        };
+    };
+};
@@ -2,13 +2,14 @@ package com.petrolpark.destroy.world.explosion;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.Map.Entry;
 
@@ -21,38 +22,37 @@ import com.petrolpark.destroy.world.loot.DestroyLootContextParams;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.network.protocol.game.ClientboundExplodePacket;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ExperienceOrb;
 import net.minecraft.world.entity.LivingEntity;
-import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.ProjectileUtil;
+import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.enchantment.ProtectionEnchantment;
 import net.minecraft.world.level.Explosion;
 import net.minecraft.world.level.ExplosionDamageCalculator;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.gameevent.GameEvent;
-import net.minecraft.world.level.material.FluidState;
 import net.minecraft.world.level.storage.loot.LootParams;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
-import net.minecraft.world.phys.AABB;
-import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.common.extensions.IForgeBlock;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.event.entity.living.LivingDropsEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -62,6 +62,11 @@ import net.minecraftforge.fml.common.Mod.EventBusSubscriber;
 public class SmartExplosion extends Explosion {
 
     private static final Map<ResourceLocation, SmartExplosion.Serializer<?>> SERIALIZERS = new HashMap<>();
+
+    /**
+     * Whether each class of Block {@link SmartExplosion#explodesNormally explodes normally}.
+     */
+    private static final Map<Class<?>, Boolean> NORMALLY_EXPLODING_BLOCK_CLASSES = new ConcurrentHashMap<>();
     
     public static void register(SmartExplosion.Serializer<?> type) {
         SERIALIZERS.put(type.id, type);
@@ -84,9 +89,7 @@ public class SmartExplosion extends Explosion {
         explosion.explode();
         explosion.finalizeExplosion(level.isClientSide());
 
-        if (level instanceof ServerLevel serverLevel) for (ServerPlayer player : serverLevel.getPlayers(player -> player.distanceToSqr(explosion.getPosition()) < 4096d)) {
-            SmartExplosionS2CPacket.send(player, explosion);
-        };
+        if (level instanceof ServerLevel serverLevel) SmartExplosionS2CPacket.send(serverLevel, explosion);
 
         return explosion;
     };
@@ -153,18 +156,22 @@ public class SmartExplosion extends Explosion {
             if (level instanceof ServerLevel level) {
                 state.spawnAfterBreak(level, pos, ItemStack.EMPTY, createExperience);
             };
-            // Actually remove the Block
-            state.onBlockExploded(level, pos, this);
         };
-        // Create all the Item Entities
+        // Actually remove the Blocks
+        removeBlocks();
+        // Create all the Item Entities, merging identical Item Stacks from across the whole Explosion
+        Map<Item, List<Drop>> drops = new HashMap<>();
         for (Entry<BlockPos, List<ItemStack>> entry : stacksToCreate.entrySet()) {
             BlockPos pos = entry.getKey();
             if (level.getBlockState(pos).canDropFromExplosion(level, pos, this)) { // Check the Block State should drop Items
                 for (ItemStack stack : entry.getValue()) {
-                    Block.popResource(level, pos, stack);
+                    addDrop(drops.computeIfAbsent(stack.getItem(), i -> new ArrayList<>()), stack.copy(), pos);
                 };
             };
         };
+        for (List<Drop> itemDrops : drops.values()) {
+            for (Drop drop : itemDrops) Block.popResource(level, drop.pos(), drop.stack());
+        };
 
         if (getIndirectSourceEntity() instanceof Player player) DestroyAdvancementTrigger.DETONATE.award(level, player);
         
@@ -173,83 +180,91 @@ public class SmartExplosion extends Explosion {
     };
 
     /**
-     * Get the list of Blocks Positions this explosion should destroy, and the Entities this Explosion should affect.
-     * Default implementation is mostly copied from the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}.
+     * Remove every Block in {@link net.minecraft.world.level.Explosion#toBlow toBlow}, Chunk Section by Chunk Section.
+     * Blocks which {@link net.minecraftforge.common.extensions.IForgeBlock#onBlockExploded explode} the usual way are removed without telling their neighbours,
+     * and once they are all gone only the neighbours around the edge of the Explosion are told, rather than every Block telling every Block next to it which is also being removed.
+     * Blocks with their own way of exploding are left to it.
      */
-    public ExplosionResult getExplosionResult() {
-        Set<BlockPos> blocks = new HashSet<>();
-        Map<Entity, Float> entities = new HashMap<>();
+    protected void removeBlocks() {
+        List<BlockPos> orderedBlocks = new ArrayList<>(toBlow);
+        orderedBlocks.sort(Comparator.comparingLong(SectionPos::asLong));
+        Set<BlockPos> removedBlocks = new HashSet<>();
+        Map<BlockPos, Block> removedBlockTypes = new HashMap<>();
+        for (BlockPos pos : orderedBlocks) {
+            BlockState state = level.getBlockState(pos);
+            if (state.isAir()) continue;
+            if (explodesNormally(state.getBlock())) {
+                level.setBlock(pos, Blocks.AIR.defaultBlockState(), Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+                state.getBlock().wasExploded(level, pos, this);
+                removedBlocks.add(pos);
+                removedBlockTypes.put(pos, state.getBlock());
+            } else {
+                state.onBlockExploded(level, pos, this);
+            };
+        };
+        // Tell the Blocks around the edge
+        for (BlockPos pos : orderedBlocks) {
+            Block oldBlock = removedBlockTypes.get(pos);
+            if (oldBlock == null) continue;
+            boolean edge = false;
+            for (Direction direction : Direction.values()) {
+                if (!removedBlocks.contains(pos.relative(direction))) {
+                    edge = true;
+                    break;
+                };
+            };
+            if (!edge) continue;
+            level.blockUpdated(pos, oldBlock);
+            level.getBlockState(pos).updateNeighbourShapes(level, pos, Block.UPDATE_ALL);
+        };
+    };
 
-        int resolution = 8;
+    /**
+     * Whether the given Block does nothing special when {@link net.minecraftforge.common.extensions.IForgeBlock#onBlockExploded exploded}, beyond being replaced with air
+     * and {@link net.minecraft.world.level.block.Block#wasExploded told}.
+     */
+    private static boolean explodesNormally(Block block) {
+        return NORMALLY_EXPLODING_BLOCK_CLASSES.computeIfAbsent(block.getClass(), blockClass -> {
+            try {
+                return blockClass.getMethod("onBlockExploded", BlockState.class, Level.class, BlockPos.class, Explosion.class).getDeclaringClass() == IForgeBlock.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            };
+        });
+    };
 
-        float maxMomentum = radius * (1f + irregularity / 2f); // The maximum momentum any Block or Entity could experience from this Explosion
+    /**
+     * An Item Stack which will be dropped at the given position.
+     */
+    private static record Drop(BlockPos pos, ItemStack stack) {};
 
-        // Imagine a cube around the center of the explosion with a (2 * resolution) by (2 * resolution) grid on each face.
-        // For each grid square on each face...
-        for (int i = -resolution; i <= resolution; i++) {
-            for (int j = -resolution; j <= resolution; j++) {
-                for (int k = -resolution; k <= resolution; k++) {
-                    if (i == -resolution || i == resolution || j == -resolution || j == resolution || k == -resolution || k == resolution) {
-                        // ...we determine the direction vector from the center of the Explosion to the center of that square.
-                        Vec3 direction = new Vec3(i, j, k).normalize();
-
-                        // We pick a (slightly randomised) 'momentum' in this direction, based on the radius and smoothness of this Explosion
-                        // Every time the line of this direction vector runs into a Block or Entity, the momentum will decrease slightly.
-                        float momentum = radius * ((1f - irregularity / 2f) + random.nextFloat() * irregularity);
-
-                        // We start at the center of the explosion
-                        Vec3 positionToExplode = new Vec3(x, y, z);
-
-                        while (momentum > 0f) {
-
-                            // If there's an Entity in the way...
-                            EntityHitResult hitResult = ProjectileUtil.getEntityHitResult(level, null, position, positionToExplode, new AABB(position, positionToExplode), entity -> !entity.ignoreExplosion());
-                            if (hitResult != null) {
-                                Entity entity = hitResult.getEntity();
-                                // ...update the Entity to experience the maximum strength it could experience from this Explosion...
-                                entities.merge(hitResult.getEntity(), momentum / maxMomentum, (existingStrength, strength) -> Math.max(existingStrength, strength));
-                                // ...and decrease the momentum of the explosion in this direction
-                                if (entity instanceof LivingEntity livingEntity) {
-                                    momentum -= 0.1f + (0.125f
-                                        * (1d - ProtectionEnchantment.getExplosionKnockbackAfterDampener(livingEntity, momentum)) // Increase the momentum loss if the Entity has Blast Resistance
-                                        * (livingEntity.getAttributeValue(Attributes.KNOCKBACK_RESISTANCE))); // Increase the momentum loss if the Entity has knockback resistance
-                                } else {
-                                    momentum -= 0.1f;
-                                };
-                            };
-
-                            BlockPos blockPosToExplode = BlockPos.containing(positionToExplode);
-                            BlockState blockState = level.getBlockState(blockPosToExplode);
-                            FluidState fluidState = level.getFluidState(blockPosToExplode);
-
-                            // Don't continue if we've moved outside the world
-                            if (!level.isInWorldBounds(blockPosToExplode)) {
-                                break;
-                            };
-
-                            // Determine the decrease in momentum due to the Block or Fluid State
-                            Optional<Float> optional = damageCalculator.getBlockExplosionResistance(this, level, blockPosToExplode, blockState, fluidState);
-                            if (optional.isPresent()) { // If it's not just air...
-                                momentum -= (optional.get() + 0.3f) * 0.3f; //... decrease the momentum in this direction
-                            };
-
-                            // Determine whether the Block should be removed
-                            if (momentum > 0.0f && damageCalculator.shouldBlockExplode(this, level, blockPosToExplode, blockState, momentum)) {
-                                blocks.add(blockPosToExplode); // If so, add it to the list of Blocks to remove
-                            };
-
-                            // Move along the line of the direction vector
-                            positionToExplode = positionToExplode.add(direction.scale(0.3f));
-
-                            // Decrease the momentum due to the extra distance moved
-                            momentum -= 0.225f;
-                        };
-                    };
-                };
-            };
+    /**
+     * Add an Item Stack to the Item Stacks of the same Item which will be dropped, topping up existing ones where possible as vanilla Explosions do.
+     * @param drops The Item Stacks of the same Item which will be dropped
+     * @param stack This may be modified
+     * @param pos Where to drop this Item Stack if it can't be merged into another
+     */
+    private static void addDrop(List<Drop> drops, ItemStack stack, BlockPos pos) {
+        for (Drop drop : drops) {
+            if (!ItemEntity.areMergable(drop.stack(), stack)) continue;
+            int count = Math.min(stack.getCount(), drop.stack().getMaxStackSize() - drop.stack().getCount());
+            drop.stack().grow(count);
+            stack.shrink(count);
+            if (stack.isEmpty()) return;
         };
+        drops.add(new Drop(pos, stack));
+    };
 
-        return new ExplosionResult(blocks, entities);
+    /**
+     * Get the list of Blocks Positions this explosion should destroy, and the Entities this Explosion should affect.
+     * Default implementation works like the Minecraft {@link net.minecraft.world.level.Explosion#explode source code}, {@link ExplosionRayMarcher casting rays} out from the center.
+     */
+    public ExplosionResult getExplosionResult() {
+        float maxMomentum = radius * (1f + irregularity / 2f); // The maximum momentum any Block or Entity could experience from this Explosion
+        ExplosionRayMarcher rayMarcher = ParallelExplosionRayMarcher.shouldCastInParallel(level, radius)
+            ? new ParallelExplosionRayMarcher(this, level, damageCalculator, maxMomentum)
+            : new ExplosionRayMarcher(this, level, damageCalculator, maxMomentum);
+        return rayMarcher.castRays(8, irregularity, radius, random);
     };
 
     /**
@@ -371,7 +386,11 @@ public class SmartExplosion extends Explosion {
     };
 
     public void write(FriendlyByteBuf buffer) {
-        new ClientboundExplodePacket(getPosition().x(), getPosition().y(), getPosition().z(), getRadius(), getToBlow(), null).write(buffer);
+        buffer.writeDouble(getPosition().x());
+        buffer.writeDouble(getPosition().y());
+        buffer.writeDouble(getPosition().z());
+        buffer.writeFloat(getRadius());
+        ExplodedBlocks.write(buffer, BlockPos.containing(getPosition()), getToBlow());
         buffer.writeFloat(irregularity);
     };
 
@@ -386,10 +405,12 @@ public class SmartExplosion extends Explosion {
         @OnlyIn(Dist.CLIENT)
         public SmartExplosion read(FriendlyByteBuf buffer) {
             Minecraft mc = Minecraft.getInstance();
-            ClientboundExplodePacket packet = new ClientboundExplodePacket(buffer);
+            Vec3 position = new Vec3(buffer.readDouble(), buffer.readDouble(), buffer.readDouble());
+            float radius = buffer.readFloat();
+            List<BlockPos> toBlow = ExplodedBlocks.read(buffer, BlockPos.containing(position));
             float smoothness = buffer.readFloat();
-            SmartExplosion explosion = new SmartExplosion(mc.level, null, null, null, new Vec3(packet.getX(), packet.getY(), packet.getZ()), packet.getPower(), smoothness);
-            explosion.toBlow.addAll(packet.getToBlow());
+            SmartExplosion explosion = new SmartExplosion(mc.level, null, null, null, position, radius, smoothness);
+            explosion.toBlow.addAll(toBlow);
             return explosion;
         };
 